@@ -2,9 +2,19 @@ package com.restaurant.orderservice.application.port.out;
 
 import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
 
+import java.util.List;
+
 /**
  * Application output port for publishing order placed events.
  */
 public interface OrderPlacedEventPublisherPort {
     void publish(OrderPlacedDomainEvent event);
+
+    /**
+     * Publishes several events as one batch. Adapters override this when they can do
+     * better than one publish per event.
+     */
+    default void publishAll(List<OrderPlacedDomainEvent> events) {
+        events.forEach(this::publish);
+    }
 }
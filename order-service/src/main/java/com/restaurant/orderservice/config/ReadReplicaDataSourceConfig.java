@@ -0,0 +1,87 @@
+package com.restaurant.orderservice.config;
+
+import com.restaurant.orderservice.infrastructure.persistence.ReadReplicaRoutingDataSource;
+import com.restaurant.orderservice.infrastructure.persistence.ReplicaLagMonitor;
+import com.restaurant.orderservice.infrastructure.persistence.ReplicaReadAspect;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Read/write split between the primary database and a read replica
+ * (order.datasource.replica.enabled=true).
+ *
+ * The primary pool is built from spring.datasource as usual and serves every write and
+ * plain read. The replica pool serves the {@link com.restaurant.orderservice.infrastructure.persistence.ReplicaRead}
+ * transactions while {@link ReplicaLagMonitor} reports it usable, so polling reads stop
+ * taking primary connections from the order writes. Flyway, the health check and every
+ * other user of the DataSource keep going to the primary.
+ *
+ * The replica pool is not a DataSource bean: a replica outage must not turn the service
+ * health DOWN, since reads fall back to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("order-primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${order.datasource.replica.url}") String url,
+            @Value("${order.datasource.replica.username}") String username,
+            @Value("${order.datasource.replica.password}") String password,
+            @Value("${order.datasource.replica.max-pool-size:10}") int maxPoolSize,
+            @Value("${order.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${order.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${order.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("order-replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setMaximumPoolSize(maxPoolSize);
+        replica.setConnectionTimeout(connectionTimeoutMs);
+        replica.setReadOnly(true);
+        // Start even if the replica is down; reads use the primary until it answers
+        replica.setInitializationFailTimeout(-1);
+        replica.setMetricRegistry(meterRegistry);
+        return new ReplicaLagMonitor(replica, maxLagMs, checkIntervalMs, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor.getDataSource(),
+                        replicaLagMonitor));
+        // Known defaults, so the proxy never opens a connection just to read them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+}
@@ -1,5 +1,6 @@
 package com.restaurant.orderservice.config;
 
+import com.restaurant.orderservice.infrastructure.diagnostics.JdbcStatementsInterceptor;
 import com.restaurant.orderservice.security.KitchenSecurityInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
@@ -14,11 +15,19 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    /**
+     * Response headers the frontend needs to read on cross-origin calls.
+     */
+    private static final String[] EXPOSED_HEADERS = {"Idempotent-Replayed", "X-Next-Cursor", "Link", "ETag"};
+
     private final KitchenSecurityInterceptor kitchenSecurityInterceptor;
+    private final JdbcStatementsInterceptor jdbcStatementsInterceptor;
 
     @Autowired
-    public WebConfig(KitchenSecurityInterceptor kitchenSecurityInterceptor) {
+    public WebConfig(KitchenSecurityInterceptor kitchenSecurityInterceptor,
+                     JdbcStatementsInterceptor jdbcStatementsInterceptor) {
         this.kitchenSecurityInterceptor = kitchenSecurityInterceptor;
+        this.jdbcStatementsInterceptor = jdbcStatementsInterceptor;
     }
 
     @Override
@@ -33,7 +42,8 @@ public class WebConfig implements WebMvcConfigurer {
             registry.addMapping("/**")
                     .allowedOriginPatterns(allowedPatterns)
                     .allowedMethods("GET", "POST", "PATCH", "PUT", "DELETE", "OPTIONS")
-                    .allowedHeaders("*");
+                    .allowedHeaders("*")
+                    .exposedHeaders(EXPOSED_HEADERS);
             return;
         }
 
@@ -51,11 +61,13 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
                 .allowedOrigins(allowedOrigins)
                 .allowedMethods("GET", "POST", "PATCH", "PUT", "DELETE", "OPTIONS")
-                .allowedHeaders("*");
+                .allowedHeaders("*")
+                .exposedHeaders(EXPOSED_HEADERS);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(jdbcStatementsInterceptor).addPathPatterns("/**");
         registry.addInterceptor(kitchenSecurityInterceptor).addPathPatterns("/**");
     }
 }
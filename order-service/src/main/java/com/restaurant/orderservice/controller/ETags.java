@@ -0,0 +1,56 @@
+package com.restaurant.orderservice.controller;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Strong ETags for resources versioned by an in-memory counter, and If-None-Match matching.
+ *
+ * Version counters restart at zero with the process, so every tag also carries the start
+ * time of this JVM: a tag issued by a previous run, or by another instance behind the
+ * same load balancer, never matches.
+ */
+final class ETags {
+
+    /**
+     * Identifies this JVM run; also prefixes the ids of GET /orders/stream events.
+     */
+    static final String INSTANCE = Long.toString(ManagementFactory.getRuntimeMXBean().getStartTime(), 36);
+
+    private ETags() {
+    }
+
+    /**
+     * @param resource Name of the versioned resource
+     * @param version Current version of the resource
+     * @return Quoted strong ETag
+     */
+    static String of(String resource, long version) {
+        return "\"" + resource + "-" + INSTANCE + "-" + version + "\"";
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match (RFC 9110, section 13.1.2).
+     *
+     * @param ifNoneMatch Value of the If-None-Match request header, may be null
+     * @param etag Current quoted ETag
+     * @return true if the client already holds the current representation
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,6 +2,7 @@ package com.restaurant.orderservice.controller;
 
 import com.restaurant.orderservice.dto.ErrorResponse;
 import com.restaurant.orderservice.dto.ProductResponse;
+import com.restaurant.orderservice.service.MenuDocument;
 import com.restaurant.orderservice.service.MenuService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -12,15 +13,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 /**
  * REST Controller for menu operations.
+ *
+ * GET /menu writes the pre-serialized {@link MenuDocument} of the current catalog as is,
+ * gzip-compressed when the client accepts it.
  */
 @RestController
 @RequestMapping("/menu")
@@ -37,7 +44,9 @@ public class MenuController {
     @GetMapping
     @Operation(
             summary = "Get active menu products",
-            description = "Retrieves all active products available for ordering."
+            description = "Retrieves all active products available for ordering. "
+                    + "Responses carry a strong ETag; a matching If-None-Match gets 304 Not Modified. "
+                    + "The body is gzip-compressed when Accept-Encoding allows it."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -73,6 +82,10 @@ public class MenuController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not Modified - the menu has not changed since the ETag in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "503",
                     description = "Service unavailable - Database is not accessible",
@@ -93,8 +106,57 @@ public class MenuController {
                     )
             )
     })
-    public ResponseEntity<List<ProductResponse>> getMenu() {
-        List<ProductResponse> activeProducts = menuService.getActiveProducts();
-        return ResponseEntity.ok(activeProducts);
+    public ResponseEntity<byte[]> getMenu(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MenuDocument menu = menuService.getMenuDocument();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? menu.getGzipETag() : menu.getETag();
+
+        if (ETags.matches(ifNoneMatch, menu.getETag()) || ETags.matches(ifNoneMatch, menu.getGzipETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(menu.getGzip());
+        }
+        return response.body(menu.getJson());
+    }
+
+    /**
+     * @param acceptEncoding Value of the Accept-Encoding request header, may be null
+     * @return true if gzip (or *) is listed without q=0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.matches("[qQ]=0(\\.0{0,3})?")) {
+                    refused = true;
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -1,11 +1,24 @@
 package com.restaurant.orderservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.restaurant.orderservice.dto.BatchCreateOrderResponse;
 import com.restaurant.orderservice.dto.CreateOrderRequest;
 import com.restaurant.orderservice.dto.ErrorResponse;
+import com.restaurant.orderservice.dto.OrderChangesResponse;
+import com.restaurant.orderservice.dto.OrderDeleteJobResponse;
+import com.restaurant.orderservice.dto.OrderPage;
 import com.restaurant.orderservice.dto.OrderResponse;
 import com.restaurant.orderservice.dto.UpdateStatusRequest;
 import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.InvalidOrderException;
+import com.restaurant.orderservice.service.IdempotencyService;
+import com.restaurant.orderservice.service.OrderChangeLog;
+import com.restaurant.orderservice.service.OrderChangeTracker;
+import com.restaurant.orderservice.service.OrderDeleteJobs;
 import com.restaurant.orderservice.service.OrderService;
+import com.restaurant.orderservice.service.OrderWriteCoalescer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -16,13 +29,29 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for order operations.
@@ -37,16 +66,60 @@ import java.util.UUID;
 @Tag(name = "Orders", description = "Order management endpoints for creating, retrieving, filtering, and updating orders")
 public class OrderController {
     
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    static final String DELETED_COUNT_HEADER = "X-Deleted-Count";
+    
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final OrderWriteCoalescer orderWriteCoalescer;
+    private final OrderChangeTracker orderChangeTracker;
+    private final OrderEventStream orderEventStream;
+    private final OrderStatusWaiters orderStatusWaiters;
+    private final OrderChangeLog orderChangeLog;
+    private final ObjectMapper objectMapper;
+    private final OrderDeleteJobs orderDeleteJobs;
+    
+    @Value("${order.await.default-timeout-ms:30000}")
+    private long defaultAwaitTimeoutMs;
+    
+    @Value("${order.await.max-timeout-ms:60000}")
+    private long maxAwaitTimeoutMs;
     
     /**
      * Constructor for OrderController.
      * 
      * @param orderService Service for order operations
+     * @param idempotencyService Store of Idempotency-Key responses for POST /orders
+     * @param orderWriteCoalescer Group-commit coalescer, available when order.write-coalescer.enabled=true
+     * @param orderChangeTracker Version of the order data, source of the GET ETags
+     * @param orderEventStream Server-Sent Events fan-out behind GET /orders/stream
+     * @param orderStatusWaiters Registry of GET /orders/{id}/await long-polls
+     * @param orderChangeLog Versioned change log behind GET /orders/changes
+     * @param objectMapper Mapper of the JSON responses, also used for NDJSON lines
+     * @param orderDeleteJobs Background jobs of DELETE /orders on large boards
      */
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService,
+                           IdempotencyService idempotencyService,
+                           ObjectProvider<OrderWriteCoalescer> orderWriteCoalescer,
+                           OrderChangeTracker orderChangeTracker,
+                           OrderEventStream orderEventStream,
+                           OrderStatusWaiters orderStatusWaiters,
+                           OrderChangeLog orderChangeLog,
+                           ObjectMapper objectMapper,
+                           OrderDeleteJobs orderDeleteJobs) {
         this.orderService = orderService;
+        this.idempotencyService = idempotencyService;
+        this.orderWriteCoalescer = orderWriteCoalescer.getIfAvailable();
+        this.orderChangeTracker = orderChangeTracker;
+        this.orderEventStream = orderEventStream;
+        this.orderStatusWaiters = orderStatusWaiters;
+        this.orderChangeLog = orderChangeLog;
+        this.objectMapper = objectMapper;
+        this.orderDeleteJobs = orderDeleteJobs;
     }
     
     /**
@@ -56,7 +129,14 @@ public class OrderController {
      * Validates that all products exist and are active before creating the order.
      * Publishes an order.placed event to RabbitMQ after successful creation.
      * 
+     * With an Idempotency-Key header, a retry of the same request returns the original
+     * order (with Idempotent-Replayed: true) instead of creating a duplicate; reusing a
+     * key with a different body is rejected with 422.
+     * 
+     * Requests without a key go through the group-commit coalescer when it is enabled.
+     * 
      * @param request CreateOrderRequest containing tableId and list of items
+     * @param idempotencyKey Optional Idempotency-Key header value
      * @return ResponseEntity with 201 Created status and OrderResponse
      * 
      * Validates Requirements:
@@ -203,18 +283,162 @@ public class OrderController {
                     )
             )
     )
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        OrderResponse orderResponse = orderService.createOrder(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(orderResponse);
+    public ResponseEntity<OrderResponse> createOrder(
+            @Valid @RequestBody CreateOrderRequest request,
+            @Parameter(description = "Client generated key that makes retries of this request safe. " +
+                    "A retry with the same key and body returns the original order.")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            OrderResponse orderResponse = orderWriteCoalescer != null
+                    ? orderWriteCoalescer.createOrder(request)
+                    : orderService.createOrder(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(orderResponse);
+        }
+        
+        Optional<OrderResponse> replay = idempotencyService.findReplay(idempotencyKey, request);
+        if (replay.isPresent()) {
+            return replayed(replay.get());
+        }
+        
+        try {
+            OrderResponse orderResponse = orderService.createOrder(request, idempotencyKey);
+            return ResponseEntity.status(HttpStatus.CREATED).body(orderResponse);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent request with the same key committed first; its order wins.
+            return idempotencyService.findReplay(idempotencyKey, request)
+                    .map(this::replayed)
+                    .orElseThrow(() -> ex);
+        }
+    }
+    
+    private ResponseEntity<OrderResponse> replayed(OrderResponse orderResponse) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                .body(orderResponse);
+    }
+    
+    /**
+     * POST /orders/batch endpoint to create several orders at once.
+     * 
+     * Intended for banquet service, where a tablet submits many orders back to back.
+     * Each order is validated independently; invalid ones are reported as rejected while
+     * the rest are created in a single transaction and published as one event batch.
+     * 
+     * @param requests List of CreateOrderRequest, one per order
+     * @return 201 Created when every order was created, 207 Multi-Status otherwise,
+     *         with one result per requested order
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Create several orders at once",
+            description = "Creates a batch of orders in one transaction. Orders that fail validation are " +
+                    "rejected individually without affecting the rest. Returns one result per order, in request order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "All orders created",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchCreateOrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "207",
+                    description = "Some orders were rejected; see each result",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchCreateOrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad Request - Empty batch or more orders than allowed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<BatchCreateOrderResponse> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        BatchCreateOrderResponse response = orderService.createOrders(requests);
+        HttpStatus status = response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    /**
+     * GET /orders/stream endpoint pushing order changes as Server-Sent Events.
+     * 
+     * Sends a snapshot of the active orders, then one event per created order, status
+     * change and deletion. A client reconnecting with Last-Event-ID receives only the
+     * events it missed when they are still buffered, and a new snapshot otherwise.
+     * 
+     * @param lastEventId Optional id of the last event received before reconnecting
+     * @return SseEmitter bound to this client
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream order changes",
+            description = "Server-Sent Events stream for the kitchen board. The first event (\"snapshot\") holds every " +
+                    "active order; then \"order-created\" and \"order-status-changed\" carry the order and " +
+                    "\"order-deleted\" carries its id. Reconnect with Last-Event-ID to resume."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Service Unavailable - too many open streams",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public SseEmitter streamOrders(
+            @Parameter(description = "Id of the last event received, sent automatically by EventSource on reconnect")
+            @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return orderEventStream.subscribe(lastEventId);
+    }
+    
+    /**
+     * GET /orders/changes endpoint returning only what changed after a version.
+     * 
+     * A client holding the board locally applies the returned orders and deleted ids and
+     * asks again with the returned version, so each poll costs in proportion to the
+     * number of changes rather than the number of orders. When the changes after since
+     * are no longer available the response only asks for a resync: reload GET /orders
+     * and continue from the returned version.
+     * 
+     * @param since Version returned by the previous call; 0 to get the current version
+     * @return ResponseEntity with 200 OK status and the changes
+     */
+    @GetMapping("/changes")
+    @Operation(
+            summary = "Get order changes since a version",
+            description = "Returns the current state of the orders created or updated after the given version, the " +
+                    "ids of the orders deleted since, and the version to ask for next. resyncRequired=true means " +
+                    "the changes are no longer available and GET /orders must be reloaded."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = OrderChangesResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<OrderChangesResponse> getOrderChanges(
+            @Parameter(description = "Version returned by the previous call, 0 on the first one", required = true)
+            @RequestParam long since) {
+        return ResponseEntity.ok(orderChangeLog.getChangesSince(since));
     }
     
     /**
      * GET /orders/{id} endpoint to retrieve an order by its ID.
      * 
      * Returns complete order details including all items, status, and timestamps.
+     * The response carries an ETag derived from the order change version; a request whose
+     * If-None-Match still matches it gets 304 Not Modified without touching the database.
      * 
      * @param id UUID of the order to retrieve
-     * @return ResponseEntity with 200 OK status and OrderResponse
+     * @param ifNoneMatch Optional ETag of the representation the client already holds
+     * @return ResponseEntity with 200 OK status and OrderResponse, or 304 Not Modified
      * 
      * Validates Requirements:
      * - 4.1: Order Service exposes GET /orders/{id} endpoint
@@ -222,7 +446,8 @@ public class OrderController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Get order by ID",
-            description = "Retrieves complete order details including all items, status, and timestamps."
+            description = "Retrieves complete order details including all items, status, and timestamps. " +
+                    "Responses carry a strong ETag; a matching If-None-Match gets 304 Not Modified."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -253,6 +478,10 @@ public class OrderController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not Modified - no order has changed since the ETag in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad Request - Invalid UUID format",
@@ -294,9 +523,86 @@ public class OrderController {
     })
     public ResponseEntity<OrderResponse> getOrderById(
             @Parameter(description = "UUID of the order to retrieve", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable("id") UUID id) {
+            @PathVariable("id") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Capture the version before reading, so the tag can only be older than the data
+        String etag = ordersETag();
+        if (orderChangeTracker.seesAllChanges() && ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         OrderResponse orderResponse = orderService.getOrderById(id);
-        return ResponseEntity.ok(orderResponse);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(orderResponse);
+    }
+    
+    /**
+     * GET /orders/{id}/await endpoint: long-poll until an order reaches a status.
+     * 
+     * Answers at once if the order already reached the status (or a later one). Otherwise
+     * the request is suspended, without holding a thread, until updateOrderStatus moves the
+     * order or the timeout expires; on timeout the unchanged order is returned and the
+     * client simply asks again. Without status, the next status change completes it.
+     * 
+     * @param id UUID of the order to watch
+     * @param status Optional status to wait for
+     * @param timeout Optional maximum wait, e.g. 30s or 30000 (ms); capped at order.await.max-timeout-ms
+     * @return Deferred 200 OK with the order, or 404 if the order is deleted meanwhile
+     */
+    @GetMapping("/{id}/await")
+    @Operation(
+            summary = "Wait for an order status",
+            description = "Long-poll: returns as soon as the order reaches the given status (immediately if it " +
+                    "already has), or after the timeout with the current order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Order reached the status, changed, or the wait timed out",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = OrderResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad Request - Invalid status or timeout",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Not Found - Order does not exist or was deleted",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public DeferredResult<ResponseEntity<OrderResponse>> awaitOrderStatus(
+            @Parameter(description = "UUID of the order to watch", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable("id") UUID id,
+            @Parameter(description = "Status to wait for; without it, any status change completes the wait", example = "READY")
+            @RequestParam(name = "status", required = false) OrderStatus status,
+            @Parameter(description = "Maximum wait (default 30s, capped at 60s)", example = "30s")
+            @RequestParam(name = "timeout", required = false) String timeout) {
+        return orderStatusWaiters.await(id, status, resolveAwaitTimeout(timeout), () -> orderService.getOrderById(id));
+    }
+    
+    private long resolveAwaitTimeout(String timeout) {
+        if (timeout == null || timeout.isBlank()) {
+            return defaultAwaitTimeoutMs;
+        }
+        Duration duration;
+        try {
+            duration = DurationStyle.detectAndParse(timeout.trim());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidOrderException("Invalid timeout: " + timeout);
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new InvalidOrderException("Timeout must be positive");
+        }
+        return Math.min(duration.toMillis(), maxAwaitTimeoutMs);
     }
     
     /**
@@ -305,8 +611,15 @@ public class OrderController {
      * If status parameter is provided, returns only orders with that status.
      * If status parameter is omitted, returns all orders.
      * 
+     * Results are keyset-paginated by (createdAt, id): the body holds at most limit orders
+     * and, when more follow, the next page is advertised in the X-Next-Cursor header and
+     * as a rel="next" Link.
+     * 
      * @param status Optional OrderStatus to filter by (can be null)
-     * @return ResponseEntity with 200 OK status and list of OrderResponse
+     * @param limit Optional page size
+     * @param cursor Optional cursor returned with the previous page
+     * @param ifNoneMatch Optional ETag of the representation the client already holds
+     * @return ResponseEntity with 200 OK status and list of OrderResponse, or 304 Not Modified
      * 
      * Validates Requirements:
      * - 5.1: Order Service exposes GET /orders with optional status parameter
@@ -315,7 +628,10 @@ public class OrderController {
     @Operation(
             summary = "Get all orders or filter by status",
             description = "Retrieves all orders or filters by status (PENDING, IN_PREPARATION, READY). " +
-                    "If status parameter is omitted, returns all orders."
+                    "If status parameter is omitted, returns all orders. " +
+                    "Results are paginated oldest first; follow the X-Next-Cursor header (or the " +
+                    "rel=\"next\" Link) until it is absent to read every page. " +
+                    "Responses carry a strong ETag; a matching If-None-Match gets 304 Not Modified."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -363,6 +679,10 @@ public class OrderController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not Modified - no order has changed since the ETag in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad Request - Invalid status value",
@@ -384,12 +704,100 @@ public class OrderController {
             )
     })
     public ResponseEntity<List<OrderResponse>> getOrders(
+            @Parameter(description = "Optional status filter (comma-separated). Example: PENDING,IN_PREPARATION,READY",
+                    required = false,
+                    example = "PENDING,IN_PREPARATION,READY")
+            @RequestParam(name = "status", required = false) List<OrderStatus> status,
+            @Parameter(description = "Maximum number of orders per page (default 50, capped at 200)", example = "50")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ordersETag();
+        if (orderChangeTracker.seesAllChanges() && ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        OrderPage page = orderService.getOrdersPage(status, cursor, limit);
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache());
+        if (page.getNextCursor() != null) {
+            UriComponentsBuilder next = UriComponentsBuilder.fromPath("/orders")
+                    .queryParam("cursor", page.getNextCursor());
+            if (status != null && !status.isEmpty()) {
+                next.queryParam("status", status.stream().map(Enum::name).collect(Collectors.joining(",")));
+            }
+            if (limit != null) {
+                next.queryParam("limit", limit);
+            }
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next.build().toUriString() + ">; rel=\"next\"");
+        }
+        return response.body(page.getOrders());
+    }
+    
+    /**
+     * GET /orders?format=ndjson endpoint streaming every matching order as NDJSON.
+     * 
+     * For exports and other unpaginated reads: one JSON order per line, written as soon
+     * as it is read from the database cursor, so memory use stays flat whatever the
+     * number of orders.
+     * 
+     * @param status Optional OrderStatus to filter by (can be null)
+     * @return ResponseEntity with 200 OK status and a body written while the orders are read
+     */
+    @GetMapping(params = "format=ndjson")
+    @Operation(
+            summary = "Stream all orders as NDJSON",
+            description = "With format=ndjson, writes every active order (optionally filtered by status) as one JSON " +
+                    "object per line (application/x-ndjson), oldest first, without pagination."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders streamed",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = OrderResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> streamOrderList(
             @Parameter(description = "Optional status filter (comma-separated). Example: PENDING,IN_PREPARATION,READY",
                     required = false,
                     example = "PENDING,IN_PREPARATION,READY")
             @RequestParam(name = "status", required = false) List<OrderStatus> status) {
-        List<OrderResponse> orders = orderService.getOrders(status);
-        return ResponseEntity.ok(orders);
+        ObjectWriter writer = objectMapper.writerFor(OrderResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        
+        StreamingResponseBody body = out -> {
+            try {
+                orderService.streamOrders(status, order -> {
+                    try {
+                        writer.writeValue(out, order);
+                        out.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+    
+    private String ordersETag() {
+        return ETags.of("orders", orderChangeTracker.currentVersion());
+    }
+    
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
     }
     
     /**
@@ -531,17 +939,73 @@ public class OrderController {
 
     /**
      * DELETE /orders endpoint to delete all orders.
+     * 
+     * Orders are soft-deleted in chunks, each in its own short transaction. On a board
+     * with more than order.bulk-delete.async-threshold active orders the deletion runs as
+     * a background job: the response is 202 Accepted with the job, to be polled at its
+     * Location. Otherwise it is 204 No Content with the number of deleted orders in the
+     * X-Deleted-Count header.
+     * 
+     * @return ResponseEntity with 204 No Content, or 202 Accepted and the background job
      */
     @DeleteMapping
     @Operation(
             summary = "Delete all orders",
-            description = "Deletes all orders. Useful to reset the kitchen board and table availability."
+            description = "Deletes all orders. Useful to reset the kitchen board and table availability. Large " +
+                    "boards are deleted in the background: poll the returned job at its Location."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "All orders deleted successfully; see X-Deleted-Count"),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Deletion started in the background",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = OrderDeleteJobResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<OrderDeleteJobResponse> deleteAllOrders() {
+        Optional<OrderDeleteJobResponse> job = orderDeleteJobs.startIfLarge();
+        if (job.isPresent()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(UriComponentsBuilder.fromPath("/orders/delete-jobs/{id}")
+                            .buildAndExpand(job.get().getId()).toUri())
+                    .body(job.get());
+        }
+        long deletedCount = orderService.deleteAllOrders();
+        return ResponseEntity.noContent()
+                .header(DELETED_COUNT_HEADER, String.valueOf(deletedCount))
+                .build();
+    }
+    
+    /**
+     * GET /orders/delete-jobs/{id} endpoint to follow a background DELETE /orders.
+     * 
+     * @param id Job id returned by DELETE /orders
+     * @return ResponseEntity with 200 OK and the job, or 404 if it is unknown
+     */
+    @GetMapping("/delete-jobs/{id}")
+    @Operation(
+            summary = "Get a delete-all job",
+            description = "Returns the state and the number of deleted orders of a background DELETE /orders."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "All orders deleted successfully")
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = OrderDeleteJobResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Not Found - Unknown job, or finished too long ago")
     })
-    public ResponseEntity<Void> deleteAllOrders() {
-        orderService.deleteAllOrders();
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<OrderDeleteJobResponse> getDeleteJob(
+            @Parameter(description = "Id of the job returned by DELETE /orders", required = true)
+            @PathVariable("id") UUID id) {
+        return orderDeleteJobs.find(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 }
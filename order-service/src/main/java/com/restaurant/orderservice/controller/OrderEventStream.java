@@ -0,0 +1,371 @@
+package com.restaurant.orderservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.exception.ConnectionLimitExceededException;
+import com.restaurant.orderservice.service.OrderChangeTracker;
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import com.restaurant.orderservice.service.OrderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events fan-out behind GET /orders/stream.
+ *
+ * A client first receives a "snapshot" event with every active order, then one event per
+ * committed change: "order-created", "order-status-changed" (both carrying the order) and
+ * "order-deleted" (carrying its id). Events are idempotent upserts/removals, so applying
+ * a change already contained in the snapshot is harmless.
+ *
+ * Connections are async {@link SseEmitter}s, so no request thread is held while a client
+ * waits. Each change is queued per client as is; a small shared pool writes the queues out,
+ * serializing each event once on its first write, so the committing thread never pays for
+ * JSON and a slow tablet only delays itself. A client whose queue fills up is
+ * disconnected (order.stream.dropped.clients) and reconnects through Last-Event-ID.
+ * Idle clients get a heartbeat comment every heartbeat-ms so proxies keep them open.
+ *
+ * Event ids are "instance-version", with versions from {@link OrderChangeTracker}. The
+ * last replay-size events are kept: a Last-Event-ID still covered by them resumes with
+ * the missed events only; any other id gets a fresh snapshot. Replay is refused while
+ * other instances may write orders ({@link OrderChangeTracker#seesAllChanges()}).
+ *
+ * A RESYNC change is sent to every client as a new "snapshot" event, read from the
+ * database by the sender pool once for all of them; a client whose snapshot cannot be
+ * read is disconnected and reconnects.
+ */
+@Component
+@Slf4j
+public class OrderEventStream {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String CREATED_EVENT = "order-created";
+    static final String STATUS_CHANGED_EVENT = "order-status-changed";
+    static final String DELETED_EVENT = "order-deleted";
+
+    private final OrderService orderService;
+    private final OrderChangeTracker orderChangeTracker;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxClients;
+    private final int clientBufferSize;
+    private final int replaySize;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter droppedClients;
+    private final StreamEvent heartbeatEvent = new StreamEvent(SseEmitter.event().comment("heartbeat").build());
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<StreamEvent> replay = new ArrayDeque<>();
+    private long lastVersion;
+
+    @Autowired
+    public OrderEventStream(OrderService orderService,
+                            OrderChangeTracker orderChangeTracker,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.stream.timeout-ms:1800000}") long timeoutMs,
+                            @Value("${order.stream.max-clients:500}") int maxClients,
+                            @Value("${order.stream.client-buffer-size:256}") int clientBufferSize,
+                            @Value("${order.stream.replay-size:1000}") int replaySize,
+                            @Value("${order.stream.sender-threads:2}") int senderThreads,
+                            @Value("${order.stream.heartbeat-ms:15000}") long heartbeatMs) {
+        this(orderService, orderChangeTracker, objectMapper, meterRegistry,
+                timeoutMs, maxClients, clientBufferSize, replaySize, senderThreads);
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    OrderEventStream(OrderService orderService, OrderChangeTracker orderChangeTracker, ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry, long timeoutMs, int maxClients, int clientBufferSize,
+                     int replaySize, int senderThreads) {
+        this.orderService = orderService;
+        this.orderChangeTracker = orderChangeTracker;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxClients = maxClients;
+        this.clientBufferSize = clientBufferSize;
+        this.replaySize = replaySize;
+        this.lastVersion = orderChangeTracker.currentVersion();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("order.stream.clients", subscribers, Set::size)
+                .description("Open GET /orders/stream connections")
+                .register(meterRegistry);
+        this.droppedClients = Counter.builder("order.stream.dropped.clients")
+                .description("Stream clients disconnected because they could not keep up")
+                .register(meterRegistry);
+
+        orderChangeTracker.addListener(this::onOrderChange);
+    }
+
+    /**
+     * Opens a stream for a new client.
+     *
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     * @return Emitter to return from the handler method
+     * @throws ConnectionLimitExceededException if max-clients connections are already open
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxClients) {
+            throw new ConnectionLimitExceededException("Too many order stream clients, try again later");
+        }
+
+        Subscriber subscriber = new Subscriber(createEmitter(timeoutMs), clientBufferSize);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(ex -> subscribers.remove(subscriber));
+
+        Long resumeFrom = parseEventId(lastEventId);
+        long snapshotVersion;
+        synchronized (this) {
+            subscribers.add(subscriber);
+            if (resumeFrom != null && canReplayFrom(resumeFrom)) {
+                replay.stream()
+                        .filter(event -> event.version > resumeFrom)
+                        .forEach(subscriber.queue::offer);
+                subscriber.ready = true;
+                subscriber.schedule();
+                return subscriber.emitter;
+            }
+            snapshotVersion = lastVersion;
+        }
+
+        // Changes committed from here on are queued behind the snapshot; the snapshot
+        // may already contain some of them, which clients apply idempotently.
+        List<OrderResponse> orders = orderService.getOrders(null);
+        try {
+            subscriber.emitter.send(toPayload(snapshotVersion, SNAPSHOT_EVENT, orders));
+        } catch (IOException ex) {
+            subscribers.remove(subscriber);
+            return subscriber.emitter;
+        }
+        subscriber.ready = true;
+        subscriber.schedule();
+        return subscriber.emitter;
+    }
+
+    /**
+     * Receives every committed change, in version order, on the committing thread.
+     * Only queues the change; it is serialized later by the sender pool.
+     */
+    void onOrderChange(long version, OrderChangedEvent change) {
+        StreamEvent event = switch (change.getType()) {
+            case CREATED -> new StreamEvent(version, CREATED_EVENT, change.getOrder());
+            case STATUS_CHANGED -> new StreamEvent(version, STATUS_CHANGED_EVENT, change.getOrder());
+            case DELETED -> new StreamEvent(version, DELETED_EVENT, Map.of("id", change.getOrderId()));
+            // The orders are read when the event is first sent, off the committing thread
+            case RESYNC -> new StreamEvent(version, SNAPSHOT_EVENT, null);
+        };
+
+        synchronized (this) {
+            lastVersion = version;
+            if (change.getType() == OrderChangedEvent.Type.RESYNC) {
+                // Nothing before a resync can be replayed
+                replay.clear();
+            } else {
+                replay.addLast(event);
+                if (replay.size() > replaySize) {
+                    replay.removeFirst();
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.queue.offer(event)) {
+                    subscriber.schedule();
+                } else {
+                    drop(subscriber);
+                }
+            }
+        }
+    }
+
+    void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty() && subscriber.queue.offer(heartbeatEvent)) {
+                subscriber.schedule();
+            }
+        }
+    }
+
+    int clientCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    private boolean canReplayFrom(long version) {
+        // Versions are consecutive, so the ring holds (lastVersion - size, lastVersion]
+        return orderChangeTracker.seesAllChanges()
+                && version <= lastVersion
+                && version >= lastVersion - replay.size()
+                && lastVersion - version <= clientBufferSize;
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        droppedClients.increment();
+        log.info("Order stream client dropped: {} events pending", subscriber.queue.size());
+        // Completing may wait for a write in progress, so keep it off the committing thread
+        sender.execute(subscriber.emitter::complete);
+    }
+
+    private Set<DataWithMediaType> toPayload(long version, String name, Object data) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize order stream event " + name, ex);
+        }
+        return SseEmitter.event()
+                .id(ETags.INSTANCE + "-" + version)
+                .name(name)
+                .data(json)
+                .build();
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(ETags.INSTANCE + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(ETags.INSTANCE.length() + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private final class StreamEvent {
+        private final long version;
+        private final String name;
+        private final Object data;
+        private volatile Set<DataWithMediaType> payload;
+
+        private StreamEvent(long version, String name, Object data) {
+            this.version = version;
+            this.name = name;
+            this.data = data;
+        }
+
+        private StreamEvent(Set<DataWithMediaType> payload) {
+            this(0, null, null);
+            this.payload = payload;
+        }
+
+        private boolean isSnapshot() {
+            return SNAPSHOT_EVENT.equals(name);
+        }
+
+        /**
+         * @return The SSE payload, serialized on first use, or null if it cannot be built
+         */
+        private Set<DataWithMediaType> payload() {
+            Set<DataWithMediaType> built = payload;
+            if (built == null) {
+                synchronized (this) {
+                    if (payload == null) {
+                        try {
+                            payload = toPayload(version, name, isSnapshot() ? orderService.getOrders(null) : data);
+                        } catch (RuntimeException ex) {
+                            log.error("Order stream event {} dropped: {}", version, ex.getMessage());
+                            return null;
+                        }
+                    }
+                    built = payload;
+                }
+            }
+            return built;
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean ready;
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void schedule() {
+            if (ready && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                StreamEvent next = queue.poll();
+                if (next == null) {
+                    draining.set(false);
+                    // An event may have been queued after the poll but before the flag was cleared
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                Set<DataWithMediaType> payload = next.payload();
+                if (payload == null && next.isSnapshot()) {
+                    // Without it the client would keep stale orders: make it reconnect
+                    subscribers.remove(this);
+                    emitter.complete();
+                    return;
+                }
+                if (payload == null) {
+                    continue;
+                }
+                try {
+                    emitter.send(payload);
+                } catch (IOException | IllegalStateException ex) {
+                    subscribers.remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
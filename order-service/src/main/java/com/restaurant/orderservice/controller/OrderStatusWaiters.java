@@ -0,0 +1,162 @@
+package com.restaurant.orderservice.controller;
+
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.ConnectionLimitExceededException;
+import com.restaurant.orderservice.exception.OrderNotFoundException;
+import com.restaurant.orderservice.service.OrderChangeTracker;
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Registry of GET /orders/{id}/await long-polls, keyed by order id.
+ *
+ * A waiting request is only a {@link DeferredResult} in this map: the servlet request is
+ * suspended and no thread is held until the order changes or the timeout fires. Committed
+ * changes reported by {@link OrderChangeTracker} complete the matching waiters directly.
+ *
+ * Statuses only move forward (PENDING -> IN_PREPARATION -> READY), so a waiter for a
+ * status completes once the order reaches it or any later status. A waiter without a
+ * status completes on the next status change. Timeouts answer with the last known state,
+ * and so does a RESYNC change, after which changes may have been missed: the client
+ * reads the order again and waits anew.
+ */
+@Component
+public class OrderStatusWaiters {
+
+    private final Map<UUID, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final int maxWaiters;
+
+    @Autowired
+    public OrderStatusWaiters(OrderChangeTracker orderChangeTracker,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.await.max-waiters:10000}") int maxWaiters) {
+        this.maxWaiters = maxWaiters;
+        Gauge.builder("order.await.waiters", waiterCount, AtomicInteger::get)
+                .description("Requests waiting in GET /orders/{id}/await")
+                .register(meterRegistry);
+        orderChangeTracker.addListener(this::onOrderChange);
+    }
+
+    /**
+     * Registers a long-poll for an order.
+     *
+     * The waiter is registered before the current state is read, so a change committed in
+     * between is never missed.
+     *
+     * @param orderId Order to watch
+     * @param status Status to wait for, or null to wait for any status change
+     * @param timeoutMs Time to wait before answering with the unchanged order
+     * @param currentState Reads the current order; may throw OrderNotFoundException
+     * @return Result completed with the order once the wait is over
+     * @throws ConnectionLimitExceededException if max-waiters requests are already waiting
+     */
+    public DeferredResult<ResponseEntity<OrderResponse>> await(UUID orderId, OrderStatus status, long timeoutMs,
+                                                               Supplier<OrderResponse> currentState) {
+        if (waiterCount.get() >= maxWaiters) {
+            throw new ConnectionLimitExceededException("Too many requests waiting for orders, try again later");
+        }
+
+        Waiter waiter = new Waiter(status, new DeferredResult<>(timeoutMs));
+        waiters.compute(orderId, (id, orderWaiters) -> {
+            Set<Waiter> registered = orderWaiters != null ? orderWaiters : ConcurrentHashMap.newKeySet();
+            registered.add(waiter);
+            return registered;
+        });
+        waiterCount.incrementAndGet();
+        waiter.result.onCompletion(() -> remove(orderId, waiter));
+
+        OrderResponse current;
+        try {
+            current = currentState.get();
+        } catch (RuntimeException ex) {
+            remove(orderId, waiter);
+            throw ex;
+        }
+        waiter.lastKnown = current;
+        waiter.result.onTimeout(() -> waiter.result.setResult(ResponseEntity.ok(waiter.lastKnown)));
+
+        if (waiter.hasReached(current)) {
+            complete(orderId, waiter, current);
+        }
+        return waiter.result;
+    }
+
+    int waiterCount() {
+        return waiterCount.get();
+    }
+
+    void onOrderChange(long version, OrderChangedEvent change) {
+        if (change.getType() == OrderChangedEvent.Type.RESYNC) {
+            waiters.forEach((orderId, orderWaiters) -> orderWaiters.forEach(waiter -> {
+                // A waiter still reading its current state gets a fresh one anyway
+                if (waiter.lastKnown != null) {
+                    complete(orderId, waiter, waiter.lastKnown);
+                }
+            }));
+            return;
+        }
+        Set<Waiter> orderWaiters = waiters.get(change.getOrderId());
+        if (orderWaiters == null) {
+            return;
+        }
+        for (Waiter waiter : orderWaiters) {
+            if (change.getType() == OrderChangedEvent.Type.DELETED) {
+                remove(change.getOrderId(), waiter);
+                waiter.result.setErrorResult(new OrderNotFoundException(change.getOrderId()));
+            } else if (waiter.status == null || waiter.hasReached(change.getOrder())) {
+                complete(change.getOrderId(), waiter, change.getOrder());
+            } else {
+                waiter.lastKnown = change.getOrder();
+            }
+        }
+    }
+
+    private void complete(UUID orderId, Waiter waiter, OrderResponse order) {
+        remove(orderId, waiter);
+        waiter.result.setResult(ResponseEntity.ok(order));
+    }
+
+    private void remove(UUID orderId, Waiter waiter) {
+        waiters.computeIfPresent(orderId, (id, orderWaiters) -> {
+            if (orderWaiters.remove(waiter)) {
+                waiterCount.decrementAndGet();
+            }
+            return orderWaiters.isEmpty() ? null : orderWaiters;
+        });
+    }
+
+    private static final class Waiter {
+        private final OrderStatus status;
+        private final DeferredResult<ResponseEntity<OrderResponse>> result;
+        private volatile OrderResponse lastKnown;
+
+        private Waiter(OrderStatus status, DeferredResult<ResponseEntity<OrderResponse>> result) {
+            this.status = status;
+            this.result = result;
+        }
+
+        /**
+         * Without a target status only a change event completes the waiter: any change
+         * reported after registration is news to the client.
+         */
+        private boolean hasReached(OrderResponse order) {
+            return status != null && order != null && order.getStatus() != null
+                    && order.getStatus().compareTo(status) >= 0;
+        }
+    }
+}
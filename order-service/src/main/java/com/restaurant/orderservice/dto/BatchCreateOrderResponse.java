@@ -0,0 +1,28 @@
+package com.restaurant.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for POST /orders/batch.
+ *
+ * Contains one result per requested order, in request order, plus summary counts.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateOrderResponse {
+
+    private int total;
+
+    private int created;
+
+    private int rejected;
+
+    private List<BatchOrderResult> results;
+}
@@ -0,0 +1,44 @@
+package com.restaurant.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single order within a POST /orders/batch request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    /**
+     * Position of the order in the request list (0-based).
+     */
+    private int index;
+
+    /**
+     * CREATED or REJECTED.
+     */
+    private String status;
+
+    /**
+     * The created order. Null when rejected.
+     */
+    private OrderResponse order;
+
+    /**
+     * HTTP status that a single POST /orders would have returned for a rejected order.
+     */
+    private Integer errorStatus;
+
+    /**
+     * Rejection reason. Null when created.
+     */
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.restaurant.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response of GET /orders/changes.
+ *
+ * orders holds the current state of every order created or updated after the requested
+ * version, deletedIds the orders soft-deleted since. version is the one to ask for next.
+ * When resyncRequired is true the changes are no longer available: the client reloads
+ * GET /orders and continues from version.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderChangesResponse {
+
+    private long version;
+
+    private boolean resyncRequired;
+
+    private List<OrderResponse> orders;
+
+    private List<UUID> deletedIds;
+}
@@ -0,0 +1,35 @@
+package com.restaurant.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State of a background DELETE /orders, returned by DELETE /orders (202 Accepted) and
+ * GET /orders/delete-jobs/{id}.
+ *
+ * deletedCount grows chunk by chunk while the job is RUNNING and is final once it is
+ * COMPLETED or FAILED; finishedAt is null until then.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDeleteJobResponse {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private UUID id;
+
+    private Status status;
+
+    private long deletedCount;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,24 @@
+package com.restaurant.orderservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of GET /orders.
+ *
+ * Orders are sorted by (createdAt, id). nextCursor is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPage {
+
+    private List<OrderResponse> orders;
+
+    private String nextCursor;
+}
@@ -0,0 +1,67 @@
+package com.restaurant.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing an Idempotency-Key seen on POST /orders.
+ *
+ * Written in the same transaction as the order it created, so a key exists if and only
+ * if its order was committed. The stored response is replayed to retries of the request.
+ * Rows are never updated: a concurrent request that records the same key fails on the
+ * primary key instead of overwriting the winner's response.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey implements Persistable<String> {
+
+    /**
+     * Client supplied Idempotency-Key header value.
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    /**
+     * SHA-256 (hex) of the request body the key was first used with.
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    /**
+     * JSON serialized OrderResponse returned for the original request.
+     */
+    @Column(name = "response", nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        // Saved with an assigned id: persist() instead of merge(), which would SELECT and then UPDATE
+        return true;
+    }
+}
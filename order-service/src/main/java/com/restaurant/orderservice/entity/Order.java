@@ -1,6 +1,7 @@
 package com.restaurant.orderservice.entity;
 
 import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.infrastructure.persistence.UuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -22,6 +23,10 @@ import java.util.UUID;
  * Orders are never physically deleted. Instead, they are marked as deleted
  * with a timestamp for audit purposes (Copilot Instructions Section 4).
  * 
+ * Partitioning:
+ * The orders table is partitioned by month of createdAt (migration V14); old soft-deleted
+ * and READY orders are moved to orders_archive by OrderPartitionMaintenance.
+ * 
  * Validates Requirements: 2.3, 2.4, 2.5, 9.1
  */
 @Entity
@@ -33,10 +38,11 @@ public class Order {
     
     /**
      * Unique identifier for the order.
-     * Generated automatically as a UUID.
+     * Generated automatically as a time-ordered UUIDv7, so new rows are appended to the
+     * end of the primary key index. Orders created before the switch keep their v4 ids.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
     
     /**
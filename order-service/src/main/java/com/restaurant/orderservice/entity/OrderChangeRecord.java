@@ -0,0 +1,53 @@
+package com.restaurant.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing one committed order change spilled from the in-memory change log.
+ *
+ * Versions are assigned by OrderChangeLog and rows are never updated, so every save is
+ * an insert.
+ */
+@Entity
+@Table(name = "order_change_log")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderChangeRecord implements Persistable<Long> {
+
+    @Id
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    /**
+     * CREATED, STATUS_CHANGED or DELETED.
+     */
+    @Column(name = "change_type", nullable = false, length = 20)
+    private String changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Override
+    public Long getId() {
+        return version;
+    }
+
+    @Override
+    public boolean isNew() {
+        // Saved with an assigned id: skip the SELECT that merge() would issue
+        return true;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * Entity representing an item within an order.
  * 
@@ -22,10 +24,11 @@ public class OrderItem {
     
     /**
      * Unique identifier for the order item.
-     * Auto-generated using database identity strategy.
+     * Generated from a pooled sequence (blocks of 50) so item inserts can be JDBC-batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_id_seq")
+    @SequenceGenerator(name = "order_items_id_seq", sequenceName = "order_items_id_seq", allocationSize = 50)
     private Long id;
     
     /**
@@ -37,6 +40,13 @@ public class OrderItem {
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
     
+    /**
+     * Creation timestamp of the parent order, copied on first persist.
+     * Partition key of order_items, shared with orders (migration V14).
+     */
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    private LocalDateTime orderCreatedAt;
+    
     /**
      * ID of the product being ordered.
      * Stored as a foreign key reference to the products table.
@@ -60,4 +70,15 @@ public class OrderItem {
      */
     @Column(columnDefinition = "TEXT")
     private String note;
+    
+    /**
+     * JPA lifecycle callback executed before the item is persisted for the first time.
+     * The order is persisted first, so its createdAt is already set.
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (orderCreatedAt == null && order != null) {
+            orderCreatedAt = order.getCreatedAt();
+        }
+    }
 }
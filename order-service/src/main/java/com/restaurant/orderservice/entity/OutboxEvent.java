@@ -0,0 +1,115 @@
+package com.restaurant.orderservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a domain event stored in the transactional outbox.
+ *
+ * Rows are written in the same transaction as the order change that produced them and
+ * relayed to RabbitMQ afterwards by OutboxRelay. The payload is the JSON form of the
+ * domain event identified by eventType.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * Relay order. Generated from a pooled sequence so outbox inserts can be batched.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_id_seq")
+    @SequenceGenerator(name = "outbox_events_id_seq", sequenceName = "outbox_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Id of the domain event; consumers use it for deduplication.
+     */
+    @Column(name = "event_id", nullable = false, unique = true)
+    private UUID eventId;
+
+    /**
+     * Domain event type, e.g. order.placed or order.ready.
+     */
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    /**
+     * Id of the order the event belongs to.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    /**
+     * JSON serialized domain event.
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the event reached the broker. Null while pending.
+     */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * Timestamp when the relay gave up on the event. Null while it may still be published.
+     */
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+
+    /**
+     * Number of failed relay attempts.
+     */
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    /**
+     * Error message of the last failed relay attempt.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Marks the event as delivered to the broker.
+     */
+    public void markPublished() {
+        this.publishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * Records a failed relay attempt.
+     *
+     * @param error the failure cause
+     */
+    public void markFailed(Exception error) {
+        this.attempts++;
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+        this.lastError = message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * Records a last failed attempt and takes the event out of the pending ones for good.
+     *
+     * @param error the failure cause
+     */
+    public void markDead(Exception error) {
+        markFailed(error);
+        this.deadAt = LocalDateTime.now();
+    }
+}
@@ -22,10 +22,11 @@ public class Product {
     
     /**
      * Unique identifier for the product.
-     * Auto-generated using database identity strategy.
+     * Generated from a pooled sequence (blocks of 50) so product inserts can be JDBC-batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = 50)
     private Long id;
     
     /**
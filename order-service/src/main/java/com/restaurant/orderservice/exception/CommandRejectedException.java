@@ -0,0 +1,12 @@
+package com.restaurant.orderservice.exception;
+
+/**
+ * Exception thrown when the asynchronous order command executor is saturated
+ * and its saturation policy rejects new commands.
+ */
+public class CommandRejectedException extends RuntimeException {
+
+    public CommandRejectedException(String message) {
+        super(message);
+    }
+}
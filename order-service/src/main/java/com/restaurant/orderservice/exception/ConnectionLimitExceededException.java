@@ -0,0 +1,12 @@
+package com.restaurant.orderservice.exception;
+
+/**
+ * Exception thrown when a long-lived request (order stream or long-poll) would exceed
+ * the configured number of open connections.
+ */
+public class ConnectionLimitExceededException extends RuntimeException {
+
+    public ConnectionLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -196,6 +196,62 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
     }
 
+    /**
+     * Handles IdempotencyKeyConflictException.
+     * Returns 422 Unprocessable Entity when an Idempotency-Key is reused with a different request.
+     *
+     * @param ex the IdempotencyKeyConflictException that was thrown
+     * @return ResponseEntity with ErrorResponse and 422 status
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflict(IdempotencyKeyConflictException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .error("Unprocessable Entity")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    /**
+     * Handles CommandRejectedException.
+     * Returns 503 Service Unavailable when the async command executor is saturated.
+     *
+     * @param ex the CommandRejectedException that was thrown
+     * @return ResponseEntity with ErrorResponse and 503 status
+     */
+    @ExceptionHandler(CommandRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleCommandRejected(CommandRejectedException ex) {
+        log.warn("Order command rejected: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("Order processing is saturated, please retry shortly")
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    /**
+     * Handles ConnectionLimitExceededException.
+     * Returns 503 Service Unavailable when too many streams or long-polls are open.
+     *
+     * @param ex the ConnectionLimitExceededException that was thrown
+     * @return ResponseEntity with ErrorResponse and 503 status
+     */
+    @ExceptionHandler(ConnectionLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConnectionLimitExceeded(ConnectionLimitExceededException ex) {
+        log.warn("Connection limit reached: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     /**
      * Handles all other uncaught exceptions.
      * Returns 500 Internal Server Error for unexpected errors.
@@ -0,0 +1,11 @@
+package com.restaurant.orderservice.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is reused with a different request body.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,116 @@
+package com.restaurant.orderservice.infrastructure.catalog;
+
+import com.restaurant.orderservice.service.ProductCatalog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Keeps the {@link ProductCatalog} in sync with the products table.
+ *
+ * Listens on the PostgreSQL channel fed by the products trigger (migration V7) through a
+ * dedicated connection, so no pooled connection is held. Every notification, and every
+ * (re)connection, triggers a catalog refresh. Non-PostgreSQL datasources disable the listener.
+ */
+@Component
+@Slf4j
+public class ProductCatalogNotificationListener {
+
+    static final String CHANNEL = "product_catalog_changed";
+
+    private final ProductCatalog productCatalog;
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${catalog.listener.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.listener.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    @Value("${catalog.listener.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ProductCatalogNotificationListener(ProductCatalog productCatalog,
+                                              DataSourceProperties dataSourceProperties) {
+        this.productCatalog = productCatalog;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (!enabled || url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("Product catalog change listener disabled (enabled={}, url={})", enabled, url);
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::listen, "product-catalog-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for product catalog changes on channel {}", CHANNEL);
+
+                // Changes may have been missed while disconnected.
+                productCatalog.refresh();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null && notifications.length > 0) {
+                        log.debug("Received {} product catalog notification(s)", notifications.length);
+                        productCatalog.refresh();
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Product catalog listener connection lost, retrying in {} ms: {}",
+                        reconnectDelayMs, ex.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
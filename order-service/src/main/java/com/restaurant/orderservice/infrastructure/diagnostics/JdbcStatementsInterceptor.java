@@ -0,0 +1,59 @@
+package com.restaurant.orderservice.infrastructure.diagnostics;
+
+import com.restaurant.orderservice.infrastructure.persistence.JdbcStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each request issued, commit included.
+ *
+ * Only the statements run on the request thread are counted: the asynchronous part of
+ * SSE, long-poll and streaming responses is not.
+ *
+ * Metrics: order.jdbc.statements{method, uri}.
+ */
+@Component
+public class JdbcStatementsInterceptor implements AsyncHandlerInterceptor {
+
+    private final JdbcStatementCounter jdbcStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public JdbcStatementsInterceptor(JdbcStatementCounter jdbcStatementCounter, MeterRegistry meterRegistry) {
+        this.jdbcStatementCounter = jdbcStatementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        jdbcStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        jdbcStatementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        int statements = jdbcStatementCounter.stop();
+        if (statements < 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("order.jdbc.statements")
+                .description("SQL statements issued by one request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
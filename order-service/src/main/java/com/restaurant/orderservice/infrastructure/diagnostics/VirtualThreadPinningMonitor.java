@@ -0,0 +1,133 @@
+package com.restaurant.orderservice.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reports virtual threads pinned to their carrier thread (spring.threads.virtual.enabled=true).
+ *
+ * A virtual thread that blocks inside a synchronized block or a native frame cannot unmount,
+ * so it holds one of the few carrier threads for the whole wait; enough of them stall every
+ * request. When virtual threads are enabled on Java 21+, an in-process JFR stream records
+ * the jdk.VirtualThreadPinned events longer than threshold-ms. Each one is timed under the
+ * first frame outside the JDK (typically the JDBC driver or application code that held the
+ * monitor), and the first max-logged-stacks are logged with their stack trace.
+ *
+ * Metrics: order.virtual-threads.pinned{site}.
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_LOGGED_FRAMES = 32;
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger logged = new AtomicInteger();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${order.virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    @Value("${order.virtual-threads.pinning.max-logged-stacks:20}")
+    private int maxLoggedStacks;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < 21) {
+            log.warn("spring.threads.virtual.enabled=true needs Java 21+; running on Java {} with platform threads",
+                    javaVersion);
+            return;
+        }
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started: thresholdMs={}", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace == null
+                ? List.of()
+                : stackTrace.getFrames().stream()
+                        .limit(MAX_LOGGED_FRAMES)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .toList();
+        record(event.getDuration(), frames);
+    }
+
+    /**
+     * Counts one pinning and logs it while under the log limit.
+     *
+     * @param duration How long the carrier thread was pinned
+     * @param frames Stack of the pinned virtual thread, innermost first, as Class.method:line
+     */
+    void record(Duration duration, List<String> frames) {
+        String site = site(frames);
+        Timer.builder("order.virtual-threads.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(duration);
+
+        if (logged.getAndIncrement() < maxLoggedStacks) {
+            log.warn("Virtual thread pinned for {} ms at {}\n\tat {}",
+                    duration.toMillis(), site, String.join("\n\tat ", frames));
+        }
+    }
+
+    /**
+     * @return First frame outside the JDK, without its line number, or "unknown"
+     */
+    static String site(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.")
+                        && !frame.startsWith("sun."))
+                .findFirst()
+                .map(frame -> frame.replaceFirst(":-?\\d+$", ""))
+                .orElse("unknown");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,201 @@
+package com.restaurant.orderservice.infrastructure.messaging;
+
+import com.restaurant.orderservice.exception.EventPublicationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous publisher-confirm pipeline shared by the Rabbit event adapters.
+ *
+ * Each send is tagged with a CorrelationData and counted against a bounded window of
+ * in-flight messages; callers only wait when the window is full. Acks and nacks arrive on
+ * the broker callback threads and complete the returned future. Nacked messages are resent
+ * from a separate retry thread (never from the callback thread) until the attempt limit is
+ * reached. When the connection factory has confirms disabled, sends complete immediately.
+ *
+ * Metrics:
+ * - order.events.publish.in_flight: messages awaiting a confirm
+ * - order.events.publish.confirm.latency: send-to-confirm time, tagged by result
+ * - order.events.publish.retries / order.events.publish.failures
+ */
+@Component
+@Slf4j
+public class PublisherConfirmTracker {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Semaphore window;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final long acquireTimeoutMs;
+    private final long retryBackoffMs;
+    private final ScheduledExecutorService retryExecutor;
+
+    private final Timer ackLatency;
+    private final Timer nackLatency;
+    private final Counter retries;
+    private final Counter failures;
+
+    public PublisherConfirmTracker(RabbitTemplate rabbitTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${rabbitmq.publisher-confirms.max-in-flight:256}") int maxInFlight,
+                                   @Value("${rabbitmq.publisher-confirms.max-attempts:3}") int maxAttempts,
+                                   @Value("${rabbitmq.publisher-confirms.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+                                   @Value("${rabbitmq.publisher-confirms.retry-backoff-ms:200}") long retryBackoffMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.maxInFlight = maxInFlight;
+        this.window = new Semaphore(maxInFlight);
+        this.maxAttempts = maxAttempts;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rabbit-confirm-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("order.events.publish.in_flight", this, PublisherConfirmTracker::inFlight)
+                .description("Published messages awaiting a broker confirm")
+                .register(meterRegistry);
+        this.ackLatency = Timer.builder("order.events.publish.confirm.latency")
+                .description("Time from send to broker confirm")
+                .tag("result", "ack")
+                .register(meterRegistry);
+        this.nackLatency = Timer.builder("order.events.publish.confirm.latency")
+                .description("Time from send to broker confirm")
+                .tag("result", "nack")
+                .register(meterRegistry);
+        this.retries = Counter.builder("order.events.publish.retries")
+                .description("Messages resent after a nack")
+                .register(meterRegistry);
+        this.failures = Counter.builder("order.events.publish.failures")
+                .description("Messages not confirmed after all attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends a message and tracks its confirm.
+     *
+     * @param description Human readable message description used in logs and errors
+     * @param sender Performs the actual send with the given correlation data
+     * @return Future completed when the broker acks the message, or exceptionally with
+     *         EventPublicationException once all attempts are nacked
+     * @throws EventPublicationException if the in-flight window stays full past the
+     *         acquire timeout or the first send fails
+     */
+    public CompletableFuture<Void> send(String description, Consumer<CorrelationData> sender) {
+        if (!confirmsEnabled()) {
+            sendOrThrow(description, sender, new CorrelationData());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        acquirePermit(description);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            attempt(description, sender, 1, result);
+        } catch (EventPublicationException ex) {
+            window.release();
+            throw ex;
+        }
+        return result;
+    }
+
+    /**
+     * @return Number of messages awaiting a confirm
+     */
+    public int inFlight() {
+        return maxInFlight - window.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+
+    private void attempt(String description, Consumer<CorrelationData> sender, int attempt,
+                         CompletableFuture<Void> result) {
+        CorrelationData correlation = new CorrelationData();
+        long startNanos = System.nanoTime();
+        correlation.getFuture().whenComplete((confirm, error) -> {
+            long elapsed = System.nanoTime() - startNanos;
+            if (error == null && confirm != null && confirm.isAck()) {
+                ackLatency.record(elapsed, TimeUnit.NANOSECONDS);
+                window.release();
+                result.complete(null);
+                return;
+            }
+
+            nackLatency.record(elapsed, TimeUnit.NANOSECONDS);
+            String reason = error != null ? error.getMessage() : confirm != null ? confirm.getReason() : null;
+            if (attempt < maxAttempts) {
+                retries.increment();
+                log.warn("Broker nacked {} (attempt {}/{}): {}. Retrying", description, attempt, maxAttempts, reason);
+                retryExecutor.schedule(() -> retry(description, sender, attempt + 1, result),
+                        retryBackoffMs * attempt, TimeUnit.MILLISECONDS);
+            } else {
+                fail(description, result, new EventPublicationException(
+                        String.format("Broker did not confirm %s after %d attempts: %s", description, attempt, reason),
+                        null));
+            }
+        });
+        sendOrThrow(description, sender, correlation);
+    }
+
+    private void retry(String description, Consumer<CorrelationData> sender, int attempt,
+                       CompletableFuture<Void> result) {
+        try {
+            attempt(description, sender, attempt, result);
+        } catch (EventPublicationException ex) {
+            fail(description, result, ex);
+        }
+    }
+
+    private void fail(String description, CompletableFuture<Void> result, EventPublicationException ex) {
+        failures.increment();
+        window.release();
+        log.error("Giving up on {}: {}", description, ex.getMessage());
+        result.completeExceptionally(ex);
+    }
+
+    private void sendOrThrow(String description, Consumer<CorrelationData> sender, CorrelationData correlation) {
+        try {
+            sender.accept(correlation);
+        } catch (EventPublicationException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new EventPublicationException("Unable to publish " + description, ex);
+        }
+    }
+
+    private void acquirePermit(String description) {
+        try {
+            if (!window.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new EventPublicationException(String.format(
+                        "Too many unconfirmed messages (%d in flight), unable to publish %s", maxInFlight, description),
+                        null);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new EventPublicationException("Interrupted while waiting to publish " + description, ex);
+        }
+    }
+
+    private boolean confirmsEnabled() {
+        return rabbitTemplate.getConnectionFactory() != null
+                && rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+    }
+}
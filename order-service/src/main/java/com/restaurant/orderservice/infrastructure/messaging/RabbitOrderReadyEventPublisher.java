@@ -8,8 +8,11 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * RabbitMQ adapter for the order ready event output port.
+ * Sends through PublisherConfirmTracker, so broker confirms are tracked asynchronously.
  */
 @Component
 @Slf4j
@@ -17,6 +20,7 @@ public class RabbitOrderReadyEventPublisher implements OrderReadyEventPublisherP
 
     private final RabbitTemplate rabbitTemplate;
     private final OrderReadyEventMessageMapper messageMapper;
+    private final PublisherConfirmTracker confirmTracker;
 
     @Value("${rabbitmq.exchange.name}")
     private String exchangeName;
@@ -25,27 +29,48 @@ public class RabbitOrderReadyEventPublisher implements OrderReadyEventPublisherP
     private String orderReadyRoutingKey;
 
     public RabbitOrderReadyEventPublisher(RabbitTemplate rabbitTemplate,
-                                          OrderReadyEventMessageMapper messageMapper) {
+                                          OrderReadyEventMessageMapper messageMapper,
+                                          PublisherConfirmTracker confirmTracker) {
         this.rabbitTemplate = rabbitTemplate;
         this.messageMapper = messageMapper;
+        this.confirmTracker = confirmTracker;
     }
 
+    /**
+     * Sends the event without waiting for the broker confirm.
+     */
     @Override
     public void publish(OrderReadyDomainEvent domainEvent) {
+        publishAsync(domainEvent);
+    }
+
+    /**
+     * Sends the event and returns a future completed when the broker confirms it.
+     *
+     * @param domainEvent Event to publish
+     * @return Future completed on ack, or exceptionally with EventPublicationException
+     *         once all retries were nacked
+     * @throws EventPublicationException if the message cannot be sent at all
+     */
+    public CompletableFuture<Void> publishAsync(OrderReadyDomainEvent domainEvent) {
         OrderReadyEventMessage message = messageMapper.toMessage(domainEvent);
+        String description = String.format("order.ready event eventId=%s", message.getEventId());
         try {
-            rabbitTemplate.convertAndSend(exchangeName, orderReadyRoutingKey, message, amqpMessage -> {
-                amqpMessage.getMessageProperties().setHeader("eventType", message.getEventType());
-                amqpMessage.getMessageProperties().setHeader("eventVersion", message.getEventVersion());
-                return amqpMessage;
-            });
+            CompletableFuture<Void> confirmed = confirmTracker.send(description, correlation ->
+                    rabbitTemplate.convertAndSend(exchangeName, orderReadyRoutingKey, message, amqpMessage -> {
+                        amqpMessage.getMessageProperties().setHeader("eventType", message.getEventType());
+                        amqpMessage.getMessageProperties().setHeader("eventVersion", message.getEventVersion());
+                        return amqpMessage;
+                    }, correlation));
 
-            log.info(
+            Object orderId = message.getPayload() != null ? message.getPayload().getOrderId() : null;
+            log.debug("Sent order.ready event: eventId={}, orderId={}, version={}",
+                    message.getEventId(), orderId, message.getEventVersion());
+            // Nacks and send failures are logged by the confirm tracker
+            confirmed.thenRun(() -> log.info(
                     "Successfully published order.ready event: eventId={}, orderId={}, version={}",
-                    message.getEventId(),
-                    message.getPayload() != null ? message.getPayload().getOrderId() : null,
-                    message.getEventVersion()
-            );
+                    message.getEventId(), orderId, message.getEventVersion()));
+            return confirmed;
         } catch (Exception ex) {
             log.error(
                     "Failed to publish order.ready event: eventId={}, orderId={}, error={}",
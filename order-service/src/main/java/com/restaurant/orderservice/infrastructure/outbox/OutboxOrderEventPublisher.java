@@ -0,0 +1,93 @@
+package com.restaurant.orderservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.application.port.out.OrderPlacedEventPublisherPort;
+import com.restaurant.orderservice.application.port.out.OrderReadyEventPublisherPort;
+import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
+import com.restaurant.orderservice.domain.event.OrderReadyDomainEvent;
+import com.restaurant.orderservice.entity.OutboxEvent;
+import com.restaurant.orderservice.exception.EventPublicationException;
+import com.restaurant.orderservice.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox adapter for the order event output ports.
+ *
+ * Instead of talking to RabbitMQ, events are stored in outbox_events within the caller's
+ * transaction, so they commit or roll back together with the order. OutboxRelay forwards
+ * them to the Rabbit adapters. Takes precedence over the Rabbit adapters unless
+ * outbox.enabled=false.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxOrderEventPublisher implements OrderPlacedEventPublisherPort, OrderReadyEventPublisherPort {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxOrderEventPublisher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderPlacedDomainEvent event) {
+        append(event.getEventId(), OrderPlacedDomainEvent.EVENT_TYPE, event.getOrderId(), event);
+    }
+
+    /**
+     * Stores all events with one batched insert.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<OrderPlacedDomainEvent> events) {
+        List<OutboxEvent> rows = events.stream()
+                .map(event -> toOutboxEvent(event.getEventId(), OrderPlacedDomainEvent.EVENT_TYPE,
+                        event.getOrderId(), event))
+                .toList();
+        outboxEventRepository.saveAll(rows);
+        log.debug("Stored {} order.placed events in outbox", rows.size());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderReadyDomainEvent event) {
+        append(event.getEventId(), OrderReadyDomainEvent.EVENT_TYPE, event.getOrderId(), event);
+    }
+
+    private void append(UUID eventId, String eventType, UUID orderId, Object event) {
+        outboxEventRepository.save(toOutboxEvent(eventId, eventType, orderId, event));
+        log.debug("Stored {} event in outbox: eventId={}, orderId={}", eventType, eventId, orderId);
+    }
+
+    private OutboxEvent toOutboxEvent(UUID eventId, String eventType, UUID orderId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new EventPublicationException(
+                    String.format("Unable to serialize %s event for orderId=%s", eventType, orderId), ex);
+        }
+
+        return OutboxEvent.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .aggregateId(orderId)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
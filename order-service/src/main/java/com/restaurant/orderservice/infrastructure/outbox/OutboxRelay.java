@@ -0,0 +1,220 @@
+package com.restaurant.orderservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
+import com.restaurant.orderservice.domain.event.OrderReadyDomainEvent;
+import com.restaurant.orderservice.entity.OutboxEvent;
+import com.restaurant.orderservice.exception.EventPublicationException;
+import com.restaurant.orderservice.infrastructure.messaging.RabbitOrderPlacedEventPublisher;
+import com.restaurant.orderservice.infrastructure.messaging.RabbitOrderReadyEventPublisher;
+import com.restaurant.orderservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the transactional outbox into RabbitMQ.
+ *
+ * Every poll interval, pending events are locked in batches (oldest first) and handed to
+ * the existing Rabbit adapters. Rows are stamped as published, in the same transaction,
+ * only once the broker has confirmed them, and only up to the first event that was not
+ * confirmed: that event and every later one stay pending and are sent again, in order, on
+ * the next poll, so later events do not overtake it. A send failure stops the batch for
+ * the same reason. Delivery is therefore at-least-once, keyed by eventId.
+ *
+ * An event that can never be published is marked dead so it stops blocking the outbox:
+ * at once when it fails before reaching the broker (unknown event type, unreadable
+ * payload), or once its confirm has failed max-attempts times. A send that fails outright
+ * means the broker cannot be reached, which says nothing about the event, so it is retried
+ * without limit. Dead events are logged, counted and kept in the table for inspection.
+ *
+ * Metrics: outbox.relay.dead{reason}.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitOrderPlacedEventPublisher orderPlacedPublisher;
+    private final RabbitOrderReadyEventPublisher orderReadyPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter unpublishable;
+    private final Counter attemptsExhausted;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+
+    @Value("${outbox.relay.confirm-timeout-ms:10000}")
+    private long confirmTimeoutMs;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       RabbitOrderPlacedEventPublisher orderPlacedPublisher,
+                       RabbitOrderReadyEventPublisher orderReadyPublisher,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderPlacedPublisher = orderPlacedPublisher;
+        this.orderReadyPublisher = orderReadyPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.unpublishable = deadCounter(meterRegistry, "unpublishable");
+        this.attemptsExhausted = deadCounter(meterRegistry, "max_attempts");
+    }
+
+    private static Counter deadCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("outbox.relay.dead")
+                .description("Outbox events the relay gave up on")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relays pending events until the outbox is empty, a batch fails or the per-poll
+     * batch limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relayPending() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            Integer relayed = transactionTemplate.execute(status -> relayBatch());
+            if (relayed == null || relayed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes published events older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    /**
+     * Publishes one batch inside the current transaction.
+     * All events of the batch are sent first and their broker confirms awaited together,
+     * so a batch costs one confirm round trip instead of one per event.
+     *
+     * @return number of events marked published; less than the batch size when the
+     *         outbox is drained or a publication failed
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockPendingBatch(PageRequest.of(0, batchSize));
+        Map<OutboxEvent, CompletableFuture<Void>> sent = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            try {
+                sent.put(event, publish(event));
+            } catch (EventPublicationException ex) {
+                recordFailure(event, ex);
+                break;
+            } catch (Exception ex) {
+                // Retrying cannot turn this event into a message
+                recordDead(event, ex, unpublishable);
+            }
+        }
+
+        awaitConfirms(sent.values());
+
+        int published = 0;
+        for (Map.Entry<OutboxEvent, CompletableFuture<Void>> entry : sent.entrySet()) {
+            CompletableFuture<Void> confirm = entry.getValue();
+            if (confirm.isDone() && !confirm.isCompletedExceptionally()) {
+                entry.getKey().markPublished();
+                published++;
+            } else if (entry.getKey().getAttempts() + 1 >= maxAttempts) {
+                // Never sent again, so the events after it cannot overtake it
+                recordDead(entry.getKey(), confirmFailure(confirm), attemptsExhausted);
+            } else {
+                // Later events, confirmed or not, are resent after this one
+                recordFailure(entry.getKey(), confirmFailure(confirm));
+                break;
+            }
+        }
+        if (published > 0) {
+            log.debug("Outbox relay published {} event(s)", published);
+        }
+        return published;
+    }
+
+    private CompletableFuture<Void> publish(OutboxEvent event) throws IOException {
+        return switch (event.getEventType()) {
+            case OrderPlacedDomainEvent.EVENT_TYPE -> orderPlacedPublisher.publishAsync(
+                    objectMapper.readValue(event.getPayload(), OrderPlacedDomainEvent.class));
+            case OrderReadyDomainEvent.EVENT_TYPE -> orderReadyPublisher.publishAsync(
+                    objectMapper.readValue(event.getPayload(), OrderReadyDomainEvent.class));
+            default -> throw new IllegalStateException("Unknown outbox event type: " + event.getEventType());
+        };
+    }
+
+    private void awaitConfirms(Collection<CompletableFuture<Void>> confirms) {
+        try {
+            CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new))
+                    .get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // Inspected per event below.
+        }
+    }
+
+    private Exception confirmFailure(CompletableFuture<Void> confirm) {
+        if (!confirm.isDone()) {
+            return new TimeoutException("No broker confirm within " + confirmTimeoutMs + " ms");
+        }
+        try {
+            confirm.join();
+            return new IllegalStateException("Unexpected confirm state");
+        } catch (CompletionException ex) {
+            return ex.getCause() instanceof Exception cause ? cause : ex;
+        }
+    }
+
+    private void recordDead(OutboxEvent event, Exception ex, Counter reason) {
+        event.markDead(ex);
+        reason.increment();
+        log.error("Outbox relay gave up on event: eventId={}, eventType={}, aggregateId={}, attempts={}, error={}",
+                event.getEventId(), event.getEventType(), event.getAggregateId(), event.getAttempts(),
+                ex.getMessage());
+    }
+
+    private void recordFailure(OutboxEvent event, Exception ex) {
+        event.markFailed(ex);
+        log.warn("Outbox relay failed: eventId={}, eventType={}, attempts={}, error={}",
+                event.getEventId(), event.getEventType(), event.getAttempts(), ex.getMessage());
+    }
+}
@@ -0,0 +1,154 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the monthly partitions of orders and order_items (migrations V14 and V15).
+ *
+ * At startup and then daily it:
+ * - creates the partitions of the current month and the next months-ahead months;
+ * - moves soft-deleted and READY orders older than retention-days, with their items, to
+ *   orders_archive / order_items_archive, in batches that each run as one statement;
+ * - drops the months that ended before the retention period and were left empty.
+ *
+ * Archived orders that were not soft-deleted are announced as DELETED, so the in-memory
+ * views of the active orders drop them too. Non-PostgreSQL datasources disable the job.
+ */
+@Component
+@Slf4j
+public class OrderPartitionMaintenance {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${order.partitioning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${order.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${order.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${order.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    private volatile boolean active;
+
+    public OrderPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     DataSourceProperties dataSourceProperties,
+                                     ApplicationEventPublisher applicationEventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        String url = dataSourceProperties.determineUrl();
+        if (!enabled || url == null || !url.startsWith("jdbc:postgresql:")) {
+            log.info("Order partition maintenance disabled (enabled={}, url={})", enabled, url);
+            return;
+        }
+        active = true;
+        createPartitions();
+    }
+
+    /**
+     * Runs the daily maintenance. Each step runs even if a previous one failed.
+     */
+    @Scheduled(cron = "${order.partitioning.maintenance-cron:0 30 4 * * *}")
+    public void maintain() {
+        if (!active) {
+            return;
+        }
+        createPartitions();
+        archive();
+        dropEmptyPartitions();
+    }
+
+    /**
+     * Creates the missing partitions from the current month to months-ahead months later.
+     */
+    void createPartitions() {
+        try {
+            Integer created = jdbcTemplate.queryForObject("SELECT create_order_partitions(?, ?)", Integer.class,
+                    LocalDate.now().withDayOfMonth(1), monthsAhead + 1);
+            if (created != null && created > 0) {
+                log.info("Created {} monthly order partition(s)", created);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Order partitions could not be created: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Archives old orders until none is left or the per-run batch limit is reached.
+     *
+     * @return number of archived orders
+     */
+    int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<ArchivedOrder> batch = jdbcTemplate.query(
+                        "SELECT archived_id, archived_deleted FROM archive_orders(?, ?)",
+                        (resultSet, rowNum) -> new ArchivedOrder(
+                                resultSet.getObject(1, UUID.class), resultSet.getBoolean(2)),
+                        cutoff, batchSize);
+                // Already committed: orders still active leave the board
+                batch.stream()
+                        .filter(order -> !order.deleted())
+                        .forEach(order -> applicationEventPublisher.publishEvent(
+                                new OrderChangedEvent(OrderChangedEvent.Type.DELETED, order.id(), null)));
+                archived += batch.size();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Order archival stopped after {} order(s): {}", archived, ex.getMessage());
+        }
+        if (archived > 0) {
+            log.info("Archived {} order(s) created before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    /**
+     * Drops the empty months that ended before the month of the retention cutoff.
+     */
+    void dropEmptyPartitions() {
+        try {
+            Integer dropped = jdbcTemplate.queryForObject("SELECT drop_empty_order_partitions(?)", Integer.class,
+                    LocalDate.now().minusDays(retentionDays).withDayOfMonth(1));
+            if (dropped != null && dropped > 0) {
+                log.info("Dropped {} empty monthly order partition(s)", dropped);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Empty order partitions could not be dropped: {}", ex.getMessage());
+        }
+    }
+
+    private record ArchivedOrder(UUID id, boolean deleted) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends the read-only transactions of {@link ReplicaRead} methods to the replica pool and
+ * everything else to the primary pool.
+ *
+ * The replica is used only while {@link ReplicaLagMonitor} reports it usable. If a
+ * replica connection cannot be obtained, the replica is marked down and the transaction
+ * falls back to the primary. It must be wrapped in a LazyConnectionDataSourceProxy: the
+ * transaction manager asks for the connection before the transaction is flagged
+ * read-only, and the proxy defers that until the first statement.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!useReplica()) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            replicaLagMonitor.markDown(ex);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Connections for explicit credentials always come from the primary: the replica pool
+     * is only reachable with its configured user.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    boolean useReplica() {
+        return ReplicaReadAspect.isActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isUsable();
+    }
+}
@@ -0,0 +1,129 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether the read replica may serve {@link ReplicaRead} transactions.
+ *
+ * Every check-interval-ms a background thread measures the replay lag of the replica:
+ * zero when it has replayed all the WAL it received, otherwise the age of the last
+ * replayed transaction (pg_last_xact_replay_timestamp). The replica is usable while the
+ * lag is at most max-lag-ms. A failed check, an unknown lag or a failed connection makes
+ * it unusable until a later check succeeds. A server that is not in recovery (a plain
+ * second instance, as in local tests) has no lag.
+ *
+ * Metrics: order.datasource.replica.lag (ms, -1 when unknown), order.datasource.replica.usable.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::BIGINT
+            END""";
+
+    private final DataSource replicaDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagMs;
+    private final ScheduledExecutorService checker;
+
+    private volatile boolean usable;
+    private volatile long lagMs = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs, long checkIntervalMs,
+                             MeterRegistry meterRegistry) {
+        this(replicaDataSource, new JdbcTemplate(replicaDataSource), maxLagMs, meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "replica-lag-monitor");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+        jdbcTemplate.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(checkIntervalMs)));
+        check();
+        checker.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("Read replica monitor started: maxLagMs={}, checkIntervalMs={}, usable={}",
+                maxLagMs, checkIntervalMs, usable);
+    }
+
+    ReplicaLagMonitor(DataSource replicaDataSource, JdbcTemplate jdbcTemplate, long maxLagMs,
+                      MeterRegistry meterRegistry, ScheduledExecutorService checker) {
+        this.replicaDataSource = replicaDataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxLagMs = maxLagMs;
+        this.checker = checker;
+
+        Gauge.builder("order.datasource.replica.lag", this, monitor -> monitor.lagMs)
+                .description("Replay lag of the read replica in milliseconds, -1 when unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("order.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("1 while read-only transactions may use the read replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return The replica pool, owned and closed by this monitor
+     */
+    public DataSource getDataSource() {
+        return replicaDataSource;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Measures the replica lag and updates whether the replica is usable.
+     */
+    void check() {
+        try {
+            Long lag = jdbcTemplate.queryForObject(LAG_QUERY, Long.class);
+            lagMs = lag == null ? -1 : lag;
+            update(lag != null && lag <= maxLagMs,
+                    lag == null ? "replay lag unknown" : "replay lag " + lag + " ms");
+        } catch (RuntimeException ex) {
+            lagMs = -1;
+            update(false, ex.getMessage());
+        }
+    }
+
+    /**
+     * Stops using the replica after a failed connection; the next successful check restores it.
+     */
+    void markDown(Exception cause) {
+        update(false, cause.getMessage());
+    }
+
+    private void update(boolean nowUsable, String reason) {
+        if (usable != nowUsable) {
+            if (nowUsable) {
+                log.info("Read replica usable again ({})", reason);
+            } else {
+                log.warn("Read replica not usable, reads go to the primary ({})", reason);
+            }
+        }
+        usable = nowUsable;
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        checker.shutdownNow();
+        if (replicaDataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Read-only transaction that may be served by the read replica.
+ *
+ * Behaves as {@code @Transactional(readOnly = true)}. When order.datasource.replica.enabled
+ * is true, the connection of a transaction started here comes from the replica pool while
+ * the replica lag stays under max-lag-ms, and from the primary otherwise. Called inside an
+ * ongoing transaction it joins it and keeps its connection.
+ *
+ * Only for reads that tolerate data up to max-lag-ms old; plain read-only transactions,
+ * such as the default ones of the repositories, always use the primary.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,41 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Marks the current thread while a {@link ReplicaRead} method runs, so that
+ * {@link ReadReplicaRoutingDataSource} can hand its transaction a replica connection.
+ *
+ * Runs outside the transaction interceptor, so the mark covers the whole transaction,
+ * commit included.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaReadAspect {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    @Around("@annotation(com.restaurant.orderservice.infrastructure.persistence.ReplicaRead)")
+    public Object markReplicaRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ACTIVE.get() != null) {
+            return joinPoint.proceed();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    /**
+     * @return true inside a {@link ReplicaRead} method on this thread
+     */
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,192 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes sure at most one order-service instance serves the in-memory views of the orders
+ * (order.single-instance.enabled=true).
+ *
+ * The in-memory views of the orders (active order board, ETag version, change log, stream
+ * replay) are fed by the commits of this process only, so they are only correct while no
+ * other instance writes. A PostgreSQL session-level advisory lock is taken on a dedicated
+ * connection and held until shutdown. Startup never waits for it: while another instance
+ * holds it (rolling deploy, or a session left behind by a crashed host until TCP keepalive
+ * closes it), this instance runs with {@link #isExclusive()} false, so every view falls
+ * back to the database, and retries every check-interval-ms. Once the lock is taken the
+ * {@link #onAcquired} listeners run, which reload the views. The connection is checked on
+ * the same schedule: once it is lost the lock may pass to another instance, so
+ * isExclusive() turns false until it is taken again.
+ *
+ * With order.single-instance.enabled=false several instances may run, and the in-memory
+ * views are turned off. Non-PostgreSQL datasources (embedded test databases) are always
+ * exclusive.
+ */
+@Component
+@Slf4j
+public class SingleInstanceLock {
+
+    // "ordersvc" in ASCII, shared by every order-service instance of a database
+    static final long LOCK_KEY = 0x6f72646572737663L;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final List<Runnable> acquiredListeners = new CopyOnWriteArrayList<>();
+
+    @Value("${order.single-instance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.single-instance.check-interval-ms:10000}")
+    private long checkIntervalMs;
+
+    private volatile boolean exclusive;
+    // Only touched by the thread calling acquire, then by the checker thread
+    private Connection connection;
+    private ScheduledExecutorService checker;
+
+    public SingleInstanceLock(DataSourceProperties dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    /**
+     * Takes the lock if it is free and keeps checking it (or retrying it) in the background.
+     */
+    @PostConstruct
+    public void acquire() {
+        String url = dataSourceProperties.determineUrl();
+        if (!enabled) {
+            log.warn("order.single-instance.enabled=false: in-memory order views are turned off");
+            return;
+        }
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            exclusive = true;
+            return;
+        }
+
+        exclusive = tryAcquire();
+        if (exclusive) {
+            log.info("Single-instance lock taken");
+        } else {
+            log.warn("Another order-service instance holds the single-instance lock: in-memory order views "
+                    + "are turned off until it is released, retrying every {} ms", checkIntervalMs);
+        }
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "single-instance-lock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return true while this instance is known to be the only one writing orders
+     */
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    /**
+     * Registers a callback run, on the lock thread, every time the lock is taken after
+     * startup, just before {@link #isExclusive()} turns true. Not run when the lock is
+     * taken at startup.
+     *
+     * @param listener Callback to run
+     */
+    public void onAcquired(Runnable listener) {
+        acquiredListeners.add(listener);
+    }
+
+    @PreDestroy
+    public void release() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+        // Closing the session releases the lock
+        closeConnection();
+    }
+
+    void check() {
+        if (!exclusive) {
+            if (tryAcquire()) {
+                // Views invalidate what they served meanwhile before they are trusted again
+                for (Runnable listener : acquiredListeners) {
+                    try {
+                        listener.run();
+                    } catch (RuntimeException ex) {
+                        log.warn("Single-instance lock listener failed: {}", ex.getMessage());
+                    }
+                }
+                exclusive = true;
+                log.info("Single-instance lock taken: in-memory order views are turned back on");
+            }
+            return;
+        }
+        try {
+            if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return;
+            }
+        } catch (SQLException ex) {
+            log.debug("Single-instance lock check failed: {}", ex.getMessage());
+        }
+        exclusive = false;
+        closeConnection();
+        log.error("Single-instance lock connection lost: in-memory order views are turned off until "
+                + "the lock is taken again");
+    }
+
+    Connection connect() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    boolean tryLock(Connection lockConnection) throws SQLException {
+        try (PreparedStatement statement = lockConnection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            if (connection == null) {
+                connection = connect();
+            }
+            return tryLock(connection);
+        } catch (SQLException ex) {
+            log.warn("Could not take the single-instance lock: {}", ex.getMessage());
+            closeConnection();
+            return false;
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Single-instance lock connection did not close cleanly: {}", ex.getMessage());
+        }
+        connection = null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate id generator producing time-ordered UUIDv7 values (RFC 9562).
+ *
+ * Layout: 48-bit Unix epoch milliseconds, version 7, a 12-bit sequence and 62 random bits.
+ * The sequence is incremented for ids created within the same millisecond, so ids issued
+ * by one instance are strictly increasing even if the clock stalls or steps back. New
+ * rows therefore land on the right-hand edge of the primary key B-tree instead of random
+ * pages. Existing random (v4) ids stay valid: both are plain values of the uuid column.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    private final Clock clock;
+    private final Random random;
+    /** Last issued (timestamp << 12 | sequence). */
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    /**
+     * Used by Hibernate for each identifier annotated with {@link UuidV7}.
+     */
+    public UuidV7Generator() {
+        this(Clock.systemUTC(), new SecureRandom());
+    }
+
+    UuidV7Generator(Clock clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        return nextUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    UUID nextUuid() {
+        long candidate = clock.millis() << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = lastTimestampAndSequence.get();
+            // Sequence overflow carries into the timestamp, which keeps ids monotonic.
+            next = Math.max(candidate, previous + 1);
+        } while (!lastTimestampAndSequence.compareAndSet(previous, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long mostSigBits = (timestamp << 16) | VERSION_7 | (next & SEQUENCE_MASK);
+        long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,39 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for idempotency key persistence.
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Deletes keys whose retention period has ended.
+     *
+     * @param now current time
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+
+    /**
+     * Deletes one key if its retention period has ended, so it can be used again.
+     *
+     * @param key idempotency key
+     * @param now current time
+     * @return number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.key = :key AND k.expiresAt <= :now")
+    int deleteExpired(String key, LocalDateTime now);
+}
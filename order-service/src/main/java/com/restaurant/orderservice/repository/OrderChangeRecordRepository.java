@@ -0,0 +1,45 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.OrderChangeRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository interface for the spilled part of the order change log.
+ */
+@Repository
+public interface OrderChangeRecordRepository extends JpaRepository<OrderChangeRecord, Long> {
+
+    /**
+     * @return Highest version ever spilled, or null when the log is empty
+     */
+    @Query("SELECT MAX(r.version) FROM OrderChangeRecord r")
+    Long findMaxVersion();
+
+    /**
+     * Reads the changes strictly between two versions, in version order.
+     * Served by the primary key index.
+     *
+     * @param after Exclusive lower bound
+     * @param before Exclusive upper bound
+     * @return The changes in (after, before)
+     */
+    @Query("SELECT r FROM OrderChangeRecord r WHERE r.version > :after AND r.version < :before ORDER BY r.version")
+    List<OrderChangeRecord> findBetween(long after, long before);
+
+    /**
+     * Deletes the changes up to a version.
+     *
+     * @param version Inclusive upper bound
+     * @return number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderChangeRecord r WHERE r.version <= :version")
+    int deleteUpTo(long version);
+}
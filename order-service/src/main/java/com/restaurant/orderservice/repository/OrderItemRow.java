@@ -0,0 +1,30 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat read-only projection of one order item joined with its order.
+ *
+ * Read through JPQL constructor expressions, so no Order or OrderItem entity is created,
+ * tracked by the persistence context or dirty-checked. An order without items yields a
+ * single row whose item columns are null.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderItemRow {
+
+    private final UUID orderId;
+    private final Integer tableId;
+    private final OrderStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long itemId;
+    private final Long productId;
+    private final Integer quantity;
+    private final String note;
+}
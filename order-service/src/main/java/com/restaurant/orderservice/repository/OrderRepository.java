@@ -2,13 +2,22 @@ package com.restaurant.orderservice.repository;
 
 import com.restaurant.orderservice.entity.Order;
 import com.restaurant.orderservice.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity operations.
@@ -55,14 +64,16 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     // ============================================
     // Soft Delete Aware Methods
     // ============================================
+    // List queries fetch items in the same statement, so mapping a list of N orders
+    // costs one query instead of 1 + N lazy item loads.
     
     /**
      * Finds all active (non-deleted) orders.
      * Excludes orders marked as soft-deleted.
      * 
-     * @return List of active orders
+     * @return List of active orders, with their items loaded
      */
-    @Query("SELECT o FROM Order o WHERE o.deleted = false")
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.deleted = false")
     List<Order> findAllActive();
     
     /**
@@ -80,9 +91,9 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
      * Excludes soft-deleted orders.
      * 
      * @param status Order status to filter by
-     * @return List of active orders with the specified status
+     * @return List of active orders with the specified status, with their items loaded
      */
-    @Query("SELECT o FROM Order o WHERE o.status = :status AND o.deleted = false")
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.status = :status AND o.deleted = false")
     List<Order> findByStatusActive(OrderStatus status);
     
     /**
@@ -90,11 +101,163 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
      * Excludes soft-deleted orders.
      * 
      * @param statuses List of order statuses to include
-     * @return List of active orders matching any of the specified statuses
+     * @return List of active orders matching any of the specified statuses, with their items loaded
      */
-    @Query("SELECT o FROM Order o WHERE o.status IN :statuses AND o.deleted = false")
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.status IN :statuses AND o.deleted = false")
     List<Order> findByStatusInActive(List<OrderStatus> statuses);
     
+    // ============================================
+    // Keyset Pagination (GET /orders)
+    // ============================================
+    // Pages are read in two constant-cost steps: the ids of the next page in (createdAt, id)
+    // order, served by the partial keyset indexes of V11, then those orders with their items.
+    // Fetch joining items directly would make Hibernate paginate in memory.
+    
+    /**
+     * Returns the ids of the first page of active orders.
+     * 
+     * @param page Page size (limit) to read
+     * @return Order ids sorted by createdAt, id
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.deleted = false ORDER BY o.createdAt, o.id")
+    List<UUID> findActiveIds(Pageable page);
+    
+    /**
+     * Returns the ids of the active orders that follow the given keyset position.
+     * 
+     * @param createdAt createdAt of the last order of the previous page
+     * @param id id of the last order of the previous page
+     * @param page Page size (limit) to read
+     * @return Order ids sorted by createdAt, id
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.deleted = false " +
+           "AND (o.createdAt > :createdAt OR (o.createdAt = :createdAt AND o.id > :id)) " +
+           "ORDER BY o.createdAt, o.id")
+    List<UUID> findActiveIdsAfter(LocalDateTime createdAt, UUID id, Pageable page);
+    
+    /**
+     * Returns the ids of the first page of active orders with any of the given statuses.
+     * 
+     * @param statuses List of order statuses to include
+     * @param page Page size (limit) to read
+     * @return Order ids sorted by createdAt, id
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.deleted = false " +
+           "ORDER BY o.createdAt, o.id")
+    List<UUID> findActiveIdsByStatusIn(List<OrderStatus> statuses, Pageable page);
+    
+    /**
+     * Returns the ids of the active orders with any of the given statuses that follow
+     * the given keyset position.
+     * 
+     * @param statuses List of order statuses to include
+     * @param createdAt createdAt of the last order of the previous page
+     * @param id id of the last order of the previous page
+     * @param page Page size (limit) to read
+     * @return Order ids sorted by createdAt, id
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.deleted = false " +
+           "AND (o.createdAt > :createdAt OR (o.createdAt = :createdAt AND o.id > :id)) " +
+           "ORDER BY o.createdAt, o.id")
+    List<UUID> findActiveIdsByStatusInAfter(List<OrderStatus> statuses, LocalDateTime createdAt, UUID id,
+                                            Pageable page);
+    
+    // ============================================
+    // Read-only Projections
+    // ============================================
+    
+    // Items are also matched on the partition key, so each order's items are read from
+    // the partition of its month only
+    String ORDER_ITEM_ROW = "SELECT new com.restaurant.orderservice.repository.OrderItemRow(" +
+            "o.id, o.tableId, o.status, o.createdAt, o.updatedAt, i.id, i.productId, i.quantity, i.note) " +
+            "FROM Order o LEFT JOIN o.items i ON i.orderCreatedAt = o.createdAt ";
+    
+    /**
+     * Reads the given orders and their items as flat rows, without creating entities.
+     * 
+     * @param ids Order ids, typically one page returned by the keyset queries
+     * @return One row per item (or per order without items), sorted by createdAt, order id, item id
+     */
+    @Query(ORDER_ITEM_ROW + "WHERE o.id IN :ids ORDER BY o.createdAt, o.id, i.id")
+    List<OrderItemRow> findRowsByIdIn(Collection<UUID> ids);
+    
+    /**
+     * Rows fetched per round trip by the streaming queries. Within a transaction the
+     * PostgreSQL driver then reads through a server-side cursor instead of buffering the
+     * whole result.
+     */
+    String STREAM_FETCH_SIZE = "500";
+    
+    /**
+     * Streams every active order and its items as flat rows, without creating entities.
+     * Must be consumed within a transaction and closed.
+     * 
+     * @return One row per item (or per order without items), sorted by createdAt, order id, item id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(ORDER_ITEM_ROW + "WHERE o.deleted = false ORDER BY o.createdAt, o.id, i.id")
+    Stream<OrderItemRow> streamActiveRows();
+    
+    /**
+     * Streams the active orders with any of the given statuses as flat rows.
+     * Must be consumed within a transaction and closed.
+     * 
+     * @param statuses Statuses to include
+     * @return One row per item (or per order without items), sorted by createdAt, order id, item id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(ORDER_ITEM_ROW + "WHERE o.status IN :statuses AND o.deleted = false ORDER BY o.createdAt, o.id, i.id")
+    Stream<OrderItemRow> streamActiveRowsByStatusIn(List<OrderStatus> statuses);
+    
+    /**
+     * Reads an active order and its items as flat rows, without creating entities.
+     * 
+     * @param id Order UUID
+     * @return One row per item, or an empty list if the order doesn't exist or is deleted
+     */
+    @Query(ORDER_ITEM_ROW + "WHERE o.id = :id AND o.deleted = false ORDER BY i.id")
+    List<OrderItemRow> findActiveRowsById(UUID id);
+    
+    // ============================================
+    // Bulk Soft Delete (DELETE /orders)
+    // ============================================
+    // Active orders are soft-deleted in chunks of consecutive ids, walked through the
+    // primary key index. Each chunk is one set-based UPDATE in its own short transaction,
+    // taking its row locks in id order.
+    
+    /**
+     * Returns the first chunk of active order ids, in id order.
+     * 
+     * @param page Chunk size (limit) to read
+     * @return Order ids sorted by id
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.deleted = false ORDER BY o.id")
+    List<UUID> findActiveIdsInIdOrder(Pageable page);
+    
+    /**
+     * Returns the next chunk of active order ids after the given one, in id order.
+     * 
+     * @param id Last id of the previous chunk
+     * @param page Chunk size (limit) to read
+     * @return Order ids sorted by id
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.deleted = false AND o.id > :id ORDER BY o.id")
+    List<UUID> findActiveIdsInIdOrderAfter(UUID id, Pageable page);
+    
+    /**
+     * Soft-deletes the given orders with a single UPDATE, skipping those already deleted.
+     * Runs in its own transaction and bypasses the persistence context.
+     * 
+     * @param ids Order ids, typically one chunk returned by the queries above
+     * @param deletedAt Deletion timestamp, also written as updatedAt
+     * @return number of orders soft-deleted by this call
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Order o SET o.deleted = true, o.deletedAt = :deletedAt, o.updatedAt = :deletedAt " +
+           "WHERE o.id IN :ids AND o.deleted = false")
+    int markDeletedByIdIn(Collection<UUID> ids, LocalDateTime deletedAt);
+    
     /**
      * Counts all active (non-deleted) orders.
      * 
@@ -0,0 +1,45 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for outbox event persistence.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the oldest pending events for relaying. Dead events are never pending again.
+     * Rows locked by another relay instance are skipped (FOR UPDATE SKIP LOCKED on PostgreSQL),
+     * so several order-service instances can drain the outbox concurrently.
+     *
+     * @param pageable batch size
+     * @return pending events in relay order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> lockPendingBatch(Pageable pageable);
+
+    /**
+     * Deletes events published before the given instant.
+     *
+     * @param threshold publication cutoff
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :threshold")
+    int deletePublishedBefore(LocalDateTime threshold);
+}
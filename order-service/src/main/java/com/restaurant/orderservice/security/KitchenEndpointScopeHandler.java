@@ -27,6 +27,15 @@ public class KitchenEndpointScopeHandler extends AbstractKitchenSecurityHandler
         if ("GET".equalsIgnoreCase(method) && "/orders".equals(uri)) {
             return true;
         }
+        if ("GET".equalsIgnoreCase(method) && "/orders/stream".equals(uri)) {
+            return true;
+        }
+        if ("GET".equalsIgnoreCase(method) && "/orders/changes".equals(uri)) {
+            return true;
+        }
+        if ("GET".equalsIgnoreCase(method) && PATH_MATCHER.match("/orders/delete-jobs/*", uri)) {
+            return true;
+        }
         if ("DELETE".equalsIgnoreCase(method) && "/orders".equals(uri)) {
             return true;
         }
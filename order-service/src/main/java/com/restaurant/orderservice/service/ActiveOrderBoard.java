@@ -0,0 +1,346 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderPage;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Write-through, in-memory board of the active (non-deleted) orders, indexed by status.
+ *
+ * Every non-deleted order is PENDING, IN_PREPARATION or READY, so the board holds all of
+ * them as ready-made {@link OrderResponse}s, each status in its own map sorted by
+ * (createdAt, id) like GET /orders. Readers never lock: the maps are concurrent and a
+ * response is never modified once it is on the board.
+ *
+ * The board is loaded from the database once the application is ready and then kept
+ * up to date from the changes committed by OrderService ({@link OrderChangeTracker}).
+ * Changes committed while the initial load runs are buffered and applied on top of it;
+ * each change carries the full order, so applying one twice is harmless.
+ *
+ * While other instances may write orders ({@link OrderChangeTracker#seesAllChanges()})
+ * the board is not loaded. A RESYNC change, reported once this instance takes the
+ * {@link SingleInstanceLock}, (re)loads it in the background from scratch.
+ *
+ * Until the board is ready, when order.board.enabled=false, once it grows past
+ * order.board.max-orders, or whenever other instances may write orders,
+ * {@link #isReady()} is false and callers read the database.
+ *
+ * Metrics: order.board.orders.
+ */
+@Component
+@Slf4j
+public class ActiveOrderBoard {
+
+    private static final Comparator<UUID> UUID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    // Same order as the keyset queries: PostgreSQL compares uuids as unsigned bytes
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing(Key::createdAt)
+            .thenComparing(Key::id, UUID_ORDER);
+
+    private enum State { WAITING, LOADING, READY, DISABLED }
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderChangeTracker orderChangeTracker;
+    private final int maxOrders;
+    private final Executor loader;
+
+    private final Map<UUID, OrderResponse> byId = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, NavigableMap<Key, OrderResponse>> byStatus = new EnumMap<>(OrderStatus.class);
+    private final List<OrderChangedEvent> pending = new ArrayList<>();
+
+    private volatile State state;
+    // Guarded by this: a load only applies if no RESYNC restarted the board meanwhile
+    private long generation;
+    private boolean started;
+
+    @Autowired
+    public ActiveOrderBoard(OrderRepository orderRepository,
+                            OrderMapper orderMapper,
+                            OrderChangeTracker orderChangeTracker,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.board.enabled:true}") boolean enabled,
+                            @Value("${order.board.max-orders:20000}") int maxOrders) {
+        this(orderRepository, orderMapper, orderChangeTracker, meterRegistry, enabled, maxOrders,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "order-board-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ActiveOrderBoard(OrderRepository orderRepository, OrderMapper orderMapper,
+                     OrderChangeTracker orderChangeTracker, MeterRegistry meterRegistry,
+                     boolean enabled, int maxOrders, Executor loader) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.orderChangeTracker = orderChangeTracker;
+        this.maxOrders = maxOrders;
+        this.loader = loader;
+        this.state = enabled ? State.LOADING : State.DISABLED;
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListMap<>(KEY_ORDER));
+        }
+        Gauge.builder("order.board.orders", byId, Map::size)
+                .description("Active orders held in memory by the order board")
+                .register(meterRegistry);
+        // Registered before the initial load so no change committed meanwhile is lost
+        orderChangeTracker.addListener(this::onOrderChange);
+    }
+
+    /**
+     * Loads the active orders from the database and starts serving reads.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            started = true;
+            if (state != State.LOADING) {
+                return;
+            }
+            if (!orderChangeTracker.seesAllChanges()) {
+                log.info("Active order board waiting for the single-instance lock: other instances may write orders");
+                state = State.WAITING;
+                pending.clear();
+                return;
+            }
+        }
+        reload();
+    }
+
+    /**
+     * Reads the active orders and applies the changes buffered meanwhile, unless a RESYNC
+     * restarted the board in between.
+     */
+    void reload() {
+        long loading;
+        synchronized (this) {
+            if (state != State.LOADING) {
+                return;
+            }
+            loading = generation;
+        }
+
+        List<OrderResponse> orders;
+        try {
+            orders = orderMapper.mapToOrderResponseList(orderRepository.findAllActive());
+        } catch (RuntimeException ex) {
+            log.warn("Active order board could not be loaded, orders will be read from the database: {}",
+                    ex.getMessage());
+            disable();
+            return;
+        }
+
+        synchronized (this) {
+            if (state != State.LOADING || generation != loading) {
+                return;
+            }
+            orders.forEach(this::put);
+            pending.forEach(this::apply);
+            pending.clear();
+            if (byId.size() > maxOrders) {
+                log.warn("Active order board disabled: {} active orders exceed order.board.max-orders={}",
+                        byId.size(), maxOrders);
+                disable();
+                return;
+            }
+            state = State.READY;
+        }
+        log.info("Active order board loaded with {} orders", byId.size());
+    }
+
+    /**
+     * @return true once the board is loaded and serving reads
+     */
+    public boolean isReady() {
+        // Losing the single-instance lock makes the board stale from then on
+        return state == State.READY && orderChangeTracker.seesAllChanges();
+    }
+
+    /**
+     * Reads every active order with any of the given statuses, sorted by (createdAt, id).
+     *
+     * @param status Statuses to include; null or empty includes all of them
+     * @return The matching orders
+     */
+    public List<OrderResponse> getOrders(List<OrderStatus> status) {
+        return collect(status, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads one keyset page with the same semantics as the database path of
+     * {@link OrderService#getOrdersPage}.
+     *
+     * @param status Statuses to include; null or empty includes all of them
+     * @param after Position after which the page starts, or null for the first page
+     * @param pageSize Maximum number of orders in the page
+     * @return The page of orders and the cursor of the next page (null on the last page)
+     */
+    OrderPage getOrdersPage(List<OrderStatus> status, OrderCursor after, int pageSize) {
+        // Read one extra order to know whether another page follows
+        List<OrderResponse> orders = collect(status, after, pageSize + 1);
+        boolean hasMore = orders.size() > pageSize;
+        List<OrderResponse> page = hasMore ? orders.subList(0, pageSize) : orders;
+
+        return OrderPage.builder()
+                .orders(page)
+                .nextCursor(hasMore ? OrderCursor.after(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    void onOrderChange(long version, OrderChangedEvent event) {
+        synchronized (this) {
+            if (event.getType() == OrderChangedEvent.Type.RESYNC) {
+                resync();
+                return;
+            }
+            if (state == State.LOADING) {
+                pending.add(event);
+                return;
+            }
+            if (state != State.READY) {
+                return;
+            }
+            apply(event);
+            if (byId.size() > maxOrders) {
+                log.warn("Active order board disabled: {} active orders exceed order.board.max-orders={}",
+                        byId.size(), maxOrders);
+                disable();
+            }
+        }
+    }
+
+    private List<OrderResponse> collect(List<OrderStatus> status, OrderCursor after, int limit) {
+        Collection<OrderStatus> statuses = status == null || status.isEmpty()
+                ? byStatus.keySet()
+                : EnumSet.copyOf(status);
+        Key from = after == null ? null : new Key(after.getCreatedAt(), after.getId());
+
+        List<Map.Entry<Key, OrderResponse>> candidates = new ArrayList<>();
+        for (OrderStatus orderStatus : statuses) {
+            NavigableMap<Key, OrderResponse> orders = byStatus.get(orderStatus);
+            if (from != null) {
+                orders = orders.tailMap(from, false);
+            }
+            int taken = 0;
+            for (Map.Entry<Key, OrderResponse> entry : orders.entrySet()) {
+                if (taken++ == limit) {
+                    break;
+                }
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Map.Entry.comparingByKey(KEY_ORDER));
+
+        // While an order moves between statuses a reader may see it in both maps:
+        // the copies are adjacent once sorted and the newer one wins
+        List<OrderResponse> result = new ArrayList<>(Math.min(candidates.size(), limit));
+        for (Map.Entry<Key, OrderResponse> candidate : candidates) {
+            OrderResponse order = candidate.getValue();
+            int last = result.size() - 1;
+            if (last >= 0 && result.get(last).getId().equals(order.getId())) {
+                if (isNewer(order, result.get(last))) {
+                    result.set(last, order);
+                }
+                continue;
+            }
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(order);
+        }
+        return result;
+    }
+
+    private void apply(OrderChangedEvent event) {
+        if (event.getType() == OrderChangedEvent.Type.DELETED) {
+            OrderResponse previous = byId.remove(event.getOrderId());
+            if (previous != null) {
+                byStatus.get(previous.getStatus()).remove(Key.of(previous));
+            }
+        } else if (event.getOrder() != null) {
+            put(event.getOrder());
+        }
+    }
+
+    private void put(OrderResponse order) {
+        Key key = Key.of(order);
+        // Published in the new status before leaving the old one, so readers never miss it
+        byStatus.get(order.getStatus()).put(key, order);
+        OrderResponse previous = byId.put(order.getId(), order);
+        if (previous != null && previous.getStatus() != order.getStatus()) {
+            byStatus.get(previous.getStatus()).remove(Key.of(previous), previous);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loader instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private synchronized void resync() {
+        if (state == State.DISABLED) {
+            return;
+        }
+        generation++;
+        state = State.LOADING;
+        byId.clear();
+        byStatus.values().forEach(Map::clear);
+        pending.clear();
+        // Before startup, load() starts the first load itself
+        if (started) {
+            loader.execute(this::reload);
+        }
+    }
+
+    private synchronized void disable() {
+        state = State.DISABLED;
+        byId.clear();
+        byStatus.values().forEach(Map::clear);
+        pending.clear();
+    }
+
+    private static boolean isNewer(OrderResponse candidate, OrderResponse current) {
+        // Statuses only move forward
+        return candidate.getStatus().compareTo(current.getStatus()) > 0;
+    }
+
+    private record Key(LocalDateTime createdAt, UUID id) {
+
+        static Key of(OrderResponse order) {
+            return new Key(order.getCreatedAt(), order.getId());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.restaurant.orderservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.dto.CreateOrderRequest;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.entity.IdempotencyKey;
+import com.restaurant.orderservice.exception.IdempotencyKeyConflictException;
+import com.restaurant.orderservice.exception.InvalidOrderException;
+import com.restaurant.orderservice.repository.IdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key handling for POST /orders.
+ *
+ * Seen keys live in a bounded in-memory LRU with TTL, backed by the idempotency_keys table
+ * so they survive restarts and are shared between instances. A retry is answered from the
+ * LRU with a hash lookup; only a cold key costs one primary key read. Keys are recorded in
+ * the order's transaction and only cached after it commits.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Map<String, CachedResponse> cache;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${order.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${order.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Looks up the response previously returned for this key.
+     *
+     * @param key Idempotency-Key header value
+     * @param request Current request body
+     * @return The stored response if the key was already used with the same request
+     * @throws IdempotencyKeyConflictException if the key was used with a different request
+     * @throws InvalidOrderException if the key is blank or too long
+     */
+    public Optional<OrderResponse> findReplay(String key, CreateOrderRequest request) {
+        validateKey(key);
+        String requestHash = hash(request);
+
+        CachedResponse cached = getCached(key);
+        if (cached == null) {
+            IdempotencyKey stored = idempotencyKeyRepository.findById(key).orElse(null);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (!stored.getExpiresAt().isAfter(now)) {
+                // Expired but not purged yet: free the key, or recording it again would
+                // hit the primary key
+                idempotencyKeyRepository.deleteExpired(key, now);
+                return Optional.empty();
+            }
+            cached = toCachedResponse(stored);
+            putCached(key, cached);
+        }
+
+        if (!cached.requestHash.equals(requestHash)) {
+            throw new IdempotencyKeyConflictException(key);
+        }
+        log.info("Replaying response for Idempotency-Key {}: orderId={}", key, cached.response.getId());
+        return Optional.of(cached.response);
+    }
+
+    /**
+     * Records the response created for a key. Must run inside the transaction that created
+     * the order, so the key and the order commit (or roll back) together.
+     *
+     * @param key Idempotency-Key header value
+     * @param request Request body the order was created from
+     * @param response Response returned for the request
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String key, CreateOrderRequest request, OrderResponse response) {
+        validateKey(key);
+        LocalDateTime now = LocalDateTime.now();
+        CachedResponse cached = new CachedResponse(hash(request), response, now.plus(ttl));
+
+        idempotencyKeyRepository.save(IdempotencyKey.builder()
+                .key(key)
+                .requestHash(cached.requestHash)
+                .orderId(response.getId())
+                .response(serialize(response))
+                .createdAt(now)
+                .expiresAt(cached.expiresAt)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putCached(key, cached);
+            }
+        });
+    }
+
+    /**
+     * Removes expired keys from the table.
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private CachedResponse getCached(String key) {
+        synchronized (cache) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null && !cached.expiresAt.isAfter(LocalDateTime.now())) {
+                cache.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void putCached(String key, CachedResponse cached) {
+        synchronized (cache) {
+            cache.put(key, cached);
+        }
+    }
+
+    private CachedResponse toCachedResponse(IdempotencyKey stored) {
+        try {
+            OrderResponse response = objectMapper.readValue(stored.getResponse(), OrderResponse.class);
+            return new CachedResponse(stored.getRequestHash(), response, stored.getExpiresAt());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupted idempotency record for key " + stored.getKey(), ex);
+        }
+    }
+
+    private void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidOrderException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hash(CreateOrderRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(serialize(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize " + value.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private static final class CachedResponse {
+        private final String requestHash;
+        private final OrderResponse response;
+        private final LocalDateTime expiresAt;
+
+        private CachedResponse(String requestHash, OrderResponse response, LocalDateTime expiresAt) {
+            this.requestHash = requestHash;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
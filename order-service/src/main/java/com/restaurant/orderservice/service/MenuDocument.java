@@ -0,0 +1,105 @@
+package com.restaurant.orderservice.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /menu response body, serialized once per catalog version.
+ *
+ * Holds the JSON both as is and gzip-compressed, each with its own strong ETag (a
+ * different content-coding is a different representation). Both ETags derive from the
+ * JSON content, so they stay valid across restarts and instances as long as the menu
+ * does not change.
+ */
+public final class MenuDocument {
+
+    private final long catalogVersion;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String eTag;
+    private final String gzipETag;
+
+    private MenuDocument(long catalogVersion, byte[] json, byte[] gzip, String contentHash) {
+        this.catalogVersion = catalogVersion;
+        this.json = json;
+        this.gzip = gzip;
+        this.eTag = "\"menu-" + contentHash + "\"";
+        this.gzipETag = "\"menu-" + contentHash + "-gzip\"";
+    }
+
+    /**
+     * Builds the document, compressing the JSON and hashing it for the ETags.
+     *
+     * @param catalogVersion Version of the catalog snapshot the JSON was built from
+     * @param json Serialized list of active products
+     * @return The document
+     */
+    public static MenuDocument of(long catalogVersion, byte[] json) {
+        return new MenuDocument(catalogVersion, json, compress(json), hash(json));
+    }
+
+    /**
+     * @return Version of the catalog snapshot this document was built from
+     */
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * @return UTF-8 JSON body; must not be modified
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * @return Gzip-compressed JSON body; must not be modified
+     */
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * @return Quoted strong ETag of the uncompressed body
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return Quoted strong ETag of the gzip-compressed body
+     */
+    public String getGzipETag() {
+        return gzipETag;
+    }
+
+    private static byte[] compress(byte[] content) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+        // Compressed once per catalog change, so spend the CPU on the smallest output
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
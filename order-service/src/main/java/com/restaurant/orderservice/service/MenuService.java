@@ -1,8 +1,10 @@
 package com.restaurant.orderservice.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.orderservice.dto.ProductResponse;
 import com.restaurant.orderservice.entity.Product;
-import com.restaurant.orderservice.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -15,28 +17,71 @@ import java.util.stream.Collectors;
  * Provides business logic for retrieving active products from the menu.
  * Handles the mapping between Product entities and ProductResponse DTOs.
  * 
+ * The menu is read from the in-memory {@link ProductCatalog}, whose snapshot is swapped
+ * whenever a product row changes. GET /menu is served from a {@link MenuDocument}
+ * serialized once per snapshot, so serving it costs no query and no JSON serialization.
+ * 
  * Validates Requirements: 1.1, 1.2, 1.3
  */
 @Service
+@Slf4j
 public class MenuService {
     
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
+    private final ObjectMapper objectMapper;
+    
+    private volatile MenuDocument menuDocument;
     
     /**
      * Constructor for MenuService.
      * 
-     * @param productRepository Repository for accessing product data
+     * @param productCatalog In-memory product catalog, whose version tracks product changes
+     * @param objectMapper Mapper used for every JSON response, so the cached body is identical
      */
     @Autowired
-    public MenuService(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public MenuService(ProductCatalog productCatalog, ObjectMapper objectMapper) {
+        this.productCatalog = productCatalog;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * Returns the serialized menu, rebuilding it only if the catalog changed since it was
+     * last built.
+     * 
+     * @return Menu body of the current catalog snapshot
+     */
+    public MenuDocument getMenuDocument() {
+        ProductCatalogSnapshot snapshot = productCatalog.snapshot();
+        MenuDocument document = menuDocument;
+        if (document != null && document.getCatalogVersion() == snapshot.getVersion()) {
+            return document;
+        }
+        return rebuildMenuDocument(snapshot);
+    }
+    
+    private synchronized MenuDocument rebuildMenuDocument(ProductCatalogSnapshot snapshot) {
+        MenuDocument document = menuDocument;
+        // Another request may have rebuilt it, or a newer snapshot may already be cached
+        if (document != null && document.getCatalogVersion() >= snapshot.getVersion()) {
+            return document;
+        }
+        try {
+            document = MenuDocument.of(snapshot.getVersion(), objectMapper.writeValueAsBytes(toActiveProducts(snapshot)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Menu could not be serialized", ex);
+        }
+        menuDocument = document;
+        
+        log.info("Menu serialized: catalogVersion={}, bytes={}, gzipBytes={}",
+                snapshot.getVersion(), document.getJson().length, document.getGzip().length);
+        return document;
     }
     
     /**
      * Retrieves all active products from the menu.
      * 
-     * This method fetches all products where isActive = true from the database
-     * and maps them to ProductResponse DTOs for API consumption.
+     * This method reads all products where isActive = true from the current catalog
+     * snapshot, in id order, and maps them to ProductResponse DTOs for API consumption.
      * 
      * @return List of ProductResponse containing active products. 
      *         Returns empty list if no active products exist.
@@ -47,9 +92,12 @@ public class MenuService {
      * - 1.3: Order Service includes only products where isActive is true
      */
     public List<ProductResponse> getActiveProducts() {
-        List<Product> activeProducts = productRepository.findByIsActiveTrueOrderByIdAsc();
-        
-        return activeProducts.stream()
+        return toActiveProducts(productCatalog.snapshot());
+    }
+    
+    private List<ProductResponse> toActiveProducts(ProductCatalogSnapshot snapshot) {
+        return snapshot.asMap().values().stream()
+                .filter(product -> Boolean.TRUE.equals(product.getIsActive()))
                 .map(this::mapToProductResponse)
                 .collect(Collectors.toList());
     }
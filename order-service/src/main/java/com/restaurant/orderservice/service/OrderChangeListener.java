@@ -0,0 +1,17 @@
+package com.restaurant.orderservice.service;
+
+/**
+ * Callback for committed order changes, registered with {@link OrderChangeTracker}.
+ *
+ * Invoked on the committing thread, one change at a time and in version order, so
+ * implementations must only hand the change off and never block.
+ */
+@FunctionalInterface
+public interface OrderChangeListener {
+
+    /**
+     * @param version Version assigned to the change; consecutive changes get consecutive versions
+     * @param event The committed change
+     */
+    void onOrderChange(long version, OrderChangedEvent event);
+}
@@ -0,0 +1,330 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderChangesResponse;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.entity.OrderChangeRecord;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.repository.OrderChangeRecordRepository;
+import com.restaurant.orderservice.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Versioned log of committed order changes behind GET /orders/changes?since=version.
+ *
+ * Every change reported by {@link OrderChangeTracker} gets the next version. The most
+ * recent ring-size changes stay in memory with the order they carried; older ones are
+ * spilled in batches of spill-batch-size, by a background thread, to the
+ * order_change_log table. That table is indexed by version and keeps only the order id
+ * and change type, so spilled orders are re-read from the orders table.
+ *
+ * A client that asks for the changes after a version gets the current state of every
+ * order created or updated since, plus the ids of the orders deleted since. It is told to
+ * resync when the changes are no longer available:
+ * - the version belongs to an earlier run of the service;
+ * - more than max-changes changes have happened since;
+ * - some changes were dropped before they could be spilled.
+ *
+ * Versions start from the startup time in microseconds, or just above the highest
+ * spilled version if that is larger. Unless the service commits more than one change
+ * per microsecond on average, a version is never reused across restarts.
+ *
+ * The order_change_log table has a single writer: versions are only unique, and
+ * contiguous, within the instance that holds the {@link SingleInstanceLock}. While
+ * {@link OrderChangeTracker#seesAllChanges()} is false nothing is spilled or purged and
+ * every client is told to resync. A RESYNC change is not logged either: clients that
+ * ask for the changes after an earlier version are told to resync.
+ */
+@Component
+@Slf4j
+public class OrderChangeLog {
+
+    private final OrderChangeRecordRepository changeRecordRepository;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderChangeTracker orderChangeTracker;
+    private final int ringSize;
+    private final int spillBatchSize;
+    private final int maxChanges;
+    private final long startVersion;
+    private final Executor spiller;
+
+    // Guarded by this
+    private final Deque<Change> ring = new ArrayDeque<>();
+    private long lastVersion;
+    private long minSince;
+    private boolean spilling;
+
+    // Only touched by the spiller thread
+    private long purgedUpTo;
+
+    @Autowired
+    public OrderChangeLog(OrderChangeRecordRepository changeRecordRepository,
+                          OrderRepository orderRepository,
+                          OrderMapper orderMapper,
+                          OrderChangeTracker orderChangeTracker,
+                          @Value("${order.changes.ring-size:1000}") int ringSize,
+                          @Value("${order.changes.spill-batch-size:100}") int spillBatchSize,
+                          @Value("${order.changes.max-changes:10000}") int maxChanges) {
+        this(changeRecordRepository, orderRepository, orderMapper, orderChangeTracker,
+                ringSize, spillBatchSize, maxChanges,
+                startVersion(changeRecordRepository), Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "order-change-spill");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+        orderChangeTracker.addListener(this::onOrderChange);
+
+        log.info("Order change log started at version {}: ringSize={}, spillBatchSize={}, maxChanges={}",
+                startVersion, ringSize, spillBatchSize, maxChanges);
+    }
+
+    OrderChangeLog(OrderChangeRecordRepository changeRecordRepository, OrderRepository orderRepository,
+                   OrderMapper orderMapper, OrderChangeTracker orderChangeTracker,
+                   int ringSize, int spillBatchSize, int maxChanges, long startVersion, Executor spiller) {
+        this.changeRecordRepository = changeRecordRepository;
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.orderChangeTracker = orderChangeTracker;
+        this.ringSize = ringSize;
+        this.spillBatchSize = spillBatchSize;
+        this.maxChanges = maxChanges;
+        this.startVersion = startVersion;
+        this.spiller = spiller;
+        this.lastVersion = startVersion;
+        this.minSince = startVersion;
+        this.purgedUpTo = startVersion;
+    }
+
+    private static long startVersion(OrderChangeRecordRepository changeRecordRepository) {
+        Long spilled = changeRecordRepository.findMaxVersion();
+        long clock = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        return spilled == null ? clock : Math.max(clock, spilled + 1);
+    }
+
+    /**
+     * Reads the changes committed after a version.
+     *
+     * @param since Version returned by the previous call
+     * @return The changed orders, the deleted ids and the version to ask for next, or a
+     *         resync request when the changes after since are no longer available
+     */
+    public OrderChangesResponse getChangesSince(long since) {
+        long version;
+        long firstInMemory;
+        List<Change> recent = new ArrayList<>();
+        synchronized (this) {
+            version = lastVersion;
+            if (!orderChangeTracker.seesAllChanges()
+                    || since < minSince || since > version || version - since > maxChanges) {
+                return resync(version);
+            }
+            Iterator<Change> newestFirst = ring.descendingIterator();
+            while (newestFirst.hasNext()) {
+                Change change = newestFirst.next();
+                if (change.version <= since) {
+                    break;
+                }
+                recent.add(change);
+            }
+            firstInMemory = ring.isEmpty() ? version + 1 : ring.peekFirst().version;
+        }
+        Collections.reverse(recent);
+
+        List<Change> changes = new ArrayList<>();
+        if (since + 1 < firstInMemory) {
+            List<OrderChangeRecord> spilled = changeRecordRepository.findBetween(since, firstInMemory);
+            // Versions are contiguous: a missing one was purged or dropped meanwhile
+            if (spilled.size() != firstInMemory - since - 1) {
+                return resync(version);
+            }
+            spilled.forEach(record -> changes.add(Change.of(record)));
+        }
+        changes.addAll(recent);
+
+        return toResponse(version, changes);
+    }
+
+    void onOrderChange(long changeVersion, OrderChangedEvent event) {
+        synchronized (this) {
+            lastVersion = startVersion + changeVersion;
+            if (event.getType() == OrderChangedEvent.Type.RESYNC) {
+                // The changes before it may be incomplete: clients that saw them resync
+                ring.clear();
+                minSince = lastVersion;
+                return;
+            }
+            if (!orderChangeTracker.seesAllChanges()) {
+                // Another instance may be writing: the changes here are incomplete, and
+                // spilling them would mix versions with its own in order_change_log
+                ring.clear();
+                minSince = lastVersion;
+                return;
+            }
+            ring.addLast(new Change(lastVersion, event.getType(), event.getOrderId(), event.getOrder(),
+                    LocalDateTime.now()));
+
+            if (ring.size() > ringSize + 2 * spillBatchSize) {
+                // Spilling fails or falls behind: forget the oldest change rather than grow
+                Change dropped = ring.removeFirst();
+                minSince = Math.max(minSince, dropped.version);
+            }
+            if (!spilling && ring.size() >= ringSize + spillBatchSize) {
+                spilling = true;
+                spiller.execute(this::spill);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (spiller instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes the oldest changes to order_change_log until only ring-size are left in memory.
+     */
+    void spill() {
+        while (true) {
+            List<Change> batch = new ArrayList<>(spillBatchSize);
+            synchronized (this) {
+                if (ring.size() < ringSize + spillBatchSize || !orderChangeTracker.seesAllChanges()) {
+                    spilling = false;
+                    return;
+                }
+                Iterator<Change> oldestFirst = ring.iterator();
+                while (batch.size() < spillBatchSize) {
+                    batch.add(oldestFirst.next());
+                }
+            }
+
+            long spilledUpTo = batch.get(batch.size() - 1).version;
+            long purgeUpTo = spilledUpTo - maxChanges;
+            try {
+                changeRecordRepository.saveAll(batch.stream().map(Change::toRecord).toList());
+                if (purgeUpTo > purgedUpTo) {
+                    // Changes that old are never served, asking for them means resync
+                    changeRecordRepository.deleteUpTo(purgeUpTo);
+                    purgedUpTo = purgeUpTo;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Order change log spill failed, keeping changes in memory: {}", ex.getMessage());
+                synchronized (this) {
+                    spilling = false;
+                }
+                return;
+            }
+
+            synchronized (this) {
+                while (!ring.isEmpty() && ring.peekFirst().version <= spilledUpTo) {
+                    ring.removeFirst();
+                }
+                minSince = Math.max(minSince, purgedUpTo);
+            }
+        }
+    }
+
+    synchronized int inMemoryCount() {
+        return ring.size();
+    }
+
+    private OrderChangesResponse toResponse(long version, List<Change> changes) {
+        // Only the latest change of each order matters, in the order they happened
+        Map<UUID, Change> latest = new LinkedHashMap<>();
+        for (Change change : changes) {
+            latest.remove(change.orderId);
+            latest.put(change.orderId, change);
+        }
+
+        List<UUID> toLoad = latest.values().stream()
+                .filter(change -> change.type != OrderChangedEvent.Type.DELETED && change.order == null)
+                .map(change -> change.orderId)
+                .toList();
+        Map<UUID, OrderResponse> loaded = toLoad.isEmpty()
+                ? Map.of()
+                : orderMapper.mapRowsToOrderResponses(orderRepository.findRowsByIdIn(toLoad)).stream()
+                        .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+
+        List<OrderResponse> orders = new ArrayList<>();
+        List<UUID> deletedIds = new ArrayList<>();
+        for (Change change : latest.values()) {
+            if (change.type == OrderChangedEvent.Type.DELETED) {
+                deletedIds.add(change.orderId);
+            } else {
+                OrderResponse order = change.order != null ? change.order : loaded.get(change.orderId);
+                if (order != null) {
+                    orders.add(order);
+                }
+            }
+        }
+
+        return OrderChangesResponse.builder()
+                .version(version)
+                .resyncRequired(false)
+                .orders(orders)
+                .deletedIds(deletedIds)
+                .build();
+    }
+
+    private static OrderChangesResponse resync(long version) {
+        return OrderChangesResponse.builder()
+                .version(version)
+                .resyncRequired(true)
+                .orders(List.of())
+                .deletedIds(List.of())
+                .build();
+    }
+
+    private static final class Change {
+        private final long version;
+        private final OrderChangedEvent.Type type;
+        private final UUID orderId;
+        private final OrderResponse order;
+        private final LocalDateTime changedAt;
+
+        private Change(long version, OrderChangedEvent.Type type, UUID orderId, OrderResponse order,
+                       LocalDateTime changedAt) {
+            this.version = version;
+            this.type = type;
+            this.orderId = orderId;
+            this.order = order;
+            this.changedAt = changedAt;
+        }
+
+        private static Change of(OrderChangeRecord record) {
+            return new Change(record.getVersion(), OrderChangedEvent.Type.valueOf(record.getChangeType()),
+                    record.getOrderId(), null, record.getChangedAt());
+        }
+
+        private OrderChangeRecord toRecord() {
+            return OrderChangeRecord.builder()
+                    .version(version)
+                    .orderId(orderId)
+                    .changeType(type.name())
+                    .changedAt(changedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of the order data served by this instance.
+ *
+ * The version is bumped after every committed {@link OrderChangedEvent}, never before,
+ * so a reader that captures the version before querying can never tag fresh data with
+ * an old version: at worst it tags old data with the previous version and the next
+ * conditional request misses. GET /orders and GET /orders/{id} derive their ETags
+ * from it.
+ *
+ * Each committed change is also handed, with its version, to the registered
+ * {@link OrderChangeListener}s, in version order.
+ *
+ * The tracker only sees the changes committed by this process. Views built on it are
+ * complete only while {@link #seesAllChanges()}, i.e. while this instance holds the
+ * {@link SingleInstanceLock}; changes made by hand in the database are never seen and
+ * need a restart. When the lock is taken after startup, a RESYNC change is reported
+ * first: its version invalidates every ETag served meanwhile, and the views reload.
+ */
+@Component
+@Slf4j
+public class OrderChangeTracker {
+
+    private final SingleInstanceLock singleInstanceLock;
+    private final AtomicLong version = new AtomicLong();
+    private final List<OrderChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public OrderChangeTracker(SingleInstanceLock singleInstanceLock) {
+        this.singleInstanceLock = singleInstanceLock;
+        singleInstanceLock.onAcquired(() -> onOrderChanged(OrderChangedEvent.resync()));
+    }
+
+    /**
+     * Bumps the version once the transaction that changed an order has committed.
+     * Events published outside a transaction bump it immediately.
+     *
+     * @param event The order change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onOrderChanged(OrderChangedEvent event) {
+        long changeVersion = version.incrementAndGet();
+        for (OrderChangeListener listener : listeners) {
+            try {
+                listener.onOrderChange(changeVersion, event);
+            } catch (RuntimeException ex) {
+                log.warn("Order change listener failed for version {}: {}", changeVersion, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Registers a listener for the changes committed from now on.
+     *
+     * @param listener Listener to notify
+     */
+    public void addListener(OrderChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return true if no other instance writes orders, so every change goes through this tracker
+     */
+    public boolean seesAllChanges() {
+        return singleInstanceLock.isExclusive();
+    }
+
+    /**
+     * @return Current version of the order data
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+}
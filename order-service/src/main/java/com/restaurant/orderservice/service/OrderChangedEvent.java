@@ -0,0 +1,48 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * In-process application event published by {@link OrderService} whenever an order is
+ * created, changes status or is soft-deleted.
+ *
+ * RESYNC, without order, tells the views built on {@link OrderChangeTracker} that the
+ * changes before it may not all have been reported, so they reload from the database.
+ * It is reported when the single-instance lock is taken, and after a bulk delete
+ * instead of one DELETED change per order.
+ *
+ * Published inside the writing transaction; listeners that expose state to readers
+ * (such as {@link OrderChangeTracker}) should react after commit only.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class OrderChangedEvent {
+
+    public enum Type {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED,
+        RESYNC
+    }
+
+    private final Type type;
+    private final UUID orderId;
+
+    /**
+     * State of the order after the change; null for DELETED and RESYNC.
+     */
+    private final OrderResponse order;
+
+    /**
+     * @return A RESYNC event
+     */
+    public static OrderChangedEvent resync() {
+        return new OrderChangedEvent(Type.RESYNC, null, null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.exception.InvalidOrderException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (createdAt, id) order of GET /orders.
+ *
+ * Clients only see it as an opaque URL-safe token; the content is not part of the API.
+ */
+final class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    OrderCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    static OrderCursor after(OrderResponse order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    /**
+     * @param token Token previously returned as next cursor
+     * @return The decoded position
+     * @throws InvalidOrderException if the token was not produced by {@link #encode()}
+     */
+    static OrderCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new OrderCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidOrderException("Invalid cursor: " + token);
+        }
+    }
+
+    String encode() {
+        String value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    UUID getId() {
+        return id;
+    }
+}
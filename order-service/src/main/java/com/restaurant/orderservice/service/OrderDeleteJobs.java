@@ -0,0 +1,149 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderDeleteJobResponse;
+import com.restaurant.orderservice.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs DELETE /orders in the background when the board is large.
+ *
+ * With more than order.bulk-delete.async-threshold active orders the reset is handed to a
+ * single background thread and the request returns at once with a job to poll; smaller
+ * boards are deleted within the request. Only one job runs at a time: asking again while
+ * it runs returns the same job. The last few finished jobs are kept for polling.
+ */
+@Component
+@Slf4j
+public class OrderDeleteJobs {
+
+    private static final int RETAINED_JOBS = 16;
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final long asyncThreshold;
+    private final Executor executor;
+
+    // Guarded by this
+    private final Map<UUID, Job> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Job> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+    private Job running;
+
+    @Autowired
+    public OrderDeleteJobs(OrderService orderService,
+                           OrderRepository orderRepository,
+                           @Value("${order.bulk-delete.async-threshold:5000}") long asyncThreshold) {
+        this(orderService, orderRepository, asyncThreshold, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-bulk-delete");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    OrderDeleteJobs(OrderService orderService, OrderRepository orderRepository, long asyncThreshold,
+                    Executor executor) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.asyncThreshold = asyncThreshold;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a background job when the board is large or a job is already running.
+     *
+     * @return The running job, or empty when the caller should delete the orders itself
+     */
+    public Optional<OrderDeleteJobResponse> startIfLarge() {
+        synchronized (this) {
+            if (running != null) {
+                return Optional.of(running.toResponse());
+            }
+        }
+        if (orderRepository.countActive() <= asyncThreshold) {
+            return Optional.empty();
+        }
+
+        Job job;
+        synchronized (this) {
+            if (running != null) {
+                return Optional.of(running.toResponse());
+            }
+            job = new Job(UUID.randomUUID());
+            jobs.put(job.id, job);
+            running = job;
+        }
+        log.info("Soft-deleting all active orders in background job: jobId={}", job.id);
+        executor.execute(() -> run(job));
+        return Optional.of(job.toResponse());
+    }
+
+    /**
+     * @param id Job id returned when the job was started
+     * @return The job's current state, or empty if unknown or no longer retained
+     */
+    public synchronized Optional<OrderDeleteJobResponse> find(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::toResponse);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void run(Job job) {
+        OrderDeleteJobResponse.Status status = OrderDeleteJobResponse.Status.FAILED;
+        try {
+            job.deletedCount = orderService.deleteAllOrders(deleted -> job.deletedCount = deleted);
+            status = OrderDeleteJobResponse.Status.COMPLETED;
+        } catch (RuntimeException ex) {
+            log.error("Background deletion of all orders failed: jobId={}, deletedCount={}",
+                    job.id, job.deletedCount, ex);
+        } finally {
+            synchronized (this) {
+                job.finishedAt = LocalDateTime.now();
+                job.status = status;
+                running = null;
+            }
+        }
+    }
+
+    private static final class Job {
+        private final UUID id;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile OrderDeleteJobResponse.Status status = OrderDeleteJobResponse.Status.RUNNING;
+        private volatile long deletedCount;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(UUID id) {
+            this.id = id;
+        }
+
+        private OrderDeleteJobResponse toResponse() {
+            return OrderDeleteJobResponse.builder()
+                    .id(id)
+                    .status(status)
+                    .deletedCount(deletedCount)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
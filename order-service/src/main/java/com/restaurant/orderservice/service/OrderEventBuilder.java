@@ -4,7 +4,6 @@ import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
 import com.restaurant.orderservice.domain.event.OrderReadyDomainEvent;
 import com.restaurant.orderservice.entity.Order;
 import com.restaurant.orderservice.entity.Product;
-import com.restaurant.orderservice.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -14,7 +13,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,11 +26,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderEventBuilder {
     
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
     
     /**
      * Builds an OrderPlacedDomainEvent from an Order entity.
-     * Enriches each item with product name and price from the catalog.
+     * Enriches each item with product name and price from the in-memory catalog snapshot.
      * 
      * @param order The Order entity to convert to an event
      * @return OrderPlacedDomainEvent ready to be published through the output port
@@ -40,13 +38,7 @@ public class OrderEventBuilder {
     public OrderPlacedDomainEvent buildOrderPlacedEvent(Order order) {
         log.debug("Building OrderPlacedDomainEvent for order {}", order.getId());
         
-        // Batch-fetch products for enrichment
-        List<Long> productIds = order.getItems().stream()
-                .map(item -> item.getProductId())
-                .collect(Collectors.toList());
-        
-        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, Product> productMap = productCatalog.snapshot().asMap();
         
         List<OrderPlacedDomainEvent.OrderItemData> eventItems = order.getItems().stream()
                 .map(item -> {
@@ -5,47 +5,45 @@ import com.restaurant.orderservice.dto.OrderResponse;
 import com.restaurant.orderservice.entity.Order;
 import com.restaurant.orderservice.entity.OrderItem;
 import com.restaurant.orderservice.entity.Product;
-import com.restaurant.orderservice.repository.ProductRepository;
+import com.restaurant.orderservice.repository.OrderItemRow;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Mapper for converting between Order entities and DTOs.
  * 
  * Single Responsibility: Handles all mapping logic between domain entities and DTOs.
- * Optimized to avoid N+1 query problem by batch loading products.
+ * Product names are resolved from the in-memory ProductCatalog, so mapping never queries products.
  */
 @Component
 @Slf4j
 public class OrderMapper {
     
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
     
-    public OrderMapper(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    public OrderMapper(ProductCatalog productCatalog) {
+        this.productCatalog = productCatalog;
     }
     
     /**
      * Maps an Order entity to an OrderResponse DTO.
-     * Optimized to avoid N+1 queries by batch loading all products.
+     * Product names are taken from the current catalog snapshot.
      * 
      * @param order The Order entity to map
      * @return OrderResponse DTO with complete order information
      */
     public OrderResponse mapToOrderResponse(Order order) {
-        // Batch load all products to avoid N+1 query problem
-        List<Long> productIds = order.getItems().stream()
-                .map(OrderItem::getProductId)
-                .distinct()
-                .collect(Collectors.toList());
-        
-        Map<Long, Product> productsMap = productRepository.findAllById(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, product -> product));
-        
+        return mapToOrderResponse(order, productCatalog.snapshot().asMap());
+    }
+    
+    private OrderResponse mapToOrderResponse(Order order, Map<Long, Product> productsMap) {
         List<OrderItemResponse> itemResponses = order.getItems().stream()
                 .map(item -> mapToOrderItemResponse(item, productsMap))
                 .collect(Collectors.toList());
@@ -63,35 +61,94 @@ public class OrderMapper {
     
     /**
      * Maps an OrderItem entity to an OrderItemResponse DTO.
-     * Uses pre-loaded products map to avoid N+1 queries.
+     * Uses the catalog snapshot map to resolve the product name.
      * 
      * @param orderItem The OrderItem entity to map
      * @param productsMap Map of product IDs to Product entities
      * @return OrderItemResponse DTO with order item information including product name
      */
     private OrderItemResponse mapToOrderItemResponse(OrderItem orderItem, Map<Long, Product> productsMap) {
-        Product product = productsMap.get(orderItem.getProductId());
-        String productName = product != null ? product.getName() : "Producto desconocido";
-        
         return OrderItemResponse.builder()
                 .id(orderItem.getId())
                 .productId(orderItem.getProductId())
-                .productName(productName)
+                .productName(productName(orderItem.getProductId(), productsMap))
                 .quantity(orderItem.getQuantity())
                 .note(orderItem.getNote())
                 .build();
     }
     
+    /**
+     * Assembles OrderResponse DTOs from flat order/item rows.
+     * Rows of the same order must be contiguous; orders keep the order of the rows.
+     * 
+     * @param rows Rows read by the OrderRepository projection queries
+     * @return One OrderResponse per distinct order
+     */
+    public List<OrderResponse> mapRowsToOrderResponses(List<OrderItemRow> rows) {
+        List<OrderResponse> responses = new ArrayList<>();
+        forEachOrder(rows.iterator(), responses::add);
+        return responses;
+    }
+    
+    /**
+     * Assembles OrderResponse DTOs from flat order/item rows and hands each one over as
+     * soon as its last row has been read, so only one order is held at a time.
+     * Rows of the same order must be contiguous.
+     * 
+     * @param rows Rows read by the OrderRepository projection queries, possibly streamed
+     * @param consumer Receives the orders in the order of the rows
+     */
+    public void forEachOrder(Iterator<OrderItemRow> rows, Consumer<OrderResponse> consumer) {
+        Map<Long, Product> productsMap = productCatalog.snapshot().asMap();
+        OrderResponse current = null;
+        
+        while (rows.hasNext()) {
+            OrderItemRow row = rows.next();
+            if (current == null || !current.getId().equals(row.getOrderId())) {
+                if (current != null) {
+                    consumer.accept(current);
+                }
+                current = OrderResponse.builder()
+                        .id(row.getOrderId())
+                        .tableId(row.getTableId())
+                        .status(row.getStatus())
+                        .items(new ArrayList<>())
+                        .createdAt(row.getCreatedAt())
+                        .updatedAt(row.getUpdatedAt())
+                        .build();
+            }
+            if (row.getItemId() != null) {
+                current.getItems().add(OrderItemResponse.builder()
+                        .id(row.getItemId())
+                        .productId(row.getProductId())
+                        .productName(productName(row.getProductId(), productsMap))
+                        .quantity(row.getQuantity())
+                        .note(row.getNote())
+                        .build());
+            }
+        }
+        if (current != null) {
+            consumer.accept(current);
+        }
+    }
+    
     /**
      * Maps a list of Order entities to OrderResponse DTOs.
-     * Optimized for batch operations.
+     * Optimized for batch operations: the catalog snapshot is resolved once for the
+     * whole list, and items are expected to be fetched with the orders.
      * 
      * @param orders List of Order entities
      * @return List of OrderResponse DTOs
      */
     public List<OrderResponse> mapToOrderResponseList(List<Order> orders) {
+        Map<Long, Product> productsMap = productCatalog.snapshot().asMap();
         return orders.stream()
-                .map(this::mapToOrderResponse)
+                .map(order -> mapToOrderResponse(order, productsMap))
                 .collect(Collectors.toList());
     }
+    
+    private String productName(Long productId, Map<Long, Product> productsMap) {
+        Product product = productsMap.get(productId);
+        return product != null ? product.getName() : "Producto desconocido";
+    }
 }
@@ -0,0 +1,108 @@
+package com.restaurant.orderservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-stage timers of the order write pipeline used by {@link OrderService}.
+ *
+ * Every stage of createOrder, createOrders and updateOrderStatus is timed in
+ * order.pipeline.stage{operation, stage, outcome} with a percentile histogram, so the
+ * stage behind a latency regression shows up directly in Prometheus. repository.save only
+ * persists in memory; the INSERT/UPDATE statements run in the commit stage, which is timed
+ * from before commit to completion of the surrounding transaction.
+ *
+ * Metrics: order.pipeline.stage{operation, stage, outcome},
+ * order.pipeline.publish.failures{operation}.
+ */
+@Component
+class OrderPipelineMetrics {
+
+    static final String CREATE = "create";
+    static final String CREATE_BATCH = "create_batch";
+    static final String UPDATE_STATUS = "update_status";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> publishFailures = new ConcurrentHashMap<>();
+
+    OrderPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs one stage and records its duration, with outcome "error" if it throws.
+     */
+    <T> T time(String operation, String stage, Supplier<T> body) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = body.get();
+            outcome = "success";
+            return result;
+        } finally {
+            record(operation, stage, outcome, System.nanoTime() - start);
+        }
+    }
+
+    void time(String operation, String stage, Runnable body) {
+        time(operation, stage, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Times the commit of the current transaction, flush included, as the commit stage.
+     * Does nothing outside a transaction.
+     */
+    void timeCommit(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long start;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (start != 0) {
+                    record(operation, "commit", status == STATUS_COMMITTED ? "success" : "error",
+                            System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    void publishFailed(String operation) {
+        publishFailures.computeIfAbsent(operation, key -> Counter.builder("order.pipeline.publish.failures")
+                        .description("Event publications that failed inside the request")
+                        .tag("operation", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private void record(String operation, String stage, String outcome, long nanos) {
+        timers.computeIfAbsent(operation + '/' + stage + '/' + outcome, key -> Timer.builder("order.pipeline.stage")
+                        .description("Duration of each stage of the order write pipeline")
+                        .tag("operation", operation)
+                        .tag("stage", stage)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
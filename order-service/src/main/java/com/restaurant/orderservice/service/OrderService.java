@@ -8,20 +8,38 @@ import com.restaurant.orderservice.domain.event.OrderReadyDomainEvent;
 import com.restaurant.orderservice.entity.Order;
 import com.restaurant.orderservice.entity.OrderItem;
 import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.InvalidOrderException;
 import com.restaurant.orderservice.exception.OrderNotFoundException;
+import com.restaurant.orderservice.exception.ProductNotFoundException;
+import com.restaurant.orderservice.infrastructure.persistence.ReplicaRead;
+import com.restaurant.orderservice.repository.OrderItemRow;
 import com.restaurant.orderservice.repository.OrderRepository;
+import com.restaurant.orderservice.service.command.OrderCommand;
 import com.restaurant.orderservice.service.command.OrderCommandExecutor;
 import com.restaurant.orderservice.service.command.PublishOrderPlacedEventCommand;
+import com.restaurant.orderservice.service.command.PublishOrderPlacedEventsCommand;
 import com.restaurant.orderservice.service.command.PublishOrderReadyEventCommand;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for managing order operations.
@@ -46,6 +64,24 @@ public class OrderService {
     private final OrderPlacedEventPublisherPort orderPlacedEventPublisherPort;
     private final OrderReadyEventPublisherPort orderReadyEventPublisherPort;
     private final OrderCommandExecutor orderCommandExecutor;
+    private final ProductCatalog productCatalog;
+    private final IdempotencyService idempotencyService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ActiveOrderBoard activeOrderBoard;
+    private final TransactionTemplate readOnlyTransaction;
+    private final OrderPipelineMetrics pipelineMetrics;
+    
+    @Value("${order.batch.max-size:100}")
+    private int maxBatchSize;
+    
+    @Value("${order.pagination.default-limit:50}")
+    private int defaultPageLimit;
+    
+    @Value("${order.pagination.max-limit:200}")
+    private int maxPageLimit;
+    
+    @Value("${order.bulk-delete.chunk-size:500}")
+    private int bulkDeleteChunkSize;
     
     /**
      * Constructor for OrderService.
@@ -57,6 +93,12 @@ public class OrderService {
      * @param orderPlacedEventPublisherPort Output port for publishing order placed events
      * @param orderReadyEventPublisherPort Output port for publishing order ready events
      * @param orderCommandExecutor Executor for order-related commands
+     * @param productCatalog In-memory product catalog used to validate order batches
+     * @param idempotencyService Store of Idempotency-Key responses
+     * @param applicationEventPublisher Publisher of in-process {@link OrderChangedEvent}s
+     * @param activeOrderBoard In-memory board of active orders serving GET /orders
+     * @param transactionManager Opens the read-only transaction of GET /orders when the board is not ready
+     * @param pipelineMetrics Per-stage timers of the order write pipeline
      */
     @Autowired
     public OrderService(OrderRepository orderRepository, 
@@ -65,7 +107,13 @@ public class OrderService {
                        OrderEventBuilder orderEventBuilder,
                        OrderPlacedEventPublisherPort orderPlacedEventPublisherPort,
                        OrderReadyEventPublisherPort orderReadyEventPublisherPort,
-                       OrderCommandExecutor orderCommandExecutor) {
+                       OrderCommandExecutor orderCommandExecutor,
+                       ProductCatalog productCatalog,
+                       IdempotencyService idempotencyService,
+                       ApplicationEventPublisher applicationEventPublisher,
+                       ActiveOrderBoard activeOrderBoard,
+                       PlatformTransactionManager transactionManager,
+                       OrderPipelineMetrics pipelineMetrics) {
         this.orderRepository = orderRepository;
         this.orderValidator = orderValidator;
         this.orderMapper = orderMapper;
@@ -73,6 +121,13 @@ public class OrderService {
         this.orderPlacedEventPublisherPort = orderPlacedEventPublisherPort;
         this.orderReadyEventPublisherPort = orderReadyEventPublisherPort;
         this.orderCommandExecutor = orderCommandExecutor;
+        this.productCatalog = productCatalog;
+        this.idempotencyService = idempotencyService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.activeOrderBoard = activeOrderBoard;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pipelineMetrics = pipelineMetrics;
     }
     
     /**
@@ -84,7 +139,8 @@ public class OrderService {
      * 3. Creates an Order entity with status PENDING
      * 4. Creates associated OrderItem entities
      * 5. Persists the order to the database
-     * 6. Publishes a versioned order.placed domain event to RabbitMQ
+     * 6. Publishes a versioned order.placed domain event (stored in the outbox within this
+     *    transaction and relayed to RabbitMQ by OutboxRelay)
      * 7. Returns the created order as an OrderResponse
      * 
      * @param request CreateOrderRequest containing tableId and list of items
@@ -102,45 +158,139 @@ public class OrderService {
      * - 2.7: Rejects order if tableId is missing or invalid
      * - 2.8: Rejects order if items list is empty
      * - 3.1: Publishes "order.placed" event to RabbitMQ after successful creation
+     * 
+     * Each stage is timed in order.pipeline.stage{operation=create} (see {@link OrderPipelineMetrics}).
      */
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Creating order for table {}", request.getTableId());
+        pipelineMetrics.timeCommit(OrderPipelineMetrics.CREATE);
         
         // Delegate validation to OrderValidator
-        orderValidator.validateCreateOrderRequest(request);
+        pipelineMetrics.time(OrderPipelineMetrics.CREATE, "validate",
+                () -> orderValidator.validateCreateOrderRequest(request));
         
-        // Create Order entity
-        Order order = new Order();
-        order.setTableId(request.getTableId());
-        order.setStatus(OrderStatus.PENDING);
-        
-        // Create OrderItem entities and associate with order
-        List<OrderItem> orderItems = request.getItems().stream()
-                .map(itemRequest -> {
-                    OrderItem orderItem = new OrderItem();
-                    orderItem.setOrder(order);
-                    orderItem.setProductId(itemRequest.getProductId());
-                    orderItem.setQuantity(itemRequest.getQuantity());
-                    orderItem.setNote(itemRequest.getNote());
-                    return orderItem;
-                })
-                .collect(Collectors.toList());
-        
-        order.setItems(orderItems);
+        Order order = buildOrder(request);
         
         // Save order to database (timestamps are set automatically by @PrePersist)
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = pipelineMetrics.time(OrderPipelineMetrics.CREATE, "save",
+                () -> orderRepository.save(order));
         
         log.info("Order created successfully: orderId={}, tableId={}, itemCount={}", 
                 savedOrder.getId(), savedOrder.getTableId(), savedOrder.getItems().size());
         
         // Build and publish domain event through output port
-        OrderPlacedDomainEvent event = orderEventBuilder.buildOrderPlacedEvent(savedOrder);
-        orderCommandExecutor.execute(new PublishOrderPlacedEventCommand(orderPlacedEventPublisherPort, event));
+        OrderPlacedDomainEvent event = pipelineMetrics.time(OrderPipelineMetrics.CREATE, "build_event",
+                () -> orderEventBuilder.buildOrderPlacedEvent(savedOrder));
+        publish(OrderPipelineMetrics.CREATE, new PublishOrderPlacedEventCommand(orderPlacedEventPublisherPort, event));
         
         // Delegate mapping to OrderMapper
-        return orderMapper.mapToOrderResponse(savedOrder);
+        OrderResponse response = pipelineMetrics.time(OrderPipelineMetrics.CREATE, "map",
+                () -> orderMapper.mapToOrderResponse(savedOrder));
+        publishChange(OrderChangedEvent.Type.CREATED, response);
+        return response;
+    }
+    
+    /**
+     * Creates a new order and records its response under the given Idempotency-Key,
+     * in the same transaction, so retries of the request can be answered without
+     * creating a duplicate order.
+     * 
+     * @param request CreateOrderRequest containing tableId and list of items
+     * @param idempotencyKey Idempotency-Key header value, or null
+     * @return OrderResponse with the created order details
+     */
+    @Transactional
+    public OrderResponse createOrder(CreateOrderRequest request, String idempotencyKey) {
+        OrderResponse response = createOrder(request);
+        if (idempotencyKey != null) {
+            pipelineMetrics.time(OrderPipelineMetrics.CREATE, "idempotency_record",
+                    () -> idempotencyService.record(idempotencyKey, request, response));
+        }
+        return response;
+    }
+    
+    /**
+     * Creates several orders in one transaction.
+     * 
+     * All entries are validated against a single catalog snapshot. Entries that fail
+     * validation are reported as rejected without affecting the others; valid orders are
+     * persisted together (JDBC-batched) and their order.placed events published as one
+     * batch. A database failure still rolls back the whole batch.
+     * 
+     * Each stage is timed once for the whole batch in
+     * order.pipeline.stage{operation=create_batch} (see {@link OrderPipelineMetrics}).
+     * 
+     * @param requests Orders to create, at most order.batch.max-size
+     * @return Per-order results in request order
+     * @throws InvalidOrderException if the batch is empty or too large
+     */
+    @Transactional
+    public BatchCreateOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidOrderException("Batch must contain at least one order");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidOrderException(
+                    String.format("Batch must not contain more than %d orders", maxBatchSize));
+        }
+        log.info("Creating batch of {} orders", requests.size());
+        pipelineMetrics.timeCommit(OrderPipelineMetrics.CREATE_BATCH);
+        
+        BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderIndexes = new ArrayList<>();
+        
+        pipelineMetrics.time(OrderPipelineMetrics.CREATE_BATCH, "validate", () -> {
+            ProductCatalogSnapshot catalog = productCatalog.snapshot();
+            for (int i = 0; i < requests.size(); i++) {
+                CreateOrderRequest request = requests.get(i);
+                try {
+                    orderValidator.validateCreateOrderRequest(request, catalog);
+                    orders.add(buildOrder(request));
+                    orderIndexes.add(i);
+                } catch (InvalidOrderException ex) {
+                    results[i] = rejected(i, HttpStatus.BAD_REQUEST, ex.getMessage());
+                } catch (ProductNotFoundException ex) {
+                    results[i] = rejected(i, HttpStatus.NOT_FOUND, ex.getMessage());
+                }
+            }
+        });
+        
+        List<Order> savedOrders = orders.isEmpty()
+                ? List.of()
+                : pipelineMetrics.time(OrderPipelineMetrics.CREATE_BATCH, "save", () -> orderRepository.saveAll(orders));
+        
+        if (!savedOrders.isEmpty()) {
+            List<OrderPlacedDomainEvent> events = pipelineMetrics.time(OrderPipelineMetrics.CREATE_BATCH, "build_event",
+                    () -> savedOrders.stream()
+                            .map(orderEventBuilder::buildOrderPlacedEvent)
+                            .collect(Collectors.toList()));
+            publish(OrderPipelineMetrics.CREATE_BATCH,
+                    new PublishOrderPlacedEventsCommand(orderPlacedEventPublisherPort, events));
+        }
+        
+        List<OrderResponse> responses = pipelineMetrics.time(OrderPipelineMetrics.CREATE_BATCH, "map",
+                () -> orderMapper.mapToOrderResponseList(savedOrders));
+        responses.forEach(response -> publishChange(OrderChangedEvent.Type.CREATED, response));
+        for (int i = 0; i < responses.size(); i++) {
+            int index = orderIndexes.get(i);
+            results[index] = BatchOrderResult.builder()
+                    .index(index)
+                    .status(BatchOrderResult.CREATED)
+                    .order(responses.get(i))
+                    .build();
+        }
+        
+        log.info("Order batch processed: created={}, rejected={}",
+                savedOrders.size(), requests.size() - savedOrders.size());
+        
+        return BatchCreateOrderResponse.builder()
+                .total(requests.size())
+                .created(savedOrders.size())
+                .rejected(requests.size() - savedOrders.size())
+                .results(Arrays.asList(results))
+                .build();
     }
     
     /**
@@ -160,11 +310,12 @@ public class OrderService {
     public OrderResponse getOrderById(UUID orderId) {
         log.info("Retrieving order by id: {}", orderId);
         
-        Order order = orderRepository.findByIdActive(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
-        
-        // Delegate mapping to OrderMapper
-        return orderMapper.mapToOrderResponse(order);
+        // Read-only projection: no entities are loaded into the persistence context
+        List<OrderResponse> orders = orderMapper.mapRowsToOrderResponses(orderRepository.findActiveRowsById(orderId));
+        if (orders.isEmpty()) {
+            throw new OrderNotFoundException(orderId);
+        }
+        return orders.get(0);
     }
     
     /**
@@ -181,22 +332,129 @@ public class OrderService {
      * - 5.1: Order Service exposes GET /orders with optional status parameter
      * - 5.2: Returns only orders matching the specified status when provided
      * - Soft Delete: Excludes deleted orders (Copilot Instructions Section 4)
+     * 
+     * Served from the {@link ActiveOrderBoard} without touching the database once it is
+     * ready; otherwise read in a read-only transaction, which board reads never open.
+     * That transaction stays on the primary, never on the read replica: the response gets
+     * the ETag of the current change version, and a lagging copy cached under it would
+     * be answered with 304 until the next change.
      */
-    @Transactional(readOnly = true)
     public List<OrderResponse> getOrders(List<OrderStatus> status) {
         log.info("Retrieving orders with status filter: {}", status);
         
-        List<Order> orders;
-        if (status == null || status.isEmpty()) {
-            // Return all active orders (exclude deleted)
-            orders = orderRepository.findAllActive();
+        if (activeOrderBoard.isReady()) {
+            return activeOrderBoard.getOrders(status);
+        }
+        
+        return readOnlyTransaction.execute(transaction -> {
+            List<Order> orders;
+            if (status == null || status.isEmpty()) {
+                // Return all active orders (exclude deleted)
+                orders = orderRepository.findAllActive();
+            } else {
+                // Return active orders filtered by any of the provided statuses
+                orders = orderRepository.findByStatusInActive(status);
+            }
+            
+            // Delegate mapping to OrderMapper (optimized for batch)
+            return orderMapper.mapToOrderResponseList(orders);
+        });
+    }
+    
+    /**
+     * Retrieves one keyset page of active orders, optionally filtered by status.
+     * 
+     * Orders are sorted by (createdAt, id). Once the {@link ActiveOrderBoard} is ready the
+     * page is read from memory without a database call; otherwise each page costs one index
+     * range scan for the ids and one query for those orders with their items, whatever the
+     * number of orders. Both queries share one read-only transaction, so the second one sees
+     * the orders the first one selected. Like {@link #getOrders}, it reads the primary.
+     * 
+     * @param status Optional OrderStatus filter (can be null or empty)
+     * @param cursor Opaque cursor returned with the previous page, or null for the first page
+     * @param limit Page size; null uses order.pagination.default-limit, larger values are
+     *              capped at order.pagination.max-limit
+     * @return The page of orders and the cursor of the next page (null on the last page)
+     * @throws InvalidOrderException if the cursor is malformed or the limit is not positive
+     */
+    public OrderPage getOrdersPage(List<OrderStatus> status, String cursor, Integer limit) {
+        int pageSize = resolvePageLimit(limit);
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        log.info("Retrieving orders page: status={}, limit={}, cursor={}", status, pageSize, cursor);
+        
+        if (activeOrderBoard.isReady()) {
+            return activeOrderBoard.getOrdersPage(status, after, pageSize);
+        }
+        return readOnlyTransaction.execute(transaction -> readOrdersPage(status, after, pageSize));
+    }
+    
+    private OrderPage readOrdersPage(List<OrderStatus> status, OrderCursor after, int pageSize) {
+        boolean filtered = status != null && !status.isEmpty();
+        // Read one extra id to know whether another page follows
+        Pageable page = PageRequest.of(0, pageSize + 1);
+        List<UUID> ids;
+        if (after == null) {
+            ids = filtered
+                    ? orderRepository.findActiveIdsByStatusIn(status, page)
+                    : orderRepository.findActiveIds(page);
         } else {
-            // Return active orders filtered by any of the provided statuses
-            orders = orderRepository.findByStatusInActive(status);
+            ids = filtered
+                    ? orderRepository.findActiveIdsByStatusInAfter(status, after.getCreatedAt(), after.getId(), page)
+                    : orderRepository.findActiveIdsAfter(after.getCreatedAt(), after.getId(), page);
         }
         
-        // Delegate mapping to OrderMapper (optimized for batch)
-        return orderMapper.mapToOrderResponseList(orders);
+        boolean hasMore = ids.size() > pageSize;
+        List<UUID> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        
+        // Read-only projection: rows are assembled into responses without creating entities
+        List<OrderResponse> orders = pageIds.isEmpty()
+                ? List.of()
+                : orderMapper.mapRowsToOrderResponses(orderRepository.findRowsByIdIn(pageIds));
+        
+        String nextCursor = hasMore && !orders.isEmpty()
+                ? OrderCursor.after(orders.get(orders.size() - 1)).encode()
+                : null;
+        
+        return OrderPage.builder()
+                .orders(orders)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Streams active orders, optionally filtered by status, to a consumer one at a time.
+     * 
+     * Rows are read through a forward-only cursor (fetch size
+     * {@value OrderRepository#STREAM_FETCH_SIZE}) and each order is handed over as soon as
+     * its items have been read, so memory use does not depend on the number of orders.
+     * The transaction, and the cursor, stay open until the consumer has seen every order.
+     * 
+     * @param status Optional OrderStatus filter (can be null or empty)
+     * @param consumer Receives the orders sorted by (createdAt, id); exceptions it throws
+     *                 stop the stream and propagate
+     * 
+     * The export may be served by the read replica, so it can miss changes of the last
+     * order.datasource.replica.max-lag-ms milliseconds.
+     */
+    @ReplicaRead
+    public void streamOrders(List<OrderStatus> status, Consumer<OrderResponse> consumer) {
+        log.info("Streaming orders with status filter: {}", status);
+        
+        try (Stream<OrderItemRow> rows = status == null || status.isEmpty()
+                ? orderRepository.streamActiveRows()
+                : orderRepository.streamActiveRowsByStatusIn(status)) {
+            orderMapper.forEachOrder(rows.iterator(), consumer);
+        }
+    }
+    
+    private int resolvePageLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageLimit;
+        }
+        if (limit < 1) {
+            throw new InvalidOrderException("Limit must be a positive integer");
+        }
+        return Math.min(limit, maxPageLimit);
     }
     
     /**
@@ -215,12 +473,16 @@ public class OrderService {
      * - 6.2: Updates order status and updatedAt timestamp
      * - Security: Validates status transition before applying (Copilot Instructions Section 4)
      * - Soft Delete: Only updates active orders (Copilot Instructions Section 4)
+     * 
+     * Each stage is timed in order.pipeline.stage{operation=update_status}.
      */
     @Transactional
     public OrderResponse updateOrderStatus(UUID orderId, OrderStatus newStatus) {
         log.info("Updating order status: orderId={}, newStatus={}", orderId, newStatus);
+        pipelineMetrics.timeCommit(OrderPipelineMetrics.UPDATE_STATUS);
         
-        Order order = orderRepository.findByIdActive(orderId)
+        Order order = pipelineMetrics.time(OrderPipelineMetrics.UPDATE_STATUS, "load",
+                () -> orderRepository.findByIdActive(orderId))
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
         
         // ⚠️ SECURITY: Validate status transition (Backend Enforcement)
@@ -229,17 +491,65 @@ public class OrderService {
         order.updateStatus(newStatus);
         
         // updatedAt is automatically updated by @PreUpdate
-        Order updatedOrder = orderRepository.save(order);
+        Order updatedOrder = pipelineMetrics.time(OrderPipelineMetrics.UPDATE_STATUS, "save",
+                () -> orderRepository.save(order));
         
         log.info("Order status updated successfully: orderId={}, status={}", 
                 updatedOrder.getId(), updatedOrder.getStatus());
         
         if (newStatus == OrderStatus.READY) {
-            OrderReadyDomainEvent readyEvent = orderEventBuilder.buildOrderReadyEvent(updatedOrder);
-            orderCommandExecutor.execute(new PublishOrderReadyEventCommand(orderReadyEventPublisherPort, readyEvent));
+            OrderReadyDomainEvent readyEvent = pipelineMetrics.time(OrderPipelineMetrics.UPDATE_STATUS, "build_event",
+                    () -> orderEventBuilder.buildOrderReadyEvent(updatedOrder));
+            publish(OrderPipelineMetrics.UPDATE_STATUS,
+                    new PublishOrderReadyEventCommand(orderReadyEventPublisherPort, readyEvent));
         }
         
-        return orderMapper.mapToOrderResponse(updatedOrder);
+        OrderResponse response = pipelineMetrics.time(OrderPipelineMetrics.UPDATE_STATUS, "map",
+                () -> orderMapper.mapToOrderResponse(updatedOrder));
+        publishChange(OrderChangedEvent.Type.STATUS_CHANGED, response);
+        return response;
+    }
+
+    private Order buildOrder(CreateOrderRequest request) {
+        Order order = new Order();
+        order.setTableId(request.getTableId());
+        order.setStatus(OrderStatus.PENDING);
+        
+        List<OrderItem> orderItems = request.getItems().stream()
+                .map(itemRequest -> {
+                    OrderItem orderItem = new OrderItem();
+                    orderItem.setOrder(order);
+                    orderItem.setProductId(itemRequest.getProductId());
+                    orderItem.setQuantity(itemRequest.getQuantity());
+                    orderItem.setNote(itemRequest.getNote());
+                    return orderItem;
+                })
+                .collect(Collectors.toList());
+        
+        order.setItems(orderItems);
+        return order;
+    }
+    
+    private void publish(String operation, OrderCommand command) {
+        try {
+            pipelineMetrics.time(operation, "publish", () -> orderCommandExecutor.execute(command));
+        } catch (RuntimeException ex) {
+            pipelineMetrics.publishFailed(operation);
+            throw ex;
+        }
+    }
+    
+    private void publishChange(OrderChangedEvent.Type type, OrderResponse response) {
+        applicationEventPublisher.publishEvent(new OrderChangedEvent(type, response.getId(), response));
+    }
+    
+    private BatchOrderResult rejected(int index, HttpStatus status, String message) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .status(BatchOrderResult.REJECTED)
+                .errorStatus(status.value())
+                .error(message)
+                .build();
     }
 
     /**
@@ -266,6 +576,8 @@ public class OrderService {
         // ⚠️ SECURITY: Soft delete instead of hard delete (Backend Enforcement)
         order.markAsDeleted();
         orderRepository.save(order);
+        applicationEventPublisher.publishEvent(
+                new OrderChangedEvent(OrderChangedEvent.Type.DELETED, order.getId(), null));
         
         log.info("Order soft-deleted successfully: orderId={}, deletedAt={}", 
                 orderId, order.getDeletedAt());
@@ -277,6 +589,12 @@ public class OrderService {
      * Orders are not physically removed from the database.
      * Instead, they are marked as deleted for audit purposes.
      * 
+     * Works set-based: the active orders are walked in id order in chunks of
+     * order.bulk-delete.chunk-size, each soft-deleted by one UPDATE in its own short
+     * transaction, so no order is loaded and no lock is held across chunks.
+     * Once done, or if it fails midway, a single RESYNC change is reported instead of one
+     * DELETED change per order: the board reloads and stream clients get one snapshot.
+     * 
      * Cumple con Copilot Instructions:
      * - Sección 4: Security - Destructive Operations
      * - "Implementar soft delete (campo is_deleted, deleted_at, etc.)"
@@ -284,18 +602,41 @@ public class OrderService {
      *
      * @return number of soft-deleted orders
      */
-    @Transactional
     public long deleteAllOrders() {
-        List<Order> activeOrders = orderRepository.findAllActive();
-        long count = activeOrders.size();
+        return deleteAllOrders(deleted -> { });
+    }
+    
+    /**
+     * Soft-deletes all active orders, reporting progress after each chunk.
+     * 
+     * @param progress Receives the number of orders soft-deleted so far after each chunk
+     * @return number of soft-deleted orders
+     */
+    public long deleteAllOrders(LongConsumer progress) {
+        Pageable chunk = PageRequest.of(0, bulkDeleteChunkSize);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        long count = 0;
         
-        log.info("Soft-deleting all active orders: count={}", count);
+        log.info("Soft-deleting all active orders: chunkSize={}", bulkDeleteChunkSize);
         
         // ⚠️ SECURITY: Soft delete instead of hard delete (Backend Enforcement)
-        activeOrders.forEach(order -> {
-            order.markAsDeleted();
-            orderRepository.save(order);
-        });
+        try {
+            List<UUID> ids = orderRepository.findActiveIdsInIdOrder(chunk);
+            while (!ids.isEmpty()) {
+                count += orderRepository.markDeletedByIdIn(ids, deletedAt);
+                progress.accept(count);
+                if (ids.size() < bulkDeleteChunkSize) {
+                    break;
+                }
+                ids = orderRepository.findActiveIdsInIdOrderAfter(ids.get(ids.size() - 1), chunk);
+            }
+        } finally {
+            // Chunks already committed; thousands of DELETED changes would overflow the
+            // stream client buffers and the change log
+            if (count > 0) {
+                applicationEventPublisher.publishEvent(OrderChangedEvent.resync());
+            }
+        }
         
         log.info("All active orders soft-deleted successfully: count={}", count);
         return count;
@@ -5,7 +5,8 @@ import com.restaurant.orderservice.dto.OrderItemRequest;
 import com.restaurant.orderservice.entity.Product;
 import com.restaurant.orderservice.exception.InvalidOrderException;
 import com.restaurant.orderservice.exception.ProductNotFoundException;
-import com.restaurant.orderservice.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -14,15 +15,30 @@ import org.springframework.stereotype.Component;
  * 
  * Single Responsibility: Validates order creation requests according to business rules.
  * Separated from OrderService to follow SRP and improve testability.
+ * 
+ * Metrics: order.products.lookups{result=found|missing|inactive}, one per validated item.
  */
 @Component
 @Slf4j
 public class OrderValidator {
     
-    private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
+    private final Counter productsFound;
+    private final Counter productsMissing;
+    private final Counter productsInactive;
+    
+    public OrderValidator(ProductCatalog productCatalog, MeterRegistry meterRegistry) {
+        this.productCatalog = productCatalog;
+        this.productsFound = productLookups(meterRegistry, "found");
+        this.productsMissing = productLookups(meterRegistry, "missing");
+        this.productsInactive = productLookups(meterRegistry, "inactive");
+    }
     
-    public OrderValidator(ProductRepository productRepository) {
-        this.productRepository = productRepository;
+    private static Counter productLookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.products.lookups")
+                .description("Catalog lookups of the products referenced by order items")
+                .tag("result", result)
+                .register(meterRegistry);
     }
     
     /**
@@ -33,11 +49,30 @@ public class OrderValidator {
      * @throws ProductNotFoundException if any product doesn't exist or is inactive
      */
     public void validateCreateOrderRequest(CreateOrderRequest request) {
+        validateCreateOrderRequest(request, productCatalog.snapshot());
+    }
+    
+    /**
+     * Validates a create order request against the given catalog snapshot.
+     * Used by batch creation so that every order of a batch is checked against the
+     * same catalog version. Also enforces the item constraints that bean validation
+     * covers on the single-order endpoint, since batch entries are validated one by one.
+     * 
+     * @param request The order request to validate
+     * @param catalog Catalog snapshot to validate products against
+     * @throws InvalidOrderException if validation fails
+     * @throws ProductNotFoundException if any product doesn't exist or is inactive
+     */
+    public void validateCreateOrderRequest(CreateOrderRequest request, ProductCatalogSnapshot catalog) {
+        if (request == null) {
+            throw new InvalidOrderException("Order request is required");
+        }
         log.debug("Validating order request for table {}", request.getTableId());
         
         validateTableId(request.getTableId());
         validateItemsList(request.getItems());
-        validateProducts(request.getItems());
+        validateItemFields(request.getItems());
+        validateProducts(request.getItems(), catalog);
     }
     
     private void validateTableId(Integer tableId) {
@@ -53,14 +88,33 @@ public class OrderValidator {
     }
     
     
-    private void validateProducts(java.util.List<OrderItemRequest> items) {
+    private void validateItemFields(java.util.List<OrderItemRequest> items) {
         for (OrderItemRequest itemRequest : items) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(itemRequest.getProductId()));
-            
+            if (itemRequest == null || itemRequest.getProductId() == null) {
+                throw new InvalidOrderException("Product ID is required");
+            }
+            if (itemRequest.getQuantity() == null || itemRequest.getQuantity() < 1) {
+                throw new InvalidOrderException("Quantity must be at least 1");
+            }
+        }
+    }
+    
+    /**
+     * Validates every referenced product against a single catalog snapshot,
+     * so the whole request is checked against one consistent catalog version.
+     */
+    private void validateProducts(java.util.List<OrderItemRequest> items, ProductCatalogSnapshot catalog) {
+        for (OrderItemRequest itemRequest : items) {
+            Product product = catalog.findById(itemRequest.getProductId()).orElse(null);
+            if (product == null) {
+                productsMissing.increment();
+                throw new ProductNotFoundException(itemRequest.getProductId());
+            }
             if (!product.getIsActive()) {
+                productsInactive.increment();
                 throw new ProductNotFoundException(itemRequest.getProductId());
             }
+            productsFound.increment();
         }
     }
 }
@@ -0,0 +1,208 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.BatchCreateOrderResponse;
+import com.restaurant.orderservice.dto.BatchOrderResult;
+import com.restaurant.orderservice.dto.CreateOrderRequest;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.exception.CommandRejectedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit coalescer for POST /orders (order.write-coalescer.enabled=true).
+ *
+ * Concurrent createOrder calls are queued and written by a single dispatcher thread: it
+ * takes the first pending order, waits up to max-linger-ms for more (up to max-batch-size)
+ * and writes them all through {@link OrderService#createOrders}, so a burst pays one
+ * transaction and one commit fsync instead of one per order. While a batch commits, new
+ * requests accumulate for the next one.
+ *
+ * Each caller still gets its own OrderResponse or exception: entries the batch rejects,
+ * and every entry of a batch whose transaction fails, are retried one by one through
+ * {@link OrderService#createOrder}, so one bad order never fails its neighbours.
+ *
+ * Metrics: order.write.coalescer.batch.size.
+ */
+@Component
+@ConditionalOnProperty(name = "order.write-coalescer.enabled", havingValue = "true")
+@Slf4j
+public class OrderWriteCoalescer {
+
+    private final OrderService orderService;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final DistributionSummary batchSize;
+    private final Thread dispatcher;
+
+    private volatile boolean running = true;
+
+    @Autowired
+    public OrderWriteCoalescer(OrderService orderService,
+                               MeterRegistry meterRegistry,
+                               @Value("${order.write-coalescer.max-batch-size:50}") int maxBatchSize,
+                               @Value("${order.write-coalescer.max-linger-ms:5}") long maxLingerMs,
+                               @Value("${order.write-coalescer.queue-capacity:1000}") int queueCapacity,
+                               @Value("${order.batch.max-size:100}") int orderBatchMaxSize) {
+        this(orderService, meterRegistry, Math.min(maxBatchSize, orderBatchMaxSize), maxLingerMs, queueCapacity);
+        dispatcher.start();
+
+        log.info("Order write coalescer started: maxBatchSize={}, maxLingerMs={}, queueCapacity={}",
+                this.maxBatchSize, maxLingerMs, queueCapacity);
+    }
+
+    OrderWriteCoalescer(OrderService orderService, MeterRegistry meterRegistry,
+                        int maxBatchSize, long maxLingerMs, int queueCapacity) {
+        this.orderService = orderService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(maxLingerMs);
+        this.batchSize = DistributionSummary.builder("order.write.coalescer.batch.size")
+                .description("Orders written per group-commit transaction")
+                .register(meterRegistry);
+        this.dispatcher = new Thread(this::dispatch, "order-write-coalescer");
+        this.dispatcher.setDaemon(true);
+    }
+
+    /**
+     * Creates an order as part of the next group commit and waits for its outcome.
+     *
+     * @param request CreateOrderRequest containing tableId and list of items
+     * @return OrderResponse with the created order details
+     * @throws CommandRejectedException if the coalescer queue is full or shutting down
+     */
+    public OrderResponse createOrder(CreateOrderRequest request) {
+        try {
+            return enqueue(request).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CommandRejectedException("Interrupted while waiting for order to be written");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    CompletableFuture<OrderResponse> enqueue(CreateOrderRequest request) {
+        PendingOrder pending = new PendingOrder(request);
+        if (!running || !queue.offer(pending)) {
+            throw new CommandRejectedException("Order write queue is full, try again later");
+        }
+        return pending.result;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+
+        PendingOrder pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(
+                    new CommandRejectedException("Order service is shutting down"));
+        }
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                List<PendingOrder> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Order write coalescer failed unexpectedly", ex);
+            }
+        }
+    }
+
+    /**
+     * Blocks for the first pending order, then lingers for up to max-linger-ms to fill the batch.
+     */
+    List<PendingOrder> nextBatch() throws InterruptedException {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        PendingOrder first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxLingerNanos;
+        while (batch.size() < maxBatchSize) {
+            // Take whatever is already queued without waiting
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void write(List<PendingOrder> batch) {
+        batchSize.record(batch.size());
+
+        BatchCreateOrderResponse response;
+        try {
+            response = orderService.createOrders(batch.stream().map(pending -> pending.request).toList());
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} orders failed, writing them one by one: {}", batch.size(), ex.getMessage());
+            batch.forEach(this::writeAlone);
+            return;
+        }
+
+        for (BatchOrderResult result : response.getResults()) {
+            PendingOrder pending = batch.get(result.getIndex());
+            if (BatchOrderResult.CREATED.equals(result.getStatus())) {
+                pending.result.complete(result.getOrder());
+            } else {
+                // Re-run on its own so the caller gets the original exception type
+                writeAlone(pending);
+            }
+        }
+    }
+
+    private void writeAlone(PendingOrder pending) {
+        try {
+            pending.result.complete(orderService.createOrder(pending.request));
+        } catch (RuntimeException ex) {
+            pending.result.completeExceptionally(ex);
+        }
+    }
+
+    static final class PendingOrder {
+        private final CreateOrderRequest request;
+        private final CompletableFuture<OrderResponse> result = new CompletableFuture<>();
+
+        PendingOrder(CreateOrderRequest request) {
+            this.request = request;
+        }
+    }
+}
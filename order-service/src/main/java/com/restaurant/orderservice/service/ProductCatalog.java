@@ -0,0 +1,68 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.entity.Product;
+import com.restaurant.orderservice.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holder of the in-memory product catalog shared by the order write path.
+ *
+ * The catalog is loaded once at startup and replaced atomically whenever a product row
+ * changes (see ProductCatalogNotificationListener). OrderValidator, OrderMapper and
+ * OrderEventBuilder read from the current snapshot, so creating an order does not
+ * query the products table.
+ */
+@Component
+@Slf4j
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+    private final AtomicReference<ProductCatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public ProductCatalog(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Loads the catalog as soon as the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Returns the current snapshot, loading it on first access if startup loading
+     * has not happened yet.
+     *
+     * @return Current catalog snapshot
+     */
+    public ProductCatalogSnapshot snapshot() {
+        ProductCatalogSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * Reloads all products and atomically swaps in a new snapshot.
+     * Concurrent refreshes are serialized so versions are published in order.
+     *
+     * @return The newly published snapshot
+     */
+    public synchronized ProductCatalogSnapshot refresh() {
+        List<Product> products = productRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+        ProductCatalogSnapshot snapshot = new ProductCatalogSnapshot(versionSequence.incrementAndGet(), products);
+        current.set(snapshot);
+
+        log.info("Product catalog loaded: version={}, products={}", snapshot.getVersion(), snapshot.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,71 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.entity.Product;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, versioned view of the product catalog.
+ *
+ * A snapshot is built once from the products table and never modified afterwards.
+ * Readers obtain the current snapshot from {@link ProductCatalog} and may keep using it
+ * while a newer one is swapped in. The contained Product instances are detached and
+ * must be treated as read-only.
+ */
+public final class ProductCatalogSnapshot {
+
+    private final long version;
+    private final Map<Long, Product> productsById;
+
+    ProductCatalogSnapshot(long version, Collection<Product> products) {
+        Map<Long, Product> byId = new LinkedHashMap<>();
+        products.forEach(product -> byId.put(product.getId(), product));
+        this.version = version;
+        this.productsById = Collections.unmodifiableMap(byId);
+    }
+
+    /**
+     * @return Monotonically increasing version of this snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Looks up a product by id, regardless of its active flag.
+     *
+     * @param productId Product id
+     * @return Optional containing the product if it is part of the catalog
+     */
+    public Optional<Product> findById(Long productId) {
+        return Optional.ofNullable(productsById.get(productId));
+    }
+
+    /**
+     * Looks up a product by id, only if it is currently active.
+     *
+     * @param productId Product id
+     * @return Optional containing the product if it exists and is active
+     */
+    public Optional<Product> findActiveById(Long productId) {
+        return findById(productId).filter(product -> Boolean.TRUE.equals(product.getIsActive()));
+    }
+
+    /**
+     * @return Read-only map of all products keyed by id, in id order of the source query
+     */
+    public Map<Long, Product> asMap() {
+        return productsById;
+    }
+
+    /**
+     * @return Number of products in this snapshot
+     */
+    public int size() {
+        return productsById.size();
+    }
+}
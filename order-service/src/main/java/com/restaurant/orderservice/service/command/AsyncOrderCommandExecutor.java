@@ -0,0 +1,218 @@
+package com.restaurant.orderservice.service.command;
+
+import com.restaurant.orderservice.exception.CommandRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous invoker for order commands (order.command-executor.mode=async).
+ *
+ * Commands run on virtual threads when the runtime supports them (Java 21+), otherwise on
+ * a fixed pool of platform threads. Submissions are bounded by queue-capacity; when it is
+ * exhausted the {@link SaturationPolicy} decides between blocking, failing fast and running
+ * on the caller. A slot is reserved when the command is executed, but inside a transaction
+ * the command is only dispatched once the transaction commits, so rolled-back orders never
+ * publish events.
+ *
+ * Command failures are logged and counted; they no longer reach the HTTP caller. This mode
+ * is an alternative to the transactional outbox, which must be disabled to use it.
+ *
+ * Metrics: order.commands.queue.depth, order.commands.wait{command},
+ * order.commands.execution{command,outcome}, order.commands.rejected{policy}.
+ */
+@Component
+@ConditionalOnProperty(name = "order.command-executor.mode", havingValue = "async")
+@Slf4j
+public class AsyncOrderCommandExecutor extends OrderCommandExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Semaphore slots;
+    private final SaturationPolicy saturationPolicy;
+    private final long blockTimeoutMs;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    @Autowired
+    public AsyncOrderCommandExecutor(MeterRegistry meterRegistry,
+                                     @Value("${order.command-executor.queue-capacity:1000}") int queueCapacity,
+                                     @Value("${order.command-executor.saturation-policy:BLOCK}") SaturationPolicy saturationPolicy,
+                                     @Value("${order.command-executor.block-timeout-ms:1000}") long blockTimeoutMs,
+                                     @Value("${order.command-executor.virtual-threads:true}") boolean virtualThreads,
+                                     @Value("${order.command-executor.platform-threads:8}") int platformThreads,
+                                     @Value("${outbox.enabled:true}") boolean outboxEnabled) {
+        this(meterRegistry, queueCapacity, saturationPolicy, blockTimeoutMs,
+                createExecutor(outboxEnabled, virtualThreads, platformThreads));
+    }
+
+    AsyncOrderCommandExecutor(MeterRegistry meterRegistry, int queueCapacity, SaturationPolicy saturationPolicy,
+                              long blockTimeoutMs, ExecutorService executor) {
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+        this.slots = new Semaphore(queueCapacity);
+        this.saturationPolicy = saturationPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+
+        Gauge.builder("order.commands.queue.depth", queued, AtomicInteger::get)
+                .description("Order commands submitted but not yet started")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("order.commands.rejected")
+                .description("Order commands rejected or run on the caller because the executor was saturated")
+                .tag("policy", saturationPolicy.name())
+                .register(meterRegistry);
+
+        log.info("Async order command executor started: queueCapacity={}, saturationPolicy={}",
+                queueCapacity, saturationPolicy);
+    }
+
+    @Override
+    public void execute(OrderCommand command) {
+        if (!reserveSlot(command)) {
+            // CALLER_RUNS on saturation
+            super.execute(command);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(command);
+                    } else {
+                        slots.release();
+                    }
+                }
+            });
+        } else {
+            submit(command);
+        }
+    }
+
+    /**
+     * @return Number of commands submitted but not yet started
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Order commands still running after shutdown timeout");
+        }
+    }
+
+    private boolean reserveSlot(OrderCommand command) {
+        if (slots.tryAcquire()) {
+            return true;
+        }
+        switch (saturationPolicy) {
+            case CALLER_RUNS:
+                rejected.increment();
+                log.debug("Command executor saturated, running {} on caller thread", commandType(command));
+                return false;
+            case BLOCK:
+                try {
+                    if (slots.tryAcquire(blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                rejected.increment();
+                throw new CommandRejectedException(String.format(
+                        "No command slot freed within %d ms for %s", blockTimeoutMs, commandType(command)));
+            case FAIL_FAST:
+            default:
+                rejected.increment();
+                throw new CommandRejectedException("Command executor saturated, rejected " + commandType(command));
+        }
+    }
+
+    private void submit(OrderCommand command) {
+        long submittedAt = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> run(command, submittedAt));
+        } catch (RejectedExecutionException ex) {
+            queued.decrementAndGet();
+            slots.release();
+            log.error("Order command {} dropped, executor is shut down", commandType(command));
+        }
+    }
+
+    private void run(OrderCommand command, long submittedAt) {
+        queued.decrementAndGet();
+        String type = commandType(command);
+        long startedAt = System.nanoTime();
+        Timer.builder("order.commands.wait")
+                .description("Time order commands spend queued")
+                .tag("command", type)
+                .register(meterRegistry)
+                .record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+        String outcome = "success";
+        try {
+            command.execute();
+        } catch (RuntimeException ex) {
+            outcome = "failure";
+            log.error("Async order command {} failed: {}", type, ex.getMessage(), ex);
+        } finally {
+            slots.release();
+            Timer.builder("order.commands.execution")
+                    .description("Order command execution time")
+                    .tag("command", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String commandType(OrderCommand command) {
+        return command.getClass().getSimpleName();
+    }
+
+    private static ExecutorService createExecutor(boolean outboxEnabled, boolean virtualThreads, int platformThreads) {
+        if (outboxEnabled) {
+            // Outbox writes must join the caller's transaction; running them elsewhere would lose events.
+            throw new IllegalStateException(
+                    "order.command-executor.mode=async requires outbox.enabled=false");
+        }
+        if (virtualThreads) {
+            try {
+                // Java 21+: resolved reflectively so the service still builds and runs on Java 17.
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException ex) {
+                log.warn("Virtual threads not available on Java {}, using {} platform threads",
+                        Runtime.version().feature(), platformThreads);
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "order-command-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(platformThreads, threadFactory);
+    }
+}
@@ -1,11 +1,15 @@
 package com.restaurant.orderservice.service.command;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
  * Invoker for order commands.
+ * Runs each command synchronously on the calling thread. This is the default mode
+ * (order.command-executor.mode=sync); see AsyncOrderCommandExecutor for the async mode.
  */
 @Component
+@ConditionalOnProperty(name = "order.command-executor.mode", havingValue = "sync", matchIfMissing = true)
 public class OrderCommandExecutor {
 
     public void execute(OrderCommand command) {
@@ -0,0 +1,26 @@
+package com.restaurant.orderservice.service.command;
+
+import com.restaurant.orderservice.application.port.out.OrderPlacedEventPublisherPort;
+import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
+
+import java.util.List;
+
+/**
+ * Concrete command that publishes a batch of order.placed events.
+ */
+public class PublishOrderPlacedEventsCommand implements OrderCommand {
+
+    private final OrderPlacedEventPublisherPort orderPlacedEventPublisherPort;
+    private final List<OrderPlacedDomainEvent> events;
+
+    public PublishOrderPlacedEventsCommand(OrderPlacedEventPublisherPort orderPlacedEventPublisherPort,
+                                           List<OrderPlacedDomainEvent> events) {
+        this.orderPlacedEventPublisherPort = orderPlacedEventPublisherPort;
+        this.events = events;
+    }
+
+    @Override
+    public void execute() {
+        orderPlacedEventPublisherPort.publishAll(events);
+    }
+}
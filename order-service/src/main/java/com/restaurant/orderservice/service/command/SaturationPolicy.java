@@ -0,0 +1,22 @@
+package com.restaurant.orderservice.service.command;
+
+/**
+ * What AsyncOrderCommandExecutor does when its submission queue is full.
+ */
+public enum SaturationPolicy {
+
+    /**
+     * Wait for a free slot, up to the configured block timeout, then reject.
+     */
+    BLOCK,
+
+    /**
+     * Reject immediately with CommandRejectedException (HTTP 503).
+     */
+    FAIL_FAST,
+
+    /**
+     * Run the command synchronously on the calling thread, as the sync executor does.
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,19 @@
+-- Migration: Idempotency keys for POST /orders
+--
+-- Stores the response of every order created with an Idempotency-Key header so that
+-- client retries get the original order back instead of creating a duplicate.
+-- Rows are written in the same transaction as the order and purged after expires_at.
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    order_id UUID NOT NULL,
+    response TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Idempotency-Key header values seen on POST /orders and the response returned for them.';
+COMMENT ON COLUMN idempotency_keys.request_hash IS 'SHA-256 of the request body; a reused key with a different body is rejected.';
@@ -0,0 +1,7 @@
+-- Keyset pagination of GET /orders walks active orders in (created_at, id) order.
+-- Partial indexes cover only non-deleted rows, so each page is an index range scan
+-- of limit + 1 entries however much soft-deleted history accumulates.
+CREATE INDEX idx_orders_active_keyset ON orders(created_at, id) WHERE deleted = false;
+
+-- Same walk for the status filter (kitchen board, occupied tables).
+CREATE INDEX idx_orders_active_status_keyset ON orders(status, created_at, id) WHERE deleted = false;
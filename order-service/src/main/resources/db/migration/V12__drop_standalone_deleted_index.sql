@@ -0,0 +1,12 @@
+-- Soft-delete-aware indexing.
+--
+-- Every OrderRepository *Active query filters on deleted = false. Those predicates are now
+-- served by the partial indexes of V11, which only contain non-deleted rows and stay
+-- small however much soft-deleted history accumulates:
+--   idx_orders_active_keyset        (created_at, id)          WHERE deleted = false
+--   idx_orders_active_status_keyset (status, created_at, id)  WHERE deleted = false
+-- findByIdActive is a primary key probe followed by a filter on a single row.
+--
+-- The standalone boolean index from V6 has two distinct values, is never chosen for
+-- deleted = false once most rows are deleted, and only costs writes. Drop it.
+DROP INDEX IF EXISTS idx_orders_deleted;
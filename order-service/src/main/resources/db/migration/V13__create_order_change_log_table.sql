@@ -0,0 +1,17 @@
+-- Migration: Change log behind GET /orders/changes?since=version
+--
+-- order-service keeps the most recent order changes in memory and spills older ones
+-- here, so clients polling for deltas only read what changed after their version.
+-- Rows only hold which order changed and how; the order itself is read from orders.
+-- Versions are contiguous within a run of the service, and old rows are purged as
+-- the log advances.
+
+CREATE TABLE order_change_log (
+    version BIGINT PRIMARY KEY,
+    order_id UUID NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE order_change_log IS 'Order changes evicted from the in-memory change log, read by GET /orders/changes.';
+COMMENT ON COLUMN order_change_log.change_type IS 'CREATED, STATUS_CHANGED or DELETED.';
@@ -0,0 +1,117 @@
+-- Migration: Monthly partitioning of orders and order_items
+--
+-- Orders are only ever soft-deleted, so both tables grow forever. They are rebuilt as
+-- PostgreSQL declarative partitioned tables, ranged by month of the order's created_at:
+--   orders_pYYYYMM       FOR VALUES FROM (first day of month) TO (first day of next month)
+--   order_items_pYYYYMM  same bounds, on the order_created_at of the item's order
+--   orders_default / order_items_default catch rows outside every monthly partition
+--
+-- A primary key of a partitioned table must contain the partition key, so orders is keyed
+-- by (id, created_at). order_items copies its order's created_at (order_created_at, set
+-- by the entity) and references orders by (id, created_at), which lands each item in the
+-- same month as its order.
+--
+-- Partitions are created ahead of time by create_order_partitions(), called at startup
+-- and daily by order-service (order.partitioning.months-ahead).
+
+-- Keep the names free for the partitioned tables
+ALTER TABLE orders RENAME TO orders_legacy;
+ALTER TABLE order_items RENAME TO order_items_legacy;
+ALTER INDEX orders_pkey RENAME TO orders_legacy_pkey;
+ALTER INDEX order_items_pkey RENAME TO order_items_legacy_pkey;
+ALTER INDEX IF EXISTS idx_orders_status RENAME TO idx_orders_legacy_status;
+ALTER INDEX IF EXISTS idx_orders_created_at RENAME TO idx_orders_legacy_created_at;
+ALTER INDEX IF EXISTS idx_orders_active_keyset RENAME TO idx_orders_legacy_active_keyset;
+ALTER INDEX IF EXISTS idx_orders_active_status_keyset RENAME TO idx_orders_legacy_active_status_keyset;
+ALTER INDEX IF EXISTS idx_order_items_order_id RENAME TO idx_order_items_legacy_order_id;
+
+CREATE TABLE orders (
+    id UUID NOT NULL,
+    table_id INTEGER NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT false,
+    deleted_at TIMESTAMP NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items (
+    id BIGINT NOT NULL DEFAULT nextval('order_items_id_seq'),
+    order_id UUID NOT NULL,
+    order_created_at TIMESTAMP NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    note TEXT,
+    PRIMARY KEY (id, order_created_at),
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders(id, created_at) ON DELETE CASCADE,
+    FOREIGN KEY (product_id) REFERENCES products(id)
+) PARTITION BY RANGE (order_created_at);
+
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+CREATE TABLE order_items_default PARTITION OF order_items DEFAULT;
+
+-- Creates the monthly partitions of both tables for the given number of months starting
+-- at from_month, skipping those that already exist. Returns how many were created.
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month DATE, months INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE;
+    month_end DATE;
+    suffix TEXT;
+    created INTEGER := 0;
+BEGIN
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := (date_trunc('month', from_month) + make_interval(months => i))::date;
+        month_end := (month_start + INTERVAL '1 month')::date;
+        suffix := to_char(month_start, 'YYYYMM');
+        IF to_regclass('orders_p' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                           'orders_p' || suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+        IF to_regclass('order_items_p' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                           'order_items_p' || suffix, month_start, month_end);
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Every month holding existing orders, up to three months ahead
+DO $$
+DECLARE
+    first_month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM orders_legacy), now()))::date;
+BEGIN
+    PERFORM create_order_partitions(first_month,
+            ((EXTRACT(YEAR FROM now()) - EXTRACT(YEAR FROM first_month)) * 12
+             + EXTRACT(MONTH FROM now()) - EXTRACT(MONTH FROM first_month))::integer + 4);
+END;
+$$;
+
+INSERT INTO orders (id, table_id, status, created_at, updated_at, deleted, deleted_at)
+SELECT id, table_id, status, created_at, updated_at, deleted, deleted_at
+FROM orders_legacy;
+
+INSERT INTO order_items (id, order_id, order_created_at, product_id, quantity, note)
+SELECT i.id, i.order_id, o.created_at, i.product_id, i.quantity, i.note
+FROM order_items_legacy i
+JOIN orders_legacy o ON o.id = i.order_id;
+
+-- The item id sequence belongs to the legacy column: keep it when that table goes
+ALTER SEQUENCE order_items_id_seq OWNED BY NONE;
+DROP TABLE order_items_legacy;
+DROP TABLE orders_legacy;
+ALTER SEQUENCE order_items_id_seq OWNED BY order_items.id;
+
+-- Indexes of the partitioned tables are created on every partition, present and future.
+-- Same keyset indexes as V11; id lookups probe the (id, created_at) primary key.
+CREATE INDEX idx_orders_active_keyset ON orders(created_at, id) WHERE deleted = false;
+CREATE INDEX idx_orders_active_status_keyset ON orders(status, created_at, id) WHERE deleted = false;
+CREATE INDEX idx_orders_status ON orders(status);
+CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_order_items_order_id ON order_items(order_id);
+
+COMMENT ON COLUMN orders.deleted IS 'Soft delete flag. True if order is logically deleted.';
+COMMENT ON COLUMN orders.deleted_at IS 'Timestamp when order was soft-deleted. Null if not deleted.';
+COMMENT ON COLUMN order_items.order_created_at IS 'created_at of the order; partition key shared with orders.';
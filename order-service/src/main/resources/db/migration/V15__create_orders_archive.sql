@@ -0,0 +1,108 @@
+-- Migration: Archive of old orders
+--
+-- Soft-deleted and READY orders older than the retention period (order.archive.
+-- retention-days) are moved, with their items, out of the partitioned orders and
+-- order_items tables into orders_archive and order_items_archive. Months left empty are
+-- then dropped, so the queries on active orders only touch the recent partitions.
+-- Both steps are run daily by order-service through the functions below.
+
+CREATE TABLE orders_archive (
+    id UUID PRIMARY KEY,
+    table_id INTEGER NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted BOOLEAN NOT NULL,
+    deleted_at TIMESTAMP NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_orders_archive_created_at ON orders_archive(created_at);
+
+CREATE TABLE order_items_archive (
+    id BIGINT PRIMARY KEY,
+    order_id UUID NOT NULL,
+    order_created_at TIMESTAMP NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    note TEXT
+);
+
+CREATE INDEX idx_order_items_archive_order_id ON order_items_archive(order_id);
+
+COMMENT ON TABLE orders_archive IS 'Soft-deleted and READY orders moved out of orders after the retention period.';
+COMMENT ON TABLE order_items_archive IS 'Items of the orders in orders_archive.';
+
+-- Moves up to batch_size archivable orders created before cutoff, oldest first, and their
+-- items to the archive in one statement. Orders locked by a concurrent writer are left for
+-- the next batch. Returns the archived orders and whether each was soft-deleted.
+CREATE OR REPLACE FUNCTION archive_orders(cutoff TIMESTAMP, batch_size INTEGER)
+RETURNS TABLE (archived_id UUID, archived_deleted BOOLEAN) AS $$
+BEGIN
+    RETURN QUERY
+    WITH batch AS (
+        SELECT o.id, o.created_at
+        FROM orders o
+        WHERE o.created_at < cutoff
+          AND (o.deleted OR o.status = 'READY')
+        ORDER BY o.created_at
+        LIMIT batch_size
+        FOR UPDATE SKIP LOCKED
+    ), moved_items AS (
+        DELETE FROM order_items i
+        USING batch b
+        WHERE i.order_id = b.id AND i.order_created_at = b.created_at
+        RETURNING i.id, i.order_id, i.order_created_at, i.product_id, i.quantity, i.note
+    ), archived_items AS (
+        INSERT INTO order_items_archive (id, order_id, order_created_at, product_id, quantity, note)
+        SELECT m.id, m.order_id, m.order_created_at, m.product_id, m.quantity, m.note
+        FROM moved_items m
+    ), moved_orders AS (
+        DELETE FROM orders o
+        USING batch b
+        WHERE o.id = b.id AND o.created_at = b.created_at
+        RETURNING o.id, o.table_id, o.status, o.created_at, o.updated_at, o.deleted, o.deleted_at
+    ), archived_orders AS (
+        INSERT INTO orders_archive (id, table_id, status, created_at, updated_at, deleted, deleted_at, archived_at)
+        SELECT m.id, m.table_id, m.status, m.created_at, m.updated_at, m.deleted, m.deleted_at, now()
+        FROM moved_orders m
+        RETURNING orders_archive.id, orders_archive.deleted
+    )
+    SELECT a.id, a.deleted FROM archived_orders a;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches and drops the monthly partitions of both tables that end before before_month
+-- and hold no orders. Returns how many months were dropped.
+CREATE OR REPLACE FUNCTION drop_empty_order_partitions(before_month DATE) RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    suffix TEXT;
+    has_rows BOOLEAN;
+    dropped INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits inh
+        JOIN pg_class c ON c.oid = inh.inhrelid
+        WHERE inh.inhparent = 'orders'::regclass
+          AND c.relname ~ '^orders_p[0-9]{6}$'
+        ORDER BY c.relname
+    LOOP
+        suffix := substring(partition_name FROM 9);
+        CONTINUE WHEN to_date(suffix, 'YYYYMM') >= date_trunc('month', before_month)::date;
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', partition_name) INTO has_rows;
+        CONTINUE WHEN has_rows;
+
+        -- Items first: the foreign key points from order_items to orders
+        IF to_regclass('order_items_p' || suffix) IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE order_items DETACH PARTITION %I', 'order_items_p' || suffix);
+            EXECUTE format('DROP TABLE %I', 'order_items_p' || suffix);
+        END IF;
+        EXECUTE format('ALTER TABLE orders DETACH PARTITION %I', partition_name);
+        EXECUTE format('DROP TABLE %I', partition_name);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
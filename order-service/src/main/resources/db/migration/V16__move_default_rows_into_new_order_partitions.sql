@@ -0,0 +1,68 @@
+-- Migration: Monthly order partitions can be created over rows already in the default ones
+--
+-- Orders dated outside every monthly partition land in orders_default (and their items in
+-- order_items_default). CREATE TABLE ... PARTITION OF fails once the default partition holds
+-- a row of the new month, so the daily create_order_partitions() would stop creating that
+-- month and every later one.
+--
+-- Each missing month is now built as a standalone table, the month's rows are moved into it
+-- out of the default partition, and it is then attached. Both tables of a month are filled
+-- before either is attached: deleting orders from orders_default while their items sit in
+-- an attached order_items partition would cascade to those items.
+
+-- Creates a standalone copy of parent named partition_name and moves into it the rows of
+-- default_partition whose key_column is in [from_date, to_date). It still has to be attached.
+CREATE OR REPLACE FUNCTION prepare_order_partition(parent TEXT, default_partition TEXT, key_column TEXT,
+                                                   partition_name TEXT, from_date DATE, to_date DATE)
+RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS)', partition_name, parent);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                   || 'INSERT INTO %I SELECT * FROM moved',
+                   default_partition, key_column, from_date, key_column, to_date, partition_name);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the monthly partitions of both tables for the given number of months starting
+-- at from_month, skipping those that already exist. Returns how many were created.
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month DATE, months INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE;
+    month_end DATE;
+    suffix TEXT;
+    orders_missing BOOLEAN;
+    items_missing BOOLEAN;
+    created INTEGER := 0;
+BEGIN
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := (date_trunc('month', from_month) + make_interval(months => i))::date;
+        month_end := (month_start + INTERVAL '1 month')::date;
+        suffix := to_char(month_start, 'YYYYMM');
+        orders_missing := to_regclass('orders_p' || suffix) IS NULL;
+        items_missing := to_regclass('order_items_p' || suffix) IS NULL;
+
+        -- Items first, so removing the orders from orders_default cascades to nothing
+        IF items_missing THEN
+            PERFORM prepare_order_partition('order_items', 'order_items_default', 'order_created_at',
+                                            'order_items_p' || suffix, month_start, month_end);
+        END IF;
+        IF orders_missing THEN
+            PERFORM prepare_order_partition('orders', 'orders_default', 'created_at',
+                                            'orders_p' || suffix, month_start, month_end);
+        END IF;
+
+        -- Attaching builds the partition's indexes and checks the foreign keys; orders go
+        -- first because order_items references them
+        IF orders_missing THEN
+            EXECUTE format('ALTER TABLE orders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           'orders_p' || suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+        IF items_missing THEN
+            EXECUTE format('ALTER TABLE order_items ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           'order_items_p' || suffix, month_start, month_end);
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
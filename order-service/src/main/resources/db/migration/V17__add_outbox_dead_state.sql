@@ -0,0 +1,13 @@
+-- Migration: Dead outbox events
+--
+-- An event that can never be published (unknown event type, payload that does not
+-- deserialize, or more than outbox.relay.max-attempts rejected confirms) used to stay first
+-- in the pending scan and block every later event. The relay now stamps it with dead_at
+-- and moves on; dead rows are left out of the pending scan and kept for inspection.
+
+ALTER TABLE outbox_events ADD COLUMN dead_at TIMESTAMP NULL;
+
+DROP INDEX idx_outbox_events_pending;
+CREATE INDEX idx_outbox_events_pending ON outbox_events(id) WHERE published_at IS NULL AND dead_at IS NULL;
+
+COMMENT ON COLUMN outbox_events.dead_at IS 'Timestamp when the relay gave up on the event. Null while it may still be published.';
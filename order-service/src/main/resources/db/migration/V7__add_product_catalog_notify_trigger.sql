@@ -0,0 +1,17 @@
+-- Migration: Notify listeners when the product catalog changes
+--
+-- order-service keeps an in-memory snapshot of the products table.
+-- This statement-level trigger publishes on the 'product_catalog_changed'
+-- channel so the service can reload the snapshot right after a change.
+
+CREATE OR REPLACE FUNCTION notify_product_catalog_changed() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('product_catalog_changed', TG_OP);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_products_catalog_changed
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON products
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_product_catalog_changed();
@@ -0,0 +1,13 @@
+-- Migration: Pooled sequence allocation for order_items and products
+--
+-- Hibernate cannot batch INSERTs for IDENTITY columns, because it must read
+-- back every generated key. Both entities now use a SEQUENCE generator with
+-- allocationSize = 50 (pooled optimizer), so a whole block of ids is reserved
+-- with a single nextval() call and the INSERTs can be sent as one JDBC batch.
+--
+-- The existing BIGSERIAL sequences are reused. Their increment must match the
+-- entity allocationSize. Column defaults keep working for plain SQL inserts
+-- (for example seed migrations), which simply consume one block each.
+
+ALTER SEQUENCE order_items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE products_id_seq INCREMENT BY 50;
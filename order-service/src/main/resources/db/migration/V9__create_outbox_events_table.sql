@@ -0,0 +1,28 @@
+-- Migration: Transactional outbox for order events
+--
+-- order.placed and order.ready events are inserted here in the same transaction as the
+-- order change and relayed to RabbitMQ asynchronously by OutboxRelay. Request latency no
+-- longer depends on the broker, and an event cannot be lost after the order commits.
+
+CREATE SEQUENCE outbox_events_id_seq INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY DEFAULT nextval('outbox_events_id_seq'),
+    event_id UUID NOT NULL UNIQUE,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500) NULL
+);
+
+ALTER SEQUENCE outbox_events_id_seq OWNED BY outbox_events.id;
+
+-- The relay only ever scans pending rows, so keep that index small.
+CREATE INDEX idx_outbox_events_pending ON outbox_events(id) WHERE published_at IS NULL;
+CREATE INDEX idx_outbox_events_published_at ON outbox_events(published_at) WHERE published_at IS NOT NULL;
+
+COMMENT ON TABLE outbox_events IS 'Order events waiting to be (or already) relayed to RabbitMQ.';
+COMMENT ON COLUMN outbox_events.published_at IS 'Timestamp when the relay got the event to the broker. Null while pending.';
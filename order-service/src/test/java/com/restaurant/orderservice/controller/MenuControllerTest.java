@@ -1,6 +1,9 @@
 package com.restaurant.orderservice.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.orderservice.dto.ProductResponse;
+import com.restaurant.orderservice.service.MenuDocument;
 import com.restaurant.orderservice.service.MenuService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,7 +11,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
@@ -27,6 +32,8 @@ class MenuControllerTest {
     @InjectMocks
     private MenuController menuController;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private List<ProductResponse> sampleProducts;
 
     @BeforeEach
@@ -54,25 +61,82 @@ class MenuControllerTest {
     }
 
     @Test
-    void getMenu_returnsActiveProducts() {
-        when(menuService.getActiveProducts()).thenReturn(sampleProducts);
+    void getMenu_returnsActiveProducts() throws Exception {
+        when(menuService.getMenuDocument()).thenReturn(menu(sampleProducts));
+
+        ResponseEntity<byte[]> response = menuController.getMenu(null, null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(products(response.getBody())).isEqualTo(sampleProducts);
+    }
+
+    @Test
+    void getMenu_returnsEmptyListWhenNoActiveProducts() throws Exception {
+        when(menuService.getMenuDocument()).thenReturn(menu(List.of()));
 
-        ResponseEntity<List<ProductResponse>> response = menuController.getMenu();
+        ResponseEntity<byte[]> response = menuController.getMenu(null, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(2);
-        assertThat(response.getBody()).isEqualTo(sampleProducts);
+        assertThat(products(response.getBody())).isEmpty();
+    }
+
+    @Test
+    void getMenu_whenClientAcceptsGzip_returnsPrecompressedBody() throws Exception {
+        MenuDocument menu = menu(sampleProducts);
+        when(menuService.getMenuDocument()).thenReturn(menu);
+
+        ResponseEntity<byte[]> response = menuController.getMenu(null, "gzip, deflate, br");
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getETag()).isEqualTo(menu.getGzipETag());
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getBody()).isSameAs(menu.getGzip());
     }
 
     @Test
-    void getMenu_returnsEmptyListWhenNoActiveProducts() {
-        when(menuService.getActiveProducts()).thenReturn(Arrays.asList());
+    void getMenu_withCurrentETag_returns304() throws Exception {
+        MenuDocument menu = menu(sampleProducts);
+        when(menuService.getMenuDocument()).thenReturn(menu);
 
-        ResponseEntity<List<ProductResponse>> response = menuController.getMenu();
+        ResponseEntity<byte[]> response = menuController.getMenu(menu.getETag(), null);
+        ResponseEntity<byte[]> gzipResponse = menuController.getMenu(menu.getGzipETag(), "gzip");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(menu.getETag());
+        assertThat(response.getBody()).isNull();
+        assertThat(gzipResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void getMenu_afterCatalogChange_returnsProductsWithNewETag() throws Exception {
+        MenuDocument before = menu(sampleProducts.subList(0, 1));
+        MenuDocument after = menu(sampleProducts);
+        when(menuService.getMenuDocument()).thenReturn(after);
+
+        ResponseEntity<byte[]> response = menuController.getMenu(before.getETag(), null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).isEmpty();
+        assertThat(response.getHeaders().getETag()).isEqualTo(after.getETag());
+        assertThat(products(response.getBody())).isEqualTo(sampleProducts);
+    }
+
+    @Test
+    void acceptsGzip_honoursQualityZero() {
+        assertThat(MenuController.acceptsGzip("gzip")).isTrue();
+        assertThat(MenuController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(MenuController.acceptsGzip("*")).isTrue();
+        assertThat(MenuController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(MenuController.acceptsGzip("identity")).isFalse();
+        assertThat(MenuController.acceptsGzip(null)).isFalse();
+    }
+
+    private MenuDocument menu(List<ProductResponse> products) throws Exception {
+        return MenuDocument.of(1L, objectMapper.writeValueAsBytes(products));
+    }
+
+    private List<ProductResponse> products(byte[] json) throws Exception {
+        return objectMapper.readValue(json, new TypeReference<List<ProductResponse>>() { });
     }
 }
@@ -1,25 +1,47 @@
 package com.restaurant.orderservice.controller;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.orderservice.dto.*;
 import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.InvalidOrderException;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.service.IdempotencyService;
+import com.restaurant.orderservice.service.OrderChangeLog;
+import com.restaurant.orderservice.service.OrderChangeTracker;
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import com.restaurant.orderservice.service.OrderDeleteJobs;
 import com.restaurant.orderservice.service.OrderService;
+import com.restaurant.orderservice.service.OrderWriteCoalescer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +57,32 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
     
+    @Mock
+    private IdempotencyService idempotencyService;
+    
+    @Mock
+    private ObjectProvider<OrderWriteCoalescer> orderWriteCoalescerProvider;
+    
+    private final SingleInstanceLock singleInstanceLock = mock(SingleInstanceLock.class, withSettings().lenient());
+
+    @Spy
+    private OrderChangeTracker orderChangeTracker = new OrderChangeTracker(singleInstanceLock);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    
+    @Mock
+    private OrderEventStream orderEventStream;
+    
+    @Mock
+    private OrderStatusWaiters orderStatusWaiters;
+
+    @Mock
+    private OrderChangeLog orderChangeLog;
+
+    @Mock
+    private OrderDeleteJobs orderDeleteJobs;
+    
     @InjectMocks
     private OrderController orderController;
     
@@ -45,6 +93,7 @@ class OrderControllerTest {
     @BeforeEach
     void setUp() {
         orderId = UUID.randomUUID();
+        when(singleInstanceLock.isExclusive()).thenReturn(true);
         
         // Setup CreateOrderRequest
         OrderItemRequest itemRequest = new OrderItemRequest(1L, 2, "No onions");
@@ -74,7 +123,7 @@ class OrderControllerTest {
         when(orderService.createOrder(any(CreateOrderRequest.class))).thenReturn(orderResponse);
         
         // Act
-        ResponseEntity<OrderResponse> response = orderController.createOrder(createOrderRequest);
+        ResponseEntity<OrderResponse> response = orderController.createOrder(createOrderRequest, null);
         
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -92,7 +141,7 @@ class OrderControllerTest {
         when(orderService.getOrderById(orderId)).thenReturn(orderResponse);
         
         // Act
-        ResponseEntity<OrderResponse> response = orderController.getOrderById(orderId);
+        ResponseEntity<OrderResponse> response = orderController.getOrderById(orderId, null);
         
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -106,28 +155,29 @@ class OrderControllerTest {
     void getOrders_WithoutStatusFilter_Returns200OK() {
         // Arrange
         List<OrderResponse> orders = Arrays.asList(orderResponse);
-        when(orderService.getOrders(null)).thenReturn(orders);
+        when(orderService.getOrdersPage(null, null, null)).thenReturn(new OrderPage(orders, null));
         
         // Act
-        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(null);
+        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(null, null, null, null);
         
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody().get(0).getId()).isEqualTo(orderId);
+        assertThat(response.getHeaders().containsKey("X-Next-Cursor")).isFalse();
         
-        verify(orderService, times(1)).getOrders(null);
+        verify(orderService, times(1)).getOrdersPage(null, null, null);
     }
     
     @Test
     void getOrders_WithStatusFilter_Returns200OK() {
         // Arrange
         List<OrderResponse> orders = Arrays.asList(orderResponse);
-        when(orderService.getOrders(List.of(OrderStatus.PENDING))).thenReturn(orders);
+        when(orderService.getOrdersPage(List.of(OrderStatus.PENDING), null, null)).thenReturn(new OrderPage(orders, null));
         
         // Act
-        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(List.of(OrderStatus.PENDING));
+        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(List.of(OrderStatus.PENDING), null, null, null);
         
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -135,7 +185,85 @@ class OrderControllerTest {
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody().get(0).getStatus()).isEqualTo(OrderStatus.PENDING);
         
-        verify(orderService, times(1)).getOrders(List.of(OrderStatus.PENDING));
+        verify(orderService, times(1)).getOrdersPage(List.of(OrderStatus.PENDING), null, null);
+    }
+    
+    @Test
+    void getOrders_WhenMorePagesFollow_ReturnsNextCursorAndLink() {
+        // Arrange
+        List<OrderStatus> statuses = List.of(OrderStatus.PENDING, OrderStatus.READY);
+        when(orderService.getOrdersPage(statuses, null, 20))
+                .thenReturn(new OrderPage(List.of(orderResponse), "abc123"));
+        
+        // Act
+        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(statuses, 20, null, null);
+        
+        // Assert
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("abc123");
+        assertThat(response.getHeaders().getFirst("Link"))
+                .isEqualTo("</orders?cursor=abc123&status=PENDING,READY&limit=20>; rel=\"next\"");
+    }
+    
+    @Test
+    void getOrders_WithCurrentETag_Returns304WithoutQuerying() {
+        // Arrange
+        when(orderService.getOrdersPage(null, null, null)).thenReturn(new OrderPage(List.of(orderResponse), null));
+        String etag = orderController.getOrders(null, null, null, null).getHeaders().getETag();
+        
+        // Act
+        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(null, null, null, etag);
+        
+        // Assert
+        assertThat(etag).startsWith("\"orders-");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+        verify(orderService, times(1)).getOrdersPage(null, null, null);
+    }
+    
+    @Test
+    void getOrders_WhenOtherInstancesMayWrite_IgnoresIfNoneMatch() {
+        // Arrange
+        when(orderService.getOrdersPage(null, null, null)).thenReturn(new OrderPage(List.of(orderResponse), null));
+        String etag = orderController.getOrders(null, null, null, null).getHeaders().getETag();
+        when(singleInstanceLock.isExclusive()).thenReturn(false);
+        
+        // Act
+        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(null, null, null, etag);
+        
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(orderService, times(2)).getOrdersPage(null, null, null);
+    }
+    
+    @Test
+    void getOrders_AfterOrderChange_Returns200WithNewETag() {
+        // Arrange
+        when(orderService.getOrdersPage(null, null, null)).thenReturn(new OrderPage(List.of(orderResponse), null));
+        String etag = orderController.getOrders(null, null, null, null).getHeaders().getETag();
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, orderId, orderResponse));
+        
+        // Act
+        ResponseEntity<List<OrderResponse>> response = orderController.getOrders(null, null, null, "W/" + etag);
+        
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+        verify(orderService, times(2)).getOrdersPage(null, null, null);
+    }
+    
+    @Test
+    void getOrderById_WithMatchingETagInList_Returns304WithoutQuerying() {
+        // Arrange
+        when(orderService.getOrderById(orderId)).thenReturn(orderResponse);
+        String etag = orderController.getOrderById(orderId, null).getHeaders().getETag();
+        
+        // Act
+        ResponseEntity<OrderResponse> response = orderController.getOrderById(orderId, "\"stale\", " + etag);
+        
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(orderService, times(1)).getOrderById(orderId);
     }
     
     @Test
@@ -182,13 +310,190 @@ class OrderControllerTest {
     @Test
     void deleteAllOrders_Returns204NoContent() {
         // Arrange
+        when(orderDeleteJobs.startIfLarge()).thenReturn(Optional.empty());
         when(orderService.deleteAllOrders()).thenReturn(4L);
 
         // Act
-        ResponseEntity<Void> response = orderController.deleteAllOrders();
+        ResponseEntity<OrderDeleteJobResponse> response = orderController.deleteAllOrders();
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getHeaders().getFirst("X-Deleted-Count")).isEqualTo("4");
         verify(orderService, times(1)).deleteAllOrders();
     }
+
+    @Test
+    void deleteAllOrders_OnLargeBoard_Returns202WithJob() {
+        // Arrange
+        OrderDeleteJobResponse job = OrderDeleteJobResponse.builder()
+                .id(UUID.randomUUID())
+                .status(OrderDeleteJobResponse.Status.RUNNING)
+                .build();
+        when(orderDeleteJobs.startIfLarge()).thenReturn(Optional.of(job));
+
+        // Act
+        ResponseEntity<OrderDeleteJobResponse> response = orderController.deleteAllOrders();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("/orders/delete-jobs/" + job.getId());
+        assertThat(response.getBody()).isSameAs(job);
+        verify(orderService, never()).deleteAllOrders();
+    }
+
+    @Test
+    void createOrders_WhenAllCreated_Returns201Created() {
+        // Arrange
+        BatchCreateOrderResponse batchResponse = BatchCreateOrderResponse.builder()
+                .total(1).created(1).rejected(0)
+                .results(List.of(BatchOrderResult.builder().index(0).status(BatchOrderResult.CREATED)
+                        .order(orderResponse).build()))
+                .build();
+        when(orderService.createOrders(anyList())).thenReturn(batchResponse);
+
+        // Act
+        ResponseEntity<BatchCreateOrderResponse> response = orderController.createOrders(List.of(createOrderRequest));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isSameAs(batchResponse);
+    }
+
+    @Test
+    void createOrders_WhenSomeRejected_Returns207MultiStatus() {
+        // Arrange
+        BatchCreateOrderResponse batchResponse = BatchCreateOrderResponse.builder()
+                .total(2).created(1).rejected(1)
+                .results(List.of(
+                        BatchOrderResult.builder().index(0).status(BatchOrderResult.CREATED).order(orderResponse).build(),
+                        BatchOrderResult.builder().index(1).status(BatchOrderResult.REJECTED)
+                                .errorStatus(404).error("Product not found with id: 999").build()))
+                .build();
+        when(orderService.createOrders(anyList())).thenReturn(batchResponse);
+
+        // Act
+        ResponseEntity<BatchCreateOrderResponse> response =
+                orderController.createOrders(List.of(createOrderRequest, createOrderRequest));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        assertThat(response.getBody().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void createOrder_WithNewIdempotencyKey_CreatesOrderAndRecordsKey() {
+        // Arrange
+        when(idempotencyService.findReplay("key-1", createOrderRequest)).thenReturn(Optional.empty());
+        when(orderService.createOrder(createOrderRequest, "key-1")).thenReturn(orderResponse);
+
+        // Act
+        ResponseEntity<OrderResponse> response = orderController.createOrder(createOrderRequest, "key-1");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(response.getBody()).isSameAs(orderResponse);
+    }
+
+    @Test
+    void createOrder_WithSeenIdempotencyKey_ReplaysOriginalOrder() {
+        // Arrange
+        when(idempotencyService.findReplay("key-1", createOrderRequest)).thenReturn(Optional.of(orderResponse));
+
+        // Act
+        ResponseEntity<OrderResponse> response = orderController.createOrder(createOrderRequest, "key-1");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(response.getBody()).isSameAs(orderResponse);
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void createOrder_WhenConcurrentRequestWinsKey_ReplaysWinningOrder() {
+        // Arrange
+        when(idempotencyService.findReplay("key-1", createOrderRequest))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(orderResponse));
+        when(orderService.createOrder(createOrderRequest, "key-1"))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act
+        ResponseEntity<OrderResponse> response = orderController.createOrder(createOrderRequest, "key-1");
+
+        // Assert
+        assertThat(response.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(response.getBody()).isSameAs(orderResponse);
+    }
+
+    @Test
+    void createOrder_WithCoalescerEnabled_WritesThroughCoalescer() {
+        // Arrange
+        OrderWriteCoalescer coalescer = mock(OrderWriteCoalescer.class);
+        when(orderWriteCoalescerProvider.getIfAvailable()).thenReturn(coalescer);
+        when(coalescer.createOrder(createOrderRequest)).thenReturn(orderResponse);
+        OrderController controller = new OrderController(orderService, idempotencyService, orderWriteCoalescerProvider, orderChangeTracker, orderEventStream, orderStatusWaiters, orderChangeLog, objectMapper, orderDeleteJobs);
+
+        // Act
+        ResponseEntity<OrderResponse> response = controller.createOrder(createOrderRequest, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isSameAs(orderResponse);
+        verify(orderService, never()).createOrder(any(CreateOrderRequest.class));
+    }
+    
+    @Test
+    void awaitOrderStatus_ParsesAndCapsTimeout() {
+        // Arrange
+        ReflectionTestUtils.setField(orderController, "defaultAwaitTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(orderController, "maxAwaitTimeoutMs", 60_000L);
+        DeferredResult<ResponseEntity<OrderResponse>> deferred = new DeferredResult<>();
+        when(orderStatusWaiters.await(eq(orderId), eq(OrderStatus.READY), anyLong(), any())).thenReturn(deferred);
+        
+        // Act
+        orderController.awaitOrderStatus(orderId, OrderStatus.READY, "20s");
+        orderController.awaitOrderStatus(orderId, OrderStatus.READY, "5m");
+        orderController.awaitOrderStatus(orderId, OrderStatus.READY, null);
+        
+        // Assert
+        verify(orderStatusWaiters).await(eq(orderId), eq(OrderStatus.READY), eq(20_000L), any());
+        verify(orderStatusWaiters).await(eq(orderId), eq(OrderStatus.READY), eq(60_000L), any());
+        verify(orderStatusWaiters).await(eq(orderId), eq(OrderStatus.READY), eq(30_000L), any());
+    }
+    
+    @Test
+    void awaitOrderStatus_WithInvalidTimeout_ThrowsInvalidOrderException() {
+        assertThatThrownBy(() -> orderController.awaitOrderStatus(orderId, OrderStatus.READY, "soon"))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("timeout");
+        
+        verifyNoInteractions(orderStatusWaiters);
+    }
+
+    @Test
+    void streamOrderList_WritesOneJsonOrderPerLine() throws Exception {
+        // Arrange
+        OrderResponse second = OrderResponse.builder().id(UUID.randomUUID()).tableId(7)
+                .status(OrderStatus.READY).items(List.of()).build();
+        doAnswer(invocation -> {
+            java.util.function.Consumer<OrderResponse> consumer = invocation.getArgument(1);
+            consumer.accept(orderResponse);
+            consumer.accept(second);
+            return null;
+        }).when(orderService).streamOrders(eq(List.of(OrderStatus.READY)), any());
+        
+        // Act
+        ResponseEntity<StreamingResponseBody> response = orderController.streamOrderList(List.of(OrderStatus.READY));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        
+        // Assert
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], OrderResponse.class).getId()).isEqualTo(orderResponse.getId());
+        assertThat(objectMapper.readValue(lines[1], OrderResponse.class).getId()).isEqualTo(second.getId());
+    }
 }
@@ -0,0 +1,283 @@
+package com.restaurant.orderservice.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.ConnectionLimitExceededException;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.service.OrderChangeTracker;
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import com.restaurant.orderservice.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderEventStream.
+ *
+ * Emitters record what would be written to the response, so snapshot, incremental events,
+ * Last-Event-ID resumption, resync and slow-client handling are checked without a servlet container.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderEventStreamTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private SingleInstanceLock singleInstanceLock;
+
+    private OrderChangeTracker orderChangeTracker;
+    private OrderEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(singleInstanceLock.isExclusive()).thenReturn(true);
+        orderChangeTracker = new OrderChangeTracker(singleInstanceLock);
+        stream = newStream(2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+    }
+
+    @Test
+    void subscribe_sendsSnapshotThenIncrementalEvents() throws Exception {
+        OrderResponse order = order(OrderStatus.PENDING);
+        when(orderService.getOrders(null)).thenReturn(List.of(order));
+
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null);
+        change(OrderChangedEvent.Type.CREATED, order);
+        change(OrderChangedEvent.Type.DELETED, order);
+
+        assertThat(emitter.next()).contains("event:snapshot").contains(order.getId().toString());
+        assertThat(emitter.next()).contains("id:" + ETags.INSTANCE + "-1").contains("event:order-created");
+        assertThat(emitter.next()).contains("id:" + ETags.INSTANCE + "-2").contains("event:order-deleted")
+                .contains("{\"id\":\"" + order.getId() + "\"}");
+    }
+
+    @Test
+    void subscribe_withBufferedLastEventId_replaysMissedEventsWithoutSnapshot() throws Exception {
+        OrderResponse order = order(OrderStatus.PENDING);
+        change(OrderChangedEvent.Type.CREATED, order);
+        change(OrderChangedEvent.Type.STATUS_CHANGED, order(OrderStatus.IN_PREPARATION));
+
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(ETags.INSTANCE + "-1");
+
+        assertThat(emitter.next()).contains("id:" + ETags.INSTANCE + "-2").contains("event:order-status-changed");
+        verify(orderService, never()).getOrders(null);
+    }
+
+    @Test
+    void subscribe_withEvictedOrForeignLastEventId_sendsSnapshot() throws Exception {
+        when(orderService.getOrders(null)).thenReturn(List.of());
+        for (int i = 0; i < 5; i++) {
+            change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        }
+
+        RecordingEmitter evicted = (RecordingEmitter) stream.subscribe(ETags.INSTANCE + "-1");
+        RecordingEmitter foreign = (RecordingEmitter) stream.subscribe("previous-run-4");
+
+        assertThat(evicted.next()).contains("id:" + ETags.INSTANCE + "-5").contains("event:snapshot");
+        assertThat(foreign.next()).contains("event:snapshot");
+    }
+
+    @Test
+    void subscribe_whenOtherInstancesMayWrite_sendsSnapshotInsteadOfReplay() throws Exception {
+        when(orderService.getOrders(null)).thenReturn(List.of());
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        when(singleInstanceLock.isExclusive()).thenReturn(false);
+
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(ETags.INSTANCE + "-1");
+
+        assertThat(emitter.next()).contains("event:snapshot");
+    }
+
+    @Test
+    void onOrderChange_onResync_sendsFreshSnapshotAndForgetsReplay() throws Exception {
+        OrderResponse missed = order(OrderStatus.READY);
+        when(orderService.getOrders(null)).thenReturn(List.of(), List.of(missed), List.of());
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null);
+        emitter.next();
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        emitter.next();
+
+        orderChangeTracker.onOrderChanged(OrderChangedEvent.resync());
+
+        assertThat(emitter.next()).contains("id:" + ETags.INSTANCE + "-2").contains("event:snapshot")
+                .contains(missed.getId().toString());
+        RecordingEmitter resumed = (RecordingEmitter) stream.subscribe(ETags.INSTANCE + "-1");
+        assertThat(resumed.next()).contains("event:snapshot");
+    }
+
+    @Test
+    void onOrderChange_whenResyncSnapshotCannotBeRead_disconnectsClient() throws Exception {
+        when(orderService.getOrders(null)).thenReturn(List.of()).thenThrow(new IllegalStateException("down"));
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null);
+        emitter.next();
+
+        orderChangeTracker.onOrderChanged(OrderChangedEvent.resync());
+
+        assertThat(emitter.completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(stream.clientCount()).isZero();
+    }
+
+    @Test
+    void onOrderChange_whenClientCannotKeepUp_dropsOnlyThatClient() throws Exception {
+        when(orderService.getOrders(null)).thenReturn(List.of());
+        RecordingEmitter slow = (RecordingEmitter) stream.subscribe(null);
+        RecordingEmitter fast = (RecordingEmitter) stream.subscribe(null);
+        slow.next();
+        fast.next();
+        slow.blockWrites();
+
+        for (int i = 0; i < 4; i++) {
+            change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+            fast.next();
+        }
+
+        assertThat(stream.clientCount()).isEqualTo(1);
+        slow.unblockWrites();
+        assertThat(slow.completed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void onOrderChange_serializesOffTheCommittingThread() throws Exception {
+        when(orderService.getOrders(null)).thenReturn(List.of());
+        List<Thread> serializedOn = new CopyOnWriteArrayList<>();
+        ObjectMapper recordingMapper = new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                serializedOn.add(Thread.currentThread());
+                return super.writeValueAsString(value);
+            }
+        }.findAndRegisterModules();
+        OrderEventStream recording = new OrderEventStream(orderService, orderChangeTracker, recordingMapper,
+                new SimpleMeterRegistry(), 0L, 10, 2, 3, 1) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new RecordingEmitter();
+            }
+        };
+        RecordingEmitter emitter = (RecordingEmitter) recording.subscribe(null);
+        emitter.next();
+        serializedOn.clear();
+
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+
+        assertThat(emitter.next()).contains("event:order-created");
+        assertThat(serializedOn).hasSize(1).doesNotContain(Thread.currentThread());
+        recording.shutdown();
+    }
+
+    @Test
+    void subscribe_beyondMaxClients_isRejected() {
+        OrderEventStream limited = new OrderEventStream(orderService, orderChangeTracker,
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 0L, 0, 2, 3, 1);
+
+        assertThatThrownBy(() -> limited.subscribe(null))
+                .isInstanceOf(ConnectionLimitExceededException.class)
+                .hasMessageContaining("Too many");
+        limited.shutdown();
+    }
+
+    @Test
+    void sendHeartbeats_writesCommentToIdleClients() throws Exception {
+        when(orderService.getOrders(null)).thenReturn(List.of());
+        RecordingEmitter emitter = (RecordingEmitter) stream.subscribe(null);
+        emitter.next();
+
+        stream.sendHeartbeats();
+
+        assertThat(emitter.next()).contains(":heartbeat");
+    }
+
+    private OrderEventStream newStream(int clientBufferSize, int replaySize) {
+        return new OrderEventStream(orderService, orderChangeTracker, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), 0L, 10, clientBufferSize, replaySize, 2) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    private void change(OrderChangedEvent.Type type, OrderResponse order) {
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(type, order.getId(),
+                type == OrderChangedEvent.Type.DELETED ? null : order));
+    }
+
+    private static OrderResponse order(OrderStatus status) {
+        return OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .tableId(4)
+                .status(status)
+                .items(List.of())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> written = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile CountDownLatch writesAllowed = new CountDownLatch(0);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            try {
+                writesAllowed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            String event = written.poll(2, TimeUnit.SECONDS);
+            assertThat(event).as("event written to the client").isNotNull();
+            return event;
+        }
+
+        void blockWrites() {
+            writesAllowed = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writesAllowed.countDown();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.restaurant.orderservice.controller;
+
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.ConnectionLimitExceededException;
+import com.restaurant.orderservice.exception.OrderNotFoundException;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.service.OrderChangeTracker;
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for OrderStatusWaiters.
+ *
+ * Tests immediate answers, completion on committed status changes, deletions and resyncs,
+ * and cleanup of the registry.
+ */
+class OrderStatusWaitersTest {
+
+    private OrderChangeTracker orderChangeTracker;
+    private OrderStatusWaiters waiters;
+    private UUID orderId;
+
+    @BeforeEach
+    void setUp() {
+        orderChangeTracker = new OrderChangeTracker(mock(SingleInstanceLock.class));
+        waiters = new OrderStatusWaiters(orderChangeTracker, new SimpleMeterRegistry(), 2);
+        orderId = UUID.randomUUID();
+    }
+
+    @Test
+    void await_whenStatusAlreadyReached_completesImmediately() {
+        DeferredResult<ResponseEntity<OrderResponse>> result =
+                waiters.await(orderId, OrderStatus.IN_PREPARATION, 30_000, () -> order(OrderStatus.READY));
+
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getStatus()).isEqualTo(OrderStatus.READY);
+        assertThat(waiters.waiterCount()).isZero();
+    }
+
+    @Test
+    void await_completesWhenOrderReachesStatus() {
+        DeferredResult<ResponseEntity<OrderResponse>> result =
+                waiters.await(orderId, OrderStatus.READY, 30_000, () -> order(OrderStatus.PENDING));
+
+        statusChanged(OrderStatus.IN_PREPARATION);
+        assertThat(result.hasResult()).isFalse();
+
+        statusChanged(OrderStatus.READY);
+        assertThat(result.hasResult()).isTrue();
+        assertThat(body(result).getStatus()).isEqualTo(OrderStatus.READY);
+        assertThat(waiters.waiterCount()).isZero();
+    }
+
+    @Test
+    void await_withoutStatus_completesOnNextChange() {
+        DeferredResult<ResponseEntity<OrderResponse>> result =
+                waiters.await(orderId, null, 30_000, () -> order(OrderStatus.PENDING));
+        assertThat(result.hasResult()).isFalse();
+
+        statusChanged(OrderStatus.IN_PREPARATION);
+
+        assertThat(body(result).getStatus()).isEqualTo(OrderStatus.IN_PREPARATION);
+    }
+
+    @Test
+    void onOrderChange_onResync_answersWithLastKnownState() {
+        DeferredResult<ResponseEntity<OrderResponse>> result =
+                waiters.await(orderId, OrderStatus.READY, 30_000, () -> order(OrderStatus.PENDING));
+
+        orderChangeTracker.onOrderChanged(OrderChangedEvent.resync());
+
+        assertThat(body(result).getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(waiters.waiterCount()).isZero();
+    }
+
+    @Test
+    void await_whenChangeCommitsBeforeInitialRead_stillCompletes() {
+        DeferredResult<ResponseEntity<OrderResponse>> result = waiters.await(orderId, OrderStatus.READY, 30_000, () -> {
+            statusChanged(OrderStatus.READY);
+            return order(OrderStatus.READY);
+        });
+
+        assertThat(body(result).getStatus()).isEqualTo(OrderStatus.READY);
+        assertThat(waiters.waiterCount()).isZero();
+    }
+
+    @Test
+    void await_whenOrderDeleted_completesWithNotFound() {
+        DeferredResult<ResponseEntity<OrderResponse>> result =
+                waiters.await(orderId, OrderStatus.READY, 30_000, () -> order(OrderStatus.PENDING));
+
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.DELETED, orderId, null));
+
+        assertThat(result.getResult()).isInstanceOf(OrderNotFoundException.class);
+        assertThat(waiters.waiterCount()).isZero();
+    }
+
+    @Test
+    void await_whenOrderUnknown_propagatesAndUnregisters() {
+        assertThatThrownBy(() -> waiters.await(orderId, OrderStatus.READY, 30_000, () -> {
+            throw new OrderNotFoundException(orderId);
+        })).isInstanceOf(OrderNotFoundException.class);
+
+        assertThat(waiters.waiterCount()).isZero();
+    }
+
+    @Test
+    void await_beyondMaxWaiters_isRejected() {
+        waiters.await(orderId, OrderStatus.READY, 30_000, () -> order(OrderStatus.PENDING));
+        waiters.await(UUID.randomUUID(), OrderStatus.READY, 30_000, () -> order(OrderStatus.PENDING));
+
+        assertThatThrownBy(() -> waiters.await(orderId, OrderStatus.READY, 30_000, () -> order(OrderStatus.PENDING)))
+                .isInstanceOf(ConnectionLimitExceededException.class);
+    }
+
+    private void statusChanged(OrderStatus status) {
+        orderChangeTracker.onOrderChanged(
+                new OrderChangedEvent(OrderChangedEvent.Type.STATUS_CHANGED, orderId, order(status)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OrderResponse body(DeferredResult<ResponseEntity<OrderResponse>> result) {
+        return ((ResponseEntity<OrderResponse>) result.getResult()).getBody();
+    }
+
+    private OrderResponse order(OrderStatus status) {
+        return OrderResponse.builder()
+                .id(orderId)
+                .tableId(3)
+                .status(status)
+                .items(List.of())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -191,6 +191,25 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getTimestamp()).isNotNull();
     }
     
+    /**
+     * Test: ConnectionLimitExceededException returns 503 with the limit that was hit
+     */
+    @Test
+    void handleConnectionLimitExceeded_ReturnsServiceUnavailableWithReason() {
+        // Arrange
+        ConnectionLimitExceededException exception =
+                new ConnectionLimitExceededException("Too many order stream clients, try again later");
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleConnectionLimitExceeded(exception);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(503);
+        assertThat(response.getBody().getMessage()).isEqualTo("Too many order stream clients, try again later");
+    }
+
     /**
      * Test: Generic Exception returns 500 Internal Server Error
      * 
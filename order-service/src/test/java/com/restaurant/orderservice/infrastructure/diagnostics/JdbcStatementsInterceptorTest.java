@@ -0,0 +1,57 @@
+package com.restaurant.orderservice.infrastructure.diagnostics;
+
+import com.restaurant.orderservice.infrastructure.persistence.JdbcStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcStatementsInterceptorTest {
+
+    private JdbcStatementCounter counter;
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcStatementsInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        counter = new JdbcStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new JdbcStatementsInterceptor(counter, meterRegistry);
+        request = new MockHttpServletRequest("POST", "/orders");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void afterCompletion_recordsStatementsOfTheRequest() {
+        counter.inspect("select 1");
+
+        interceptor.preHandle(request, response, new Object());
+        counter.inspect("insert into orders ...");
+        counter.inspect("insert into order_items ...");
+        interceptor.afterCompletion(request, response, new Object(), null);
+        counter.inspect("select 2");
+
+        DistributionSummary summary = meterRegistry.get("order.jdbc.statements")
+                .tags("method", "POST", "uri", "/orders").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void asyncRequest_stopsCountingWithoutRecording() {
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(meterRegistry.find("order.jdbc.statements").summary()).isNull();
+        assertThat(counter.stop()).isEqualTo(-1);
+    }
+}
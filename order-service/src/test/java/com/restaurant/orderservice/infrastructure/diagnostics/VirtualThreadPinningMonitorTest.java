@@ -0,0 +1,60 @@
+package com.restaurant.orderservice.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry);
+        ReflectionTestUtils.setField(monitor, "thresholdMs", 20L);
+        ReflectionTestUtils.setField(monitor, "maxLoggedStacks", 1);
+    }
+
+    @Test
+    void start_withPlatformThreads_recordsNothing() {
+        monitor.start();
+        monitor.stop();
+
+        assertThat(ReflectionTestUtils.getField(monitor, "recordingStream")).isNull();
+    }
+
+    @Test
+    void record_timesPinningUnderFirstFrameOutsideJdk() {
+        List<String> frames = List.of(
+                "java.lang.Object.wait0:-1",
+                "jdk.internal.misc.Unsafe.park:-1",
+                "org.postgresql.core.v3.QueryExecutorImpl.execute:370",
+                "com.restaurant.orderservice.service.OrderService.createOrder:160");
+
+        monitor.record(Duration.ofMillis(35), frames);
+        monitor.record(Duration.ofMillis(15), frames);
+
+        Timer timer = meterRegistry.find("order.virtual-threads.pinned")
+                .tag("site", "org.postgresql.core.v3.QueryExecutorImpl.execute")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50);
+    }
+
+    @Test
+    void site_withoutApplicationFrames_isUnknown() {
+        assertThat(VirtualThreadPinningMonitor.site(List.of("java.lang.Thread.run:1583"))).isEqualTo("unknown");
+        assertThat(VirtualThreadPinningMonitor.site(List.of())).isEqualTo("unknown");
+    }
+}
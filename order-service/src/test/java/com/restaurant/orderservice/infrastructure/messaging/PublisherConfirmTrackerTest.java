@@ -0,0 +1,116 @@
+package com.restaurant.orderservice.infrastructure.messaging;
+
+import com.restaurant.orderservice.exception.EventPublicationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PublisherConfirmTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublisherConfirmTracker tracker;
+    private final List<CorrelationData> sent = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new PublisherConfirmTracker(rabbitTemplate, meterRegistry, 2, 3, 50, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.shutdown();
+    }
+
+    @Test
+    void send_whenAcked_completesFutureAndFreesWindow() throws Exception {
+        CompletableFuture<Void> confirmed = tracker.send("test message", sent::add);
+
+        assertThat(confirmed).isNotDone();
+        assertThat(tracker.inFlight()).isEqualTo(1);
+
+        sent.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThat(confirmed).isCompleted();
+        assertThat(tracker.inFlight()).isZero();
+        assertThat(meterRegistry.get("order.events.publish.confirm.latency").tag("result", "ack").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void send_whenNackedOnce_retriesAndCompletesOnAck() throws Exception {
+        CompletableFuture<Void> confirmed = tracker.send("test message", confirmingSender(false, true));
+
+        confirmed.get(1, TimeUnit.SECONDS);
+
+        assertThat(sent).hasSize(2);
+        assertThat(meterRegistry.get("order.events.publish.retries").counter().count()).isEqualTo(1);
+        assertThat(tracker.inFlight()).isZero();
+    }
+
+    @Test
+    void send_whenNackedOnEveryAttempt_failsFuture() {
+        CompletableFuture<Void> confirmed = tracker.send("test message", confirmingSender(false, false, false));
+
+        assertThatThrownBy(() -> confirmed.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(EventPublicationException.class);
+        assertThat(sent).hasSize(3);
+        assertThat(meterRegistry.get("order.events.publish.failures").counter().count()).isEqualTo(1);
+        assertThat(tracker.inFlight()).isZero();
+    }
+
+    @Test
+    void send_whenWindowIsFull_rejectsAfterTimeout() {
+        tracker.send("first", sent::add);
+        tracker.send("second", sent::add);
+
+        assertThatThrownBy(() -> tracker.send("third", sent::add))
+                .isInstanceOf(EventPublicationException.class)
+                .hasMessageContaining("Too many unconfirmed messages");
+        assertThat(sent).hasSize(2);
+    }
+
+    @Test
+    void send_whenSendFails_releasesPermitAndThrows() {
+        assertThatThrownBy(() -> tracker.send("test message", correlation -> {
+            throw new IllegalStateException("channel closed");
+        })).isInstanceOf(EventPublicationException.class);
+
+        assertThat(tracker.inFlight()).isZero();
+    }
+
+    /**
+     * Sender that confirms each attempt immediately with the next scripted outcome.
+     */
+    private Consumer<CorrelationData> confirmingSender(Boolean... outcomes) {
+        Deque<Boolean> remaining = new ArrayDeque<>(List.of(outcomes));
+        return correlation -> {
+            sent.add(correlation);
+            boolean ack = remaining.poll();
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+        };
+    }
+}
@@ -5,7 +5,9 @@ import com.restaurant.orderservice.exception.EventPublicationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -29,7 +31,8 @@ class RabbitOrderPlacedEventPublisherTest {
     @BeforeEach
     void setUp() {
         rabbitTemplate = mock(RabbitTemplate.class);
-        publisher = new RabbitOrderPlacedEventPublisher(rabbitTemplate, new OrderPlacedEventMessageMapper());
+        publisher = new RabbitOrderPlacedEventPublisher(rabbitTemplate, new OrderPlacedEventMessageMapper(),
+                new PublisherConfirmTracker(rabbitTemplate, new SimpleMeterRegistry(), 16, 3, 100, 10));
         ReflectionTestUtils.setField(publisher, "exchangeName", "restaurant.exchange");
         ReflectionTestUtils.setField(publisher, "orderPlacedRoutingKey", "order.placed");
     }
@@ -39,7 +42,7 @@ class RabbitOrderPlacedEventPublisherTest {
         OrderPlacedDomainEvent event = sampleDomainEvent();
         doThrow(new RuntimeException("broker down"))
                 .when(rabbitTemplate)
-                .convertAndSend(eq("restaurant.exchange"), eq("order.placed"), any(), any(MessagePostProcessor.class));
+                .convertAndSend(eq("restaurant.exchange"), eq("order.placed"), any(), any(MessagePostProcessor.class), any(CorrelationData.class));
 
         assertThatThrownBy(() -> publisher.publish(event))
                 .isInstanceOf(EventPublicationException.class)
@@ -57,7 +60,8 @@ class RabbitOrderPlacedEventPublisherTest {
                 eq("restaurant.exchange"),
                 eq("order.placed"),
                 messageCaptor.capture(),
-                any(MessagePostProcessor.class)
+                any(MessagePostProcessor.class),
+                any(CorrelationData.class)
         );
 
         OrderPlacedEventMessage sent = messageCaptor.getValue();
@@ -5,7 +5,9 @@ import com.restaurant.orderservice.exception.EventPublicationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -28,7 +30,8 @@ class RabbitOrderReadyEventPublisherTest {
     @BeforeEach
     void setUp() {
         rabbitTemplate = mock(RabbitTemplate.class);
-        publisher = new RabbitOrderReadyEventPublisher(rabbitTemplate, new OrderReadyEventMessageMapper());
+        publisher = new RabbitOrderReadyEventPublisher(rabbitTemplate, new OrderReadyEventMessageMapper(),
+                new PublisherConfirmTracker(rabbitTemplate, new SimpleMeterRegistry(), 16, 3, 100, 10));
         ReflectionTestUtils.setField(publisher, "exchangeName", "restaurant.exchange");
         ReflectionTestUtils.setField(publisher, "orderReadyRoutingKey", "order.ready");
     }
@@ -38,7 +41,7 @@ class RabbitOrderReadyEventPublisherTest {
         OrderReadyDomainEvent event = sampleDomainEvent();
         doThrow(new RuntimeException("broker down"))
                 .when(rabbitTemplate)
-                .convertAndSend(eq("restaurant.exchange"), eq("order.ready"), any(), any(MessagePostProcessor.class));
+                .convertAndSend(eq("restaurant.exchange"), eq("order.ready"), any(), any(MessagePostProcessor.class), any(CorrelationData.class));
 
         assertThatThrownBy(() -> publisher.publish(event))
                 .isInstanceOf(EventPublicationException.class)
@@ -56,7 +59,8 @@ class RabbitOrderReadyEventPublisherTest {
                 eq("restaurant.exchange"),
                 eq("order.ready"),
                 messageCaptor.capture(),
-                any(MessagePostProcessor.class)
+                any(MessagePostProcessor.class),
+                any(CorrelationData.class)
         );
 
         OrderReadyEventMessage sent = messageCaptor.getValue();
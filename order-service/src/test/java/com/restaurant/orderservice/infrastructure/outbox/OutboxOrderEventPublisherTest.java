@@ -0,0 +1,99 @@
+package com.restaurant.orderservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
+import com.restaurant.orderservice.domain.event.OrderReadyDomainEvent;
+import com.restaurant.orderservice.entity.OutboxEvent;
+import com.restaurant.orderservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OutboxOrderEventPublisherTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private ObjectMapper objectMapper;
+    private OutboxOrderEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        publisher = new OutboxOrderEventPublisher(outboxEventRepository, objectMapper);
+    }
+
+    @Test
+    void publish_orderPlaced_storesSerializedEventAsPending() throws Exception {
+        OrderPlacedDomainEvent event = OrderPlacedDomainEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(OrderPlacedDomainEvent.EVENT_TYPE)
+                .eventVersion(OrderPlacedDomainEvent.CURRENT_VERSION)
+                .occurredAt(LocalDateTime.now())
+                .orderId(UUID.randomUUID())
+                .tableId(5)
+                .items(List.of(OrderPlacedDomainEvent.OrderItemData.builder()
+                        .productId(1L).quantity(2).productName("Pizza").build()))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        publisher.publish(event);
+
+        OutboxEvent stored = captureStored();
+        assertThat(stored.getEventId()).isEqualTo(event.getEventId());
+        assertThat(stored.getEventType()).isEqualTo("order.placed");
+        assertThat(stored.getAggregateId()).isEqualTo(event.getOrderId());
+        assertThat(stored.getPublishedAt()).isNull();
+        assertThat(stored.getAttempts()).isZero();
+        assertThat(objectMapper.readValue(stored.getPayload(), OrderPlacedDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    void publish_orderReady_storesSerializedEventAsPending() throws Exception {
+        OrderReadyDomainEvent event = OrderReadyDomainEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(OrderReadyDomainEvent.EVENT_TYPE)
+                .eventVersion(OrderReadyDomainEvent.CURRENT_VERSION)
+                .occurredAt(LocalDateTime.now())
+                .orderId(UUID.randomUUID())
+                .status("READY")
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        publisher.publish(event);
+
+        OutboxEvent stored = captureStored();
+        assertThat(stored.getEventType()).isEqualTo("order.ready");
+        assertThat(stored.getAggregateId()).isEqualTo(event.getOrderId());
+        assertThat(objectMapper.readValue(stored.getPayload(), OrderReadyDomainEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    void publishAll_storesAllEventsInOneSaveAll() {
+        List<OrderPlacedDomainEvent> events = List.of(
+                OrderPlacedDomainEvent.builder().eventId(UUID.randomUUID()).orderId(UUID.randomUUID()).build(),
+                OrderPlacedDomainEvent.builder().eventId(UUID.randomUUID()).orderId(UUID.randomUUID()).build());
+
+        publisher.publishAll(events);
+
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(OutboxEvent::getEventId)
+                .containsExactly(events.get(0).getEventId(), events.get(1).getEventId());
+        assertThat(captor.getValue()).extracting(OutboxEvent::getEventType).containsOnly("order.placed");
+    }
+
+    private OutboxEvent captureStored() {
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
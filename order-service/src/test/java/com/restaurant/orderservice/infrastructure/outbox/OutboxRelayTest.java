@@ -0,0 +1,226 @@
+package com.restaurant.orderservice.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.orderservice.domain.event.OrderPlacedDomainEvent;
+import com.restaurant.orderservice.domain.event.OrderReadyDomainEvent;
+import com.restaurant.orderservice.entity.OutboxEvent;
+import com.restaurant.orderservice.exception.EventPublicationException;
+import com.restaurant.orderservice.infrastructure.messaging.RabbitOrderPlacedEventPublisher;
+import com.restaurant.orderservice.infrastructure.messaging.RabbitOrderReadyEventPublisher;
+import com.restaurant.orderservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private RabbitOrderPlacedEventPublisher orderPlacedPublisher;
+    private RabbitOrderReadyEventPublisher orderReadyPublisher;
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        orderPlacedPublisher = mock(RabbitOrderPlacedEventPublisher.class);
+        orderReadyPublisher = mock(RabbitOrderReadyEventPublisher.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, orderPlacedPublisher, orderReadyPublisher,
+                objectMapper, mock(PlatformTransactionManager.class), meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "maxBatchesPerPoll", 10);
+        ReflectionTestUtils.setField(relay, "confirmTimeoutMs", 100L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        when(orderPlacedPublisher.publishAsync(any(OrderPlacedDomainEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(orderReadyPublisher.publishAsync(any(OrderReadyDomainEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void relayBatch_routesEventsToMatchingAdapterAndMarksThemPublished() throws Exception {
+        OutboxEvent placed = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        OutboxEvent ready = outboxEvent(OrderReadyDomainEvent.EVENT_TYPE, readyEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class))).thenReturn(List.of(placed, ready));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isEqualTo(2);
+        verify(orderPlacedPublisher).publishAsync(any(OrderPlacedDomainEvent.class));
+        verify(orderReadyPublisher).publishAsync(any(OrderReadyDomainEvent.class));
+        assertThat(placed.getPublishedAt()).isNotNull();
+        assertThat(ready.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    void relayBatch_whenBrokerFails_recordsAttemptAndStopsBatch() throws Exception {
+        OutboxEvent first = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        OutboxEvent second = outboxEvent(OrderReadyDomainEvent.EVENT_TYPE, readyEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(orderPlacedPublisher.publishAsync(any(OrderPlacedDomainEvent.class)))
+                .thenThrow(new EventPublicationException("broker down", new RuntimeException()));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isZero();
+        assertThat(first.getPublishedAt()).isNull();
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).isEqualTo("broker down");
+        verify(orderReadyPublisher, never()).publishAsync(any(OrderReadyDomainEvent.class));
+    }
+
+    @Test
+    void relayBatch_whenConfirmIsNacked_leavesThatEventAndLaterOnesPending() throws Exception {
+        OutboxEvent first = outboxEvent(OrderReadyDomainEvent.EVENT_TYPE, readyEvent());
+        OutboxEvent placed = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        OutboxEvent ready = outboxEvent(OrderReadyDomainEvent.EVENT_TYPE, readyEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class))).thenReturn(List.of(first, placed, ready));
+        when(orderPlacedPublisher.publishAsync(any(OrderPlacedDomainEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new EventPublicationException("nacked", null)));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isEqualTo(1);
+        assertThat(first.getPublishedAt()).isNotNull();
+        assertThat(placed.getPublishedAt()).isNull();
+        assertThat(placed.getLastError()).isEqualTo("nacked");
+        // Confirmed, but would overtake the nacked event: resent after it
+        assertThat(ready.getPublishedAt()).isNull();
+        assertThat(ready.getAttempts()).isZero();
+    }
+
+    @Test
+    void relayBatch_whenConfirmTimesOut_leavesLaterConfirmedEventsPending() throws Exception {
+        OutboxEvent placed = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        OutboxEvent ready = outboxEvent(OrderReadyDomainEvent.EVENT_TYPE, readyEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class))).thenReturn(List.of(placed, ready));
+        when(orderPlacedPublisher.publishAsync(any(OrderPlacedDomainEvent.class)))
+                .thenReturn(new CompletableFuture<>());
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isZero();
+        assertThat(placed.getLastError()).startsWith("No broker confirm");
+        assertThat(ready.getPublishedAt()).isNull();
+    }
+
+    @Test
+    void relayBatch_withUnpublishableEvent_marksItDeadAndRelaysTheRest() throws Exception {
+        OutboxEvent unknown = outboxEvent("order.unknown", placedEvent());
+        OutboxEvent unreadable = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        unreadable.setPayload("{not json");
+        OutboxEvent ready = outboxEvent(OrderReadyDomainEvent.EVENT_TYPE, readyEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class)))
+                .thenReturn(List.of(unknown, unreadable, ready));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isEqualTo(1);
+        assertThat(unknown.getDeadAt()).isNotNull();
+        assertThat(unknown.getLastError()).contains("order.unknown");
+        assertThat(unreadable.getDeadAt()).isNotNull();
+        assertThat(ready.getPublishedAt()).isNotNull();
+        assertThat(meterRegistry.get("outbox.relay.dead").tag("reason", "unpublishable").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void relayBatch_whenConfirmFailsMaxAttemptsTimes_marksEventDead() throws Exception {
+        OutboxEvent placed = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class))).thenReturn(List.of(placed));
+        when(orderPlacedPublisher.publishAsync(any(OrderPlacedDomainEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new EventPublicationException("nacked", null)));
+
+        relay.relayBatch();
+        relay.relayBatch();
+        assertThat(placed.getDeadAt()).isNull();
+        relay.relayBatch();
+
+        assertThat(placed.getAttempts()).isEqualTo(3);
+        assertThat(placed.getDeadAt()).isNotNull();
+        assertThat(meterRegistry.get("outbox.relay.dead").tag("reason", "max_attempts").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void relayBatch_whenBrokerIsUnreachable_neverMarksEventDead() throws Exception {
+        OutboxEvent placed = outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent());
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class))).thenReturn(List.of(placed));
+        when(orderPlacedPublisher.publishAsync(any(OrderPlacedDomainEvent.class)))
+                .thenThrow(new EventPublicationException("broker down", new RuntimeException()));
+
+        for (int i = 0; i < 5; i++) {
+            relay.relayBatch();
+        }
+
+        assertThat(placed.getAttempts()).isEqualTo(5);
+        assertThat(placed.getDeadAt()).isNull();
+    }
+
+    @Test
+    void relayPending_keepsDrainingWhileBatchesAreFull() throws Exception {
+        when(outboxEventRepository.lockPendingBatch(any(Pageable.class)))
+                .thenReturn(List.of(outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent()),
+                        outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent())))
+                .thenReturn(List.of(outboxEvent(OrderPlacedDomainEvent.EVENT_TYPE, placedEvent())));
+
+        relay.relayPending();
+
+        verify(outboxEventRepository, times(2)).lockPendingBatch(any(Pageable.class));
+        verify(orderPlacedPublisher, times(3)).publishAsync(any(OrderPlacedDomainEvent.class));
+    }
+
+    private OutboxEvent outboxEvent(String eventType, Object event) throws Exception {
+        return OutboxEvent.builder()
+                .id(1L)
+                .eventId(UUID.randomUUID())
+                .eventType(eventType)
+                .aggregateId(UUID.randomUUID())
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private OrderPlacedDomainEvent placedEvent() {
+        return OrderPlacedDomainEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(OrderPlacedDomainEvent.EVENT_TYPE)
+                .eventVersion(OrderPlacedDomainEvent.CURRENT_VERSION)
+                .orderId(UUID.randomUUID())
+                .tableId(3)
+                .items(List.of())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private OrderReadyDomainEvent readyEvent() {
+        return OrderReadyDomainEvent.builder()
+                .eventId(UUID.randomUUID())
+                .eventType(OrderReadyDomainEvent.EVENT_TYPE)
+                .eventVersion(OrderReadyDomainEvent.CURRENT_VERSION)
+                .orderId(UUID.randomUUID())
+                .status("READY")
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import com.restaurant.orderservice.service.OrderChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderPartitionMaintenanceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceProperties dataSourceProperties;
+    private ApplicationEventPublisher applicationEventPublisher;
+    private OrderPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        dataSourceProperties = mock(DataSourceProperties.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        maintenance = new OrderPartitionMaintenance(jdbcTemplate, dataSourceProperties, applicationEventPublisher);
+        ReflectionTestUtils.setField(maintenance, "enabled", true);
+        ReflectionTestUtils.setField(maintenance, "monthsAhead", 3);
+        ReflectionTestUtils.setField(maintenance, "retentionDays", 30);
+        ReflectionTestUtils.setField(maintenance, "batchSize", 2);
+        ReflectionTestUtils.setField(maintenance, "maxBatchesPerRun", 10);
+    }
+
+    @Test
+    void start_withNonPostgresDatasource_neverTouchesDatabase() {
+        when(dataSourceProperties.determineUrl()).thenReturn("jdbc:h2:mem:testdb");
+
+        maintenance.start();
+        maintenance.maintain();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void start_withPostgres_createsPartitionsAhead() {
+        when(dataSourceProperties.determineUrl()).thenReturn("jdbc:postgresql://localhost:5432/restaurant_db");
+
+        maintenance.start();
+
+        verify(jdbcTemplate).queryForObject(anyString(), any(Class.class), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archive_runsBatchesUntilShortOneAndAnnouncesOnlyActiveOrders() {
+        UUID ready = UUID.randomUUID();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any()))
+                .thenAnswer(invocation -> rows(invocation.getArgument(1), UUID.randomUUID(), true, ready, false))
+                .thenAnswer(invocation -> rows(invocation.getArgument(1), UUID.randomUUID(), true));
+
+        int archived = maintenance.archive();
+
+        assertThat(archived).isEqualTo(3);
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), any(), any());
+        ArgumentCaptor<OrderChangedEvent> event = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(OrderChangedEvent.Type.DELETED);
+        assertThat(event.getValue().getOrderId()).isEqualTo(ready);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archive_whenDatabaseFails_stopsWithoutThrowing() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any()))
+                .thenThrow(new IllegalStateException("database down"));
+
+        assertThat(maintenance.archive()).isZero();
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static List<Object> rows(RowMapper<Object> mapper, Object... idAndDeleted) throws SQLException {
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < idAndDeleted.length; i += 2) {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.getObject(1, UUID.class)).thenReturn((UUID) idAndDeleted[i]);
+            when(resultSet.getBoolean(2)).thenReturn((Boolean) idAndDeleted[i + 1]);
+            rows.add(mapper.mapRow(resultSet, i / 2));
+        }
+        return rows;
+    }
+}
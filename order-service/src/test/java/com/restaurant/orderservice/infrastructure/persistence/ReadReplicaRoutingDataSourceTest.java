@@ -0,0 +1,99 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReadReplicaRoutingDataSource routingDataSource;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replica, replicaLagMonitor);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaLagMonitor.isUsable()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_inReadOnlyReplicaRead_usesReplica() throws Throwable {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(connectionInReplicaRead()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void getConnection_outsideReplicaRead_usesPrimary() throws Throwable {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_inReplicaReadJoinedToReadWriteTransaction_usesPrimary() throws Throwable {
+        assertThat(connectionInReplicaRead()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_whenReplicaLags_usesPrimary() throws Throwable {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isUsable()).thenReturn(false);
+
+        assertThat(connectionInReplicaRead()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_whenReplicaIsDown_marksItDownAndFallsBackToPrimary() throws Throwable {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+
+        assertThat(connectionInReplicaRead()).isSameAs(primaryConnection);
+        verify(replicaLagMonitor).markDown(any(SQLException.class));
+    }
+
+    @Test
+    void getConnectionWithCredentials_inReadOnlyReplicaRead_usesPrimary() throws Throwable {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection credentialsConnection = mock(Connection.class);
+        when(primary.getConnection("reporting", "secret")).thenReturn(credentialsConnection);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> routingDataSource.getConnection("reporting", "secret"));
+
+        assertThat(new ReplicaReadAspect().markReplicaRead(joinPoint)).isSameAs(credentialsConnection);
+    }
+
+    private Connection connectionInReplicaRead() throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> routingDataSource.getConnection());
+        return (Connection) new ReplicaReadAspect().markReplicaRead(joinPoint);
+    }
+}
@@ -0,0 +1,72 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaLagMonitorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(mock(DataSource.class), jdbcTemplate, 1000, meterRegistry,
+                mock(ScheduledExecutorService.class));
+    }
+
+    @Test
+    void check_withLagUnderThreshold_makesReplicaUsable() {
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Long.class)).thenReturn(250L);
+
+        monitor.check();
+
+        assertThat(monitor.isUsable()).isTrue();
+        assertThat(meterRegistry.get("order.datasource.replica.lag").gauge().value()).isEqualTo(250);
+        assertThat(meterRegistry.get("order.datasource.replica.usable").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void check_withLagOverThresholdOrUnknown_makesReplicaUnusable() {
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Long.class))
+                .thenReturn(0L, 1500L, 0L, null);
+
+        monitor.check();
+        monitor.check();
+        assertThat(monitor.isUsable()).isFalse();
+
+        monitor.check();
+        monitor.check();
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(meterRegistry.get("order.datasource.replica.lag").gauge().value()).isEqualTo(-1);
+    }
+
+    @Test
+    void check_whenReplicaFails_makesReplicaUnusableUntilNextSuccessfulCheck() {
+        when(jdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Long.class))
+                .thenThrow(new QueryTimeoutException("replica down"))
+                .thenReturn(0L);
+
+        monitor.check();
+        assertThat(monitor.isUsable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isUsable()).isTrue();
+
+        monitor.markDown(new SQLException("connection refused"));
+        assertThat(monitor.isUsable()).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SingleInstanceLockTest {
+
+    private DataSourceProperties dataSourceProperties;
+    private SingleInstanceLock lock;
+    private final Connection connection = mock(Connection.class);
+    private final Queue<Boolean> lockResults = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:single-instance");
+        lock = new SingleInstanceLock(dataSourceProperties);
+        ReflectionTestUtils.setField(lock, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lock.release();
+    }
+
+    @Test
+    void acquire_withEmbeddedDatabase_isExclusive() {
+        lock.acquire();
+
+        assertThat(lock.isExclusive()).isTrue();
+    }
+
+    @Test
+    void acquire_whenDisabled_isNotExclusive() {
+        ReflectionTestUtils.setField(lock, "enabled", false);
+
+        lock.acquire();
+
+        assertThat(lock.isExclusive()).isFalse();
+    }
+
+    @Test
+    void acquire_whenHeldElsewhere_startsNotExclusiveAndTakesItLater() throws SQLException {
+        SingleInstanceLock postgresLock = postgresLock();
+        lockResults.addAll(List.of(false, true));
+        AtomicBoolean exclusiveInListener = new AtomicBoolean(true);
+        postgresLock.onAcquired(() -> exclusiveInListener.set(postgresLock.isExclusive()));
+
+        postgresLock.acquire();
+        assertThat(postgresLock.isExclusive()).isFalse();
+
+        postgresLock.check();
+
+        assertThat(postgresLock.isExclusive()).isTrue();
+        assertThat(exclusiveInListener).isFalse();
+        postgresLock.release();
+    }
+
+    @Test
+    void check_whenConnectionIsLost_isNotExclusiveUntilTakenAgain() throws SQLException {
+        SingleInstanceLock postgresLock = postgresLock();
+        lockResults.addAll(List.of(true, true));
+        postgresLock.acquire();
+        when(connection.isValid(5)).thenReturn(false);
+
+        postgresLock.check();
+        assertThat(postgresLock.isExclusive()).isFalse();
+
+        postgresLock.check();
+        assertThat(postgresLock.isExclusive()).isTrue();
+        postgresLock.release();
+    }
+
+    private SingleInstanceLock postgresLock() {
+        DataSourceProperties postgres = new DataSourceProperties();
+        postgres.setUrl("jdbc:postgresql://localhost/orders");
+        SingleInstanceLock postgresLock = new SingleInstanceLock(postgres) {
+            @Override
+            Connection connect() {
+                return connection;
+            }
+
+            @Override
+            boolean tryLock(Connection lockConnection) {
+                return lockResults.remove();
+            }
+        };
+        ReflectionTestUtils.setField(postgresLock, "enabled", true);
+        // Checks are run by hand
+        ReflectionTestUtils.setField(postgresLock, "checkIntervalMs", 3_600_000L);
+        return postgresLock;
+    }
+}
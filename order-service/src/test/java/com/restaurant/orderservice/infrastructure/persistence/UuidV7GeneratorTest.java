@@ -0,0 +1,98 @@
+package com.restaurant.orderservice.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UuidV7Generator.
+ *
+ * Tests the RFC 9562 layout and the ordering guarantees of generated ids.
+ */
+class UuidV7GeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Test
+    void nextUuid_setsVersionVariantAndTimestamp() {
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC), new Random(42));
+
+        UUID uuid = generator.nextUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    void nextUuid_withinSameMillisecond_isStrictlyIncreasing() {
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC), new Random(42));
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextUuid());
+        }
+
+        assertThat(ids).isSortedAccordingTo(UuidV7GeneratorTest::compareUnsigned);
+        assertThat(ids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void nextUuid_whenClockStepsBack_staysMonotonic() {
+        MutableClock clock = new MutableClock(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock, new Random(42));
+
+        UUID before = generator.nextUuid();
+        clock.instant = NOW.minusSeconds(5);
+        UUID after = generator.nextUuid();
+
+        assertThat(compareUnsigned(after, before)).isPositive();
+    }
+
+    @Test
+    void generate_fromDefaultConstructor_returnsVersion7() {
+        Object id = new UuidV7Generator().generate(null, null, null, null);
+
+        assertThat(id).isInstanceOf(UUID.class);
+        assertThat(((UUID) id).version()).isEqualTo(7);
+    }
+
+    /**
+     * Byte-wise comparison, as PostgreSQL orders uuid values.
+     */
+    private static int compareUnsigned(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.IdempotencyKey;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Persistence test proving that idempotency keys are inserted, never merged.
+ *
+ * Recording a key must cost a single INSERT, and recording a key that already exists
+ * must fail instead of overwriting the stored response.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class IdempotencyKeyRepositoryTest {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void save_newKey_insertsWithoutSelect() {
+        statistics.clear();
+
+        idempotencyKeyRepository.saveAndFlush(key("key-1", "hash-a"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void save_existingKey_failsInsteadOfOverwriting() {
+        idempotencyKeyRepository.saveAndFlush(key("key-1", "hash-a"));
+        entityManager.clear();
+
+        assertThatThrownBy(() -> idempotencyKeyRepository.saveAndFlush(key("key-1", "hash-b")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    void deleteExpired_thenSave_reusesExpiredKey() {
+        IdempotencyKey expired = key("key-1", "hash-a");
+        expired.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        idempotencyKeyRepository.saveAndFlush(expired);
+        entityManager.clear();
+
+        assertThat(idempotencyKeyRepository.deleteExpired("key-1", LocalDateTime.now())).isEqualTo(1);
+        idempotencyKeyRepository.saveAndFlush(key("key-1", "hash-b"));
+        entityManager.clear();
+
+        assertThat(idempotencyKeyRepository.findById("key-1"))
+                .hasValueSatisfying(stored -> assertThat(stored.getRequestHash()).isEqualTo("hash-b"));
+    }
+
+    @Test
+    void deleteExpired_withLiveKey_keepsIt() {
+        idempotencyKeyRepository.saveAndFlush(key("key-1", "hash-a"));
+
+        assertThat(idempotencyKeyRepository.deleteExpired("key-1", LocalDateTime.now())).isZero();
+        assertThat(idempotencyKeyRepository.existsById("key-1")).isTrue();
+    }
+
+    private IdempotencyKey key(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        return IdempotencyKey.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .orderId(UUID.randomUUID())
+                .response("{}")
+                .createdAt(now)
+                .expiresAt(now.plusHours(24))
+                .build();
+    }
+}
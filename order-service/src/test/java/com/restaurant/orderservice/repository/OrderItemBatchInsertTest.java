@@ -0,0 +1,90 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.Order;
+import com.restaurant.orderservice.entity.OrderItem;
+import com.restaurant.orderservice.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test proving that order items are written as one JDBC batch.
+ *
+ * Uses Hibernate statistics: with a pooled sequence and batching enabled, persisting
+ * an order costs one order INSERT and one batched item INSERT, plus at most one
+ * id-block fetch, whatever the number of items.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderItemBatchInsertTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        // The pooled optimizer may read the sequence twice on first use; warm it up
+        // so the assertions below only see the steady-state cost of an order.
+        orderRepository.save(buildOrder(1));
+        entityManager.flush();
+        statistics.clear();
+    }
+
+    @Test
+    void save_withTwelveItems_sendsItemsAsSingleBatch() {
+        orderRepository.save(buildOrder(12));
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(13);
+        // order INSERT + one batched item INSERT, plus at most one id-block fetch
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void save_withLargePartyOrder_keepsStatementCountConstant() {
+        orderRepository.save(buildOrder(40));
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(41);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private Order buildOrder(int itemCount) {
+        Order order = new Order();
+        order.setTableId(4);
+        order.setStatus(OrderStatus.PENDING);
+
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProductId((long) (i % 5) + 1);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+}
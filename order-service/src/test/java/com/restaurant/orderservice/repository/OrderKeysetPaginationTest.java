@@ -0,0 +1,137 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.Order;
+import com.restaurant.orderservice.entity.OrderItem;
+import com.restaurant.orderservice.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test for the keyset pagination queries behind GET /orders.
+ *
+ * Walks every page and checks that each active order is returned exactly once, in
+ * (createdAt, id) order, that deleted orders are skipped, and that each page costs two
+ * statements however far into the list it is.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderKeysetPaginationTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void keysetPages_returnEveryActiveOrderOnceInOrder() {
+        // Several orders share a createdAt so ties are broken by id
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 12, 0);
+        Set<UUID> deleted = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            UUID id = persistOrder(base.plusSeconds(i / 4), OrderStatus.PENDING, i % 10 == 0);
+            if (i % 10 == 0) {
+                deleted.add(id);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<OrderItemRow> seen = new ArrayList<>();
+        List<UUID> ids = orderRepository.findActiveIds(PageRequest.of(0, PAGE_SIZE));
+        while (!ids.isEmpty()) {
+            statistics.clear();
+            List<OrderItemRow> page = orderRepository.findRowsByIdIn(ids);
+            seen.addAll(page);
+
+            OrderItemRow last = page.get(page.size() - 1);
+            ids = orderRepository.findActiveIdsAfter(last.getCreatedAt(), last.getOrderId(),
+                    PageRequest.of(0, PAGE_SIZE));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        Set<UUID> unique = new HashSet<>();
+        seen.forEach(row -> unique.add(row.getOrderId()));
+        assertThat(seen).hasSize(36);
+        assertThat(unique).hasSize(36).doesNotContainAnyElementsOf(deleted);
+        for (int i = 1; i < seen.size(); i++) {
+            assertThat(seen.get(i - 1).getCreatedAt()).isBeforeOrEqualTo(seen.get(i).getCreatedAt());
+        }
+    }
+
+    @Test
+    void keysetPages_withStatusFilter_skipOtherStatuses() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 15, 12, 0);
+        for (int i = 0; i < 20; i++) {
+            persistOrder(base.plusSeconds(i), i % 2 == 0 ? OrderStatus.READY : OrderStatus.PENDING, false);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<OrderStatus> ready = List.of(OrderStatus.READY);
+        List<UUID> first = orderRepository.findActiveIdsByStatusIn(ready, PageRequest.of(0, PAGE_SIZE));
+        List<OrderItemRow> firstRows = orderRepository.findRowsByIdIn(first);
+        OrderItemRow last = firstRows.get(firstRows.size() - 1);
+        List<UUID> second = orderRepository.findActiveIdsByStatusInAfter(
+                ready, last.getCreatedAt(), last.getOrderId(), PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(first).hasSize(PAGE_SIZE);
+        assertThat(second).hasSize(3).doesNotContainAnyElementsOf(first);
+        assertThat(orderRepository.findRowsByIdIn(second))
+                .allMatch(row -> row.getStatus() == OrderStatus.READY);
+    }
+
+    private UUID persistOrder(LocalDateTime createdAt, OrderStatus status, boolean deleted) {
+        Order order = new Order();
+        order.setTableId(3);
+        order.setStatus(status);
+
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProductId(1L);
+        item.setQuantity(1);
+        order.setItems(new ArrayList<>(List.of(item)));
+        if (deleted) {
+            order.markAsDeleted();
+        }
+        entityManager.persist(order);
+        entityManager.flush();
+
+        // @PrePersist stamps "now" and created_at is not updatable; pin the keyset column directly
+        entityManager.createNativeQuery("UPDATE orders SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, order.getId())
+                .executeUpdate();
+        return order.getId();
+    }
+}
@@ -0,0 +1,162 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.entity.Order;
+import com.restaurant.orderservice.entity.OrderItem;
+import com.restaurant.orderservice.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test proving that listing orders does not trigger N+1 item loads.
+ *
+ * Uses Hibernate statistics: reading a list of orders and walking every order's items
+ * must cost a single statement, whatever the number of orders.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderListFetchTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void findAllActive_loadsOrdersAndItemsInOneStatement(int orderCount) {
+        persistOrders(orderCount, OrderStatus.PENDING);
+
+        List<Order> orders = orderRepository.findAllActive();
+        int itemCount = orders.stream().mapToInt(order -> order.getItems().size()).sum();
+
+        assertThat(orders).hasSize(orderCount);
+        assertThat(itemCount).isEqualTo(orderCount * 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void findByStatusInActive_loadsOrdersAndItemsInOneStatement(int orderCount) {
+        persistOrders(orderCount, OrderStatus.IN_PREPARATION);
+        persistOrders(5, OrderStatus.READY);
+
+        List<Order> orders = orderRepository.findByStatusInActive(List.of(OrderStatus.IN_PREPARATION));
+        orders.forEach(order -> order.getItems().size());
+
+        assertThat(orders).hasSize(orderCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void findRowsByIdIn_readsOneStatementWithoutLoadingEntities(int orderCount) {
+        persistOrders(orderCount, OrderStatus.PENDING);
+        List<UUID> ids = orderRepository.findActiveIds(PageRequest.of(0, orderCount));
+        statistics.clear();
+
+        List<OrderItemRow> rows = orderRepository.findRowsByIdIn(ids);
+
+        assertThat(rows).hasSize(orderCount * 3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void streamActiveRows_readsOneStatementWithContiguousOrders(int orderCount) {
+        persistOrders(orderCount, OrderStatus.PENDING);
+        persistOrders(5, OrderStatus.READY);
+        entityManager.createQuery("UPDATE Order o SET o.deleted = true WHERE o.status = :status")
+                .setParameter("status", OrderStatus.READY)
+                .executeUpdate();
+        statistics.clear();
+
+        List<UUID> orderIds = new ArrayList<>();
+        try (Stream<OrderItemRow> rows = orderRepository.streamActiveRows()) {
+            rows.forEach(row -> {
+                if (orderIds.isEmpty() || !orderIds.get(orderIds.size() - 1).equals(row.getOrderId())) {
+                    orderIds.add(row.getOrderId());
+                }
+            });
+        }
+
+        // Every order appears once: its rows are contiguous and deleted orders are skipped
+        assertThat(orderIds).hasSize(orderCount).doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, 200})
+    void markDeletedByIdIn_softDeletesChunksWithoutLoadingEntities(int orderCount) {
+        persistOrders(orderCount, OrderStatus.PENDING);
+        PageRequest chunk = PageRequest.of(0, 7);
+
+        int deleted = 0;
+        int chunks = 0;
+        List<UUID> ids = orderRepository.findActiveIdsInIdOrder(chunk);
+        while (!ids.isEmpty()) {
+            deleted += orderRepository.markDeletedByIdIn(ids, LocalDateTime.now());
+            chunks++;
+            ids = orderRepository.findActiveIdsInIdOrderAfter(ids.get(ids.size() - 1), chunk);
+        }
+
+        assertThat(deleted).isEqualTo(orderCount);
+        assertThat(chunks).isEqualTo((orderCount + 6) / 7);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(orderRepository.countActive()).isZero();
+    }
+
+    private void persistOrders(int orderCount, OrderStatus status) {
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order();
+            order.setTableId(i % 12 + 1);
+            order.setStatus(status);
+
+            List<OrderItem> items = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProductId((long) j + 1);
+                item.setQuantity(1);
+                items.add(item);
+            }
+            order.setItems(items);
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,266 @@
+package com.restaurant.orderservice.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.enums.OrderStatus;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan-regression tests for the soft-delete-aware order queries.
+ *
+ * Runs only against a real PostgreSQL, e.g. the docker-compose one:
+ * <pre>
+ * ORDER_PLAN_TEST_JDBC_URL=jdbc:postgresql://localhost:5432/restaurant_db \
+ * ORDER_PLAN_TEST_USER=restaurant_user ORDER_PLAN_TEST_PASSWORD=restaurant_pass \
+ * mvn -pl order-service test -Dtest=OrderQueryPlanTest
+ * </pre>
+ * All migrations are applied to a throwaway schema, which is seeded with a service day where
+ * most orders are already soft-deleted and then analyzed. Each test calls an OrderRepository
+ * query, captures the SQL Hibernate generated for it with a statement inspector, and EXPLAINs
+ * that SQL as a generic prepared-statement plan, so the plan does not depend on the values
+ * bound. It fails if PostgreSQL plans a sequential scan of orders or any of its partitions.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderQueryPlanTest.SqlRecorder.class)
+@EnabledIfEnvironmentVariable(named = "ORDER_PLAN_TEST_JDBC_URL", matches = ".+")
+class OrderQueryPlanTest {
+
+    private static final String SCHEMA = "order_plan_test";
+    private static final int ORDERS = 50_000;
+    private static final int ACTIVE_EVERY = 50;
+    private static final String STATEMENT = "order_plan_test_query";
+
+    private static Connection connection;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        String url = url();
+        registry.add("spring.datasource.url",
+                () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", OrderQueryPlanTest::user);
+        registry.add("spring.datasource.password", OrderQueryPlanTest::password);
+    }
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        connection = DriverManager.getConnection(url(), user(), password());
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        Flyway.configure()
+                .dataSource(url(), user(), password())
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        execute("SET search_path TO " + SCHEMA);
+        // Seed month gets its own partition, as the daily maintenance would have created it
+        execute("SELECT create_order_partitions(date '2024-01-01', 1)");
+        // Only one order in ACTIVE_EVERY is still active; the rest is soft-deleted history
+        execute("INSERT INTO orders (id, table_id, status, created_at, updated_at, deleted, deleted_at) "
+                + "SELECT gen_random_uuid(), 1 + g % 12, "
+                + "(ARRAY['PENDING','IN_PREPARATION','READY'])[1 + g % 3], "
+                + "timestamp '2024-01-15 08:00' + g * interval '1 second', "
+                + "timestamp '2024-01-15 08:00' + g * interval '1 second', "
+                + "g % " + ACTIVE_EVERY + " <> 0, "
+                + "CASE WHEN g % " + ACTIVE_EVERY + " <> 0 THEN timestamp '2024-01-16 00:00' END "
+                + "FROM generate_series(1, " + ORDERS + ") AS g");
+        execute("INSERT INTO order_items (order_id, order_created_at, product_id, quantity) "
+                + "SELECT o.id, o.created_at, 1 + p, 1 "
+                + "FROM orders o, generate_series(0, 2) AS p");
+        execute("ANALYZE orders");
+        execute("ANALYZE order_items");
+        // Plans must hold whatever the bound values are
+        execute("SET plan_cache_mode = force_generic_plan");
+    }
+
+    @AfterAll
+    static void dropSchema() throws SQLException {
+        if (connection != null) {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            connection.close();
+        }
+    }
+
+    @Test
+    void findByStatusInActive_usesIndexOnOrders() throws Exception {
+        assertNoSeqScanOnOrders(() -> orderRepository.findByStatusInActive(
+                List.of(OrderStatus.PENDING, OrderStatus.IN_PREPARATION, OrderStatus.READY)));
+    }
+
+    @Test
+    void findAllActive_usesIndexOnOrders() throws Exception {
+        assertNoSeqScanOnOrders(() -> orderRepository.findAllActive());
+    }
+
+    @Test
+    void findActiveIdsAfter_usesIndexOnOrders() throws Exception {
+        assertNoSeqScanOnOrders(() -> orderRepository.findActiveIdsAfter(
+                LocalDateTime.of(2024, 1, 15, 10, 0), new UUID(0, 0), PageRequest.ofSize(51)));
+    }
+
+    @Test
+    void findActiveIdsByStatusIn_usesIndexOnOrders() throws Exception {
+        assertNoSeqScanOnOrders(() -> orderRepository.findActiveIdsByStatusIn(
+                List.of(OrderStatus.PENDING, OrderStatus.IN_PREPARATION), PageRequest.ofSize(51)));
+    }
+
+    @Test
+    void findByIdActive_usesIndexOnOrders() throws Exception {
+        assertNoSeqScanOnOrders(() -> orderRepository.findByIdActive(new UUID(0, 0)));
+    }
+
+    private void assertNoSeqScanOnOrders(Runnable query) throws Exception {
+        sqlRecorder.statements.clear();
+        query.run();
+        assertThat(sqlRecorder.statements).as("SQL generated by the repository query").isNotEmpty();
+
+        for (String sql : sqlRecorder.statements) {
+            JsonNode plan = explainGeneric(sql);
+            List<String> seqScans = new ArrayList<>();
+            collectSeqScans(plan, seqScans);
+            assertThat(seqScans)
+                    .as("Sequential scans in plan of: %s%nPlan: %s", sql, plan.toPrettyString())
+                    .noneMatch(relation -> relation.equals("orders") || relation.startsWith("orders_"));
+        }
+    }
+
+    /**
+     * EXPLAINs Hibernate SQL as a prepared statement. Under force_generic_plan the values
+     * passed to EXECUTE do not shape the plan, so any value of the parameter's type will do.
+     */
+    private static JsonNode explainGeneric(String sql) throws Exception {
+        StringBuilder prepared = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameter);
+            } else {
+                prepared.append(c);
+            }
+        }
+        execute("PREPARE " + STATEMENT + " AS " + prepared);
+        try {
+            List<String> arguments = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT unnest(parameter_types)::text FROM pg_prepared_statements WHERE name = ?")) {
+                statement.setString(1, STATEMENT);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        arguments.add(sampleValue(resultSet.getString(1)));
+                    }
+                }
+            }
+            String execute = arguments.isEmpty()
+                    ? STATEMENT
+                    : STATEMENT + "(" + String.join(", ", arguments) + ")";
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE " + execute)) {
+                resultSet.next();
+                return new ObjectMapper().readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        } finally {
+            execute("DEALLOCATE " + STATEMENT);
+        }
+    }
+
+    private static String sampleValue(String type) {
+        if (type.equals("uuid")) {
+            return "'" + new UUID(0, 0) + "'";
+        }
+        if (type.startsWith("timestamp")) {
+            return "'2024-01-15 10:00'";
+        }
+        if (type.equals("boolean")) {
+            return "false";
+        }
+        if (type.equals("smallint") || type.equals("integer") || type.equals("bigint")) {
+            return "51";
+        }
+        return "'" + OrderStatus.PENDING.name() + "'";
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String url() {
+        return System.getenv("ORDER_PLAN_TEST_JDBC_URL");
+    }
+
+    private static String user() {
+        return System.getenv().getOrDefault("ORDER_PLAN_TEST_USER", "restaurant_user");
+    }
+
+    private static String password() {
+        return System.getenv().getOrDefault("ORDER_PLAN_TEST_PASSWORD", "restaurant_pass");
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    static class SqlRecorder implements StatementInspector, HibernatePropertiesCustomizer {
+
+        final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void customize(Map<String, Object> hibernateProperties) {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.restaurant.orderservice.repository;
+
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.entity.Order;
+import com.restaurant.orderservice.entity.OrderItem;
+import com.restaurant.orderservice.entity.Product;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.service.OrderMapper;
+import com.restaurant.orderservice.service.ProductCatalog;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the GET /orders and GET /orders/{id} read paths: managed entities versus
+ * the OrderItemRow projection.
+ *
+ * Each simulated request runs in its own read-only transaction. The benchmark reports mean
+ * latency and bytes allocated by the calling thread per request. Numbers are printed, not
+ * asserted; only the equivalence of both paths is checked.
+ *
+ *   mvn -pl order-service test -Pbenchmark -Dtest=OrderReadPathBenchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "logging.level.org.hibernate.SQL=warn"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderReadPathBenchmarkTest {
+
+    private static final int ORDERS = 2_000;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private OrderMapper orderMapper;
+    private List<UUID> pageIds;
+    private UUID orderId;
+
+    @BeforeEach
+    void seed() {
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.executeWithoutResult(status -> {
+            for (long id = 1; id <= 5; id++) {
+                entityManager.persist(new Product(null, "Product " + id, "Benchmark product", true));
+            }
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = new Order();
+                order.setTableId(i % 12 + 1);
+                order.setStatus(OrderStatus.PENDING);
+                List<OrderItem> items = new ArrayList<>();
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    OrderItem item = new OrderItem();
+                    item.setOrder(order);
+                    item.setProductId((long) j + 1);
+                    item.setQuantity(1);
+                    item.setNote(j == 0 ? "Sin cebolla" : null);
+                    items.add(item);
+                }
+                order.setItems(items);
+                entityManager.persist(order);
+            }
+        });
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        orderMapper = new OrderMapper(new ProductCatalog(productRepository));
+        pageIds = readOnly.execute(status -> orderRepository.findActiveIds(PageRequest.of(0, PAGE_SIZE)));
+        orderId = pageIds.get(PAGE_SIZE / 2);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM OrderItem").executeUpdate();
+            entityManager.createQuery("DELETE FROM Order").executeUpdate();
+            entityManager.createQuery("DELETE FROM Product").executeUpdate();
+        });
+    }
+
+    @Test
+    void orderListPage_entitiesVersusProjection() {
+        Supplier<List<OrderResponse>> entities = () -> readOnly.execute(status ->
+                orderMapper.mapToOrderResponseList(entityManager.createQuery(
+                        "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids "
+                                + "ORDER BY o.createdAt, o.id", Order.class)
+                        .setParameter("ids", pageIds)
+                        .getResultList()));
+        Supplier<List<OrderResponse>> projection = () -> readOnly.execute(status ->
+                orderMapper.mapRowsToOrderResponses(orderRepository.findRowsByIdIn(pageIds)));
+
+        assertThat(projection.get()).isEqualTo(entities.get());
+        report("GET /orders (" + PAGE_SIZE + " orders)", entities, projection);
+    }
+
+    @Test
+    void orderDetail_entitiesVersusProjection() {
+        Supplier<OrderResponse> entities = () -> readOnly.execute(status ->
+                orderMapper.mapToOrderResponse(orderRepository.findByIdActive(orderId).orElseThrow()));
+        Supplier<OrderResponse> projection = () -> readOnly.execute(status ->
+                orderMapper.mapRowsToOrderResponses(orderRepository.findActiveRowsById(orderId)).get(0));
+
+        assertThat(projection.get()).isEqualTo(entities.get());
+        report("GET /orders/{id}", entities, projection);
+    }
+
+    private void report(String name, Supplier<?> entities, Supplier<?> projection) {
+        Measurement before = measure(entities);
+        Measurement after = measure(projection);
+        System.out.printf("%n%s%n", name);
+        System.out.printf("  entities   : %8.1f us/request %10d bytes/request%n", before.micros, before.bytes);
+        System.out.printf("  projection : %8.1f us/request %10d bytes/request%n", after.micros, after.bytes);
+    }
+
+    private Measurement measure(Supplier<?> request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.get();
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Measurement(elapsed / 1_000.0 / ITERATIONS, bytes / ITERATIONS);
+    }
+
+    private static final class Measurement {
+        private final double micros;
+        private final long bytes;
+
+        private Measurement(double micros, long bytes) {
+            this.micros = micros;
+            this.bytes = bytes;
+        }
+    }
+}
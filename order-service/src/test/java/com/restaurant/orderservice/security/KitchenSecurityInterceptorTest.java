@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -69,4 +71,31 @@ class KitchenSecurityInterceptorTest {
 
         assertThat(allowed).isTrue();
     }
+
+    @Test
+    void preHandle_deniesOrderStreamWhenTokenMissing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/stream");
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(KitchenAccessDeniedException.class)
+                .hasMessageContaining("required");
+    }
+
+    @Test
+    void preHandle_deniesOrderChangesWhenTokenMissing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/changes");
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(KitchenAccessDeniedException.class)
+                .hasMessageContaining("required");
+    }
+
+    @Test
+    void preHandle_deniesDeleteJobWhenTokenMissing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/delete-jobs/" + UUID.randomUUID());
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(KitchenAccessDeniedException.class)
+                .hasMessageContaining("required");
+    }
 }
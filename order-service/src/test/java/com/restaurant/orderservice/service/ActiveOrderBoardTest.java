@@ -0,0 +1,244 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderPage;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ActiveOrderBoard.
+ *
+ * Tests the initial load, keyset pages across statuses, write-through of committed
+ * changes, the reload on RESYNC and the fallback to the database.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActiveOrderBoardTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private SingleInstanceLock singleInstanceLock;
+
+    private OrderChangeTracker orderChangeTracker;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(singleInstanceLock.isExclusive()).thenReturn(true);
+        orderChangeTracker = new OrderChangeTracker(singleInstanceLock);
+    }
+
+    @Test
+    void isReady_onlyAfterLoad() {
+        ActiveOrderBoard board = board(true, 100);
+        loadWith(board);
+
+        assertThat(board.isReady()).isTrue();
+        assertThat(board(true, 100).isReady()).isFalse();
+    }
+
+    @Test
+    void getOrders_filtersByStatusInCreationOrder() {
+        OrderResponse pending = order(2, OrderStatus.PENDING);
+        OrderResponse ready = order(1, OrderStatus.READY);
+        OrderResponse inPreparation = order(3, OrderStatus.IN_PREPARATION);
+        ActiveOrderBoard board = board(true, 100);
+        loadWith(board, pending, ready, inPreparation);
+
+        assertThat(board.getOrders(List.of(OrderStatus.PENDING, OrderStatus.IN_PREPARATION)))
+                .containsExactly(pending, inPreparation);
+        assertThat(board.getOrders(null)).containsExactly(ready, pending, inPreparation);
+    }
+
+    @Test
+    void getOrdersPage_resumesAfterCursorAcrossStatuses() {
+        OrderResponse first = order(1, OrderStatus.PENDING);
+        OrderResponse second = order(2, OrderStatus.READY);
+        OrderResponse third = order(3, OrderStatus.PENDING);
+        ActiveOrderBoard board = board(true, 100);
+        loadWith(board, third, first, second);
+
+        OrderPage page = board.getOrdersPage(null, null, 2);
+        assertThat(page.getOrders()).containsExactly(first, second);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        OrderPage last = board.getOrdersPage(null, OrderCursor.decode(page.getNextCursor()), 2);
+        assertThat(last.getOrders()).containsExactly(third);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void committedChanges_areWrittenThrough() {
+        OrderResponse order = order(1, OrderStatus.PENDING);
+        ActiveOrderBoard board = board(true, 100);
+        loadWith(board);
+
+        OrderResponse created = order(2, OrderStatus.PENDING);
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, created.getId(), created));
+        OrderResponse moved = copy(created, OrderStatus.IN_PREPARATION);
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.STATUS_CHANGED, moved.getId(), moved));
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, order.getId(), order));
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.DELETED, order.getId(), null));
+
+        assertThat(board.getOrders(List.of(OrderStatus.PENDING))).isEmpty();
+        assertThat(board.getOrders(List.of(OrderStatus.IN_PREPARATION))).containsExactly(moved);
+        assertThat(board.getOrders(null)).containsExactly(moved);
+    }
+
+    @Test
+    void load_appliesChangesCommittedWhileLoading() {
+        OrderResponse loaded = order(1, OrderStatus.PENDING);
+        OrderResponse moved = copy(loaded, OrderStatus.READY);
+        ActiveOrderBoard board = board(true, 100);
+        when(orderRepository.findAllActive()).thenReturn(List.of());
+        when(orderMapper.mapToOrderResponseList(any())).thenAnswer(invocation -> {
+            orderChangeTracker.onOrderChanged(
+                    new OrderChangedEvent(OrderChangedEvent.Type.STATUS_CHANGED, moved.getId(), moved));
+            return List.of(loaded);
+        });
+
+        board.load();
+
+        assertThat(board.getOrders(null)).containsExactly(moved);
+    }
+
+    @Test
+    void load_whenDisabled_neverReadsDatabase() {
+        ActiveOrderBoard board = board(false, 100);
+
+        board.load();
+
+        assertThat(board.isReady()).isFalse();
+    }
+
+    @Test
+    void board_beyondMaxOrders_fallsBackToDatabase() {
+        ActiveOrderBoard board = board(true, 1);
+        loadWith(board, order(1, OrderStatus.PENDING));
+        assertThat(board.isReady()).isTrue();
+
+        OrderResponse created = order(2, OrderStatus.PENDING);
+        orderChangeTracker.onOrderChanged(new OrderChangedEvent(OrderChangedEvent.Type.CREATED, created.getId(), created));
+
+        assertThat(board.isReady()).isFalse();
+    }
+
+    @Test
+    void board_whenOtherInstancesMayWrite_fallsBackToDatabase() {
+        when(singleInstanceLock.isExclusive()).thenReturn(false);
+        ActiveOrderBoard board = board(true, 100);
+
+        board.load();
+
+        assertThat(board.isReady()).isFalse();
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void board_onResyncAfterTakingTheLock_loadsFromDatabase() {
+        when(singleInstanceLock.isExclusive()).thenReturn(false);
+        ActiveOrderBoard board = board(true, 100);
+        board.load();
+
+        when(singleInstanceLock.isExclusive()).thenReturn(true);
+        OrderResponse order = order(1, OrderStatus.PENDING);
+        when(orderRepository.findAllActive()).thenReturn(List.of());
+        when(orderMapper.mapToOrderResponseList(any())).thenReturn(List.of(order));
+        orderChangeTracker.onOrderChanged(OrderChangedEvent.resync());
+
+        assertThat(board.isReady()).isTrue();
+        assertThat(board.getOrders(null)).containsExactly(order);
+    }
+
+    @Test
+    void board_onResync_replacesOrdersMissedMeanwhile() {
+        ActiveOrderBoard board = board(true, 100);
+        OrderResponse stale = order(1, OrderStatus.PENDING);
+        loadWith(board, stale);
+
+        OrderResponse fresh = order(2, OrderStatus.READY);
+        when(orderMapper.mapToOrderResponseList(any())).thenReturn(List.of(fresh));
+        orderChangeTracker.onOrderChanged(OrderChangedEvent.resync());
+
+        assertThat(board.isReady()).isTrue();
+        assertThat(board.getOrders(null)).containsExactly(fresh);
+    }
+
+    @Test
+    void board_whenDisabled_ignoresResync() {
+        ActiveOrderBoard board = board(false, 100);
+        board.load();
+
+        orderChangeTracker.onOrderChanged(OrderChangedEvent.resync());
+
+        assertThat(board.isReady()).isFalse();
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void board_afterLosingSingleInstanceLock_fallsBackToDatabase() {
+        ActiveOrderBoard board = board(true, 100);
+        loadWith(board, order(1, OrderStatus.PENDING));
+        assertThat(board.isReady()).isTrue();
+
+        when(singleInstanceLock.isExclusive()).thenReturn(false);
+
+        assertThat(board.isReady()).isFalse();
+    }
+
+    private ActiveOrderBoard board(boolean enabled, int maxOrders) {
+        // Reloads run inline
+        return new ActiveOrderBoard(orderRepository, orderMapper, orderChangeTracker,
+                new SimpleMeterRegistry(), enabled, maxOrders, Runnable::run);
+    }
+
+    private void loadWith(ActiveOrderBoard board, OrderResponse... orders) {
+        when(orderRepository.findAllActive()).thenReturn(List.of());
+        when(orderMapper.mapToOrderResponseList(any())).thenReturn(List.of(orders));
+        board.load();
+    }
+
+    private OrderResponse order(int minute, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .tableId(minute)
+                .status(status)
+                .items(List.of())
+                .createdAt(START.plusMinutes(minute))
+                .updatedAt(START.plusMinutes(minute))
+                .build();
+    }
+
+    private OrderResponse copy(OrderResponse order, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .tableId(order.getTableId())
+                .status(status)
+                .items(order.getItems())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt().plusMinutes(1))
+                .build();
+    }
+}
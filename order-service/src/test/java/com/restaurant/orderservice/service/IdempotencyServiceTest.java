@@ -0,0 +1,173 @@
+package com.restaurant.orderservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.orderservice.dto.CreateOrderRequest;
+import com.restaurant.orderservice.dto.OrderItemRequest;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.entity.IdempotencyKey;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.exception.IdempotencyKeyConflictException;
+import com.restaurant.orderservice.exception.InvalidOrderException;
+import com.restaurant.orderservice.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for IdempotencyService.
+ *
+ * Tests key recording, replay from the LRU and from the table, and conflict detection.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private CreateOrderRequest request;
+    private OrderResponse response;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(
+                idempotencyKeyRepository, new ObjectMapper().findAndRegisterModules(), 24, 2);
+        request = new CreateOrderRequest(5, List.of(new OrderItemRequest(1L, 2, "Sin cebolla")));
+        response = OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .tableId(5)
+                .status(OrderStatus.PENDING)
+                .items(List.of())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findReplay_withUnknownKey_returnsEmpty() {
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        assertThat(idempotencyService.findReplay("key-1", request)).isEmpty();
+    }
+
+    @Test
+    void record_afterCommit_replaysFromCacheWithoutQuerying() {
+        recordAndCommit("key-1");
+
+        Optional<OrderResponse> replay = idempotencyService.findReplay("key-1", request);
+
+        assertThat(replay).contains(response);
+        verify(idempotencyKeyRepository, never()).findById(any());
+    }
+
+    @Test
+    void record_whenTransactionRollsBack_doesNotCacheKey() {
+        TransactionSynchronizationManager.initSynchronization();
+        idempotencyService.record("key-1", request, response);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        assertThat(idempotencyService.findReplay("key-1", request)).isEmpty();
+    }
+
+    @Test
+    void findReplay_withKeyOnlyInTable_loadsAndCachesIt() {
+        IdempotencyKey stored = recordAndCaptureRow("key-1");
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(stored));
+        IdempotencyService restarted = new IdempotencyService(
+                idempotencyKeyRepository, new ObjectMapper().findAndRegisterModules(), 24, 2);
+
+        Optional<OrderResponse> first = restarted.findReplay("key-1", request);
+        Optional<OrderResponse> second = restarted.findReplay("key-1", request);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getId()).isEqualTo(response.getId());
+        assertThat(second.get().getId()).isEqualTo(response.getId());
+        verify(idempotencyKeyRepository, times(1)).findById("key-1");
+    }
+
+    @Test
+    void findReplay_withExpiredRow_returnsEmptyAndFreesTheKey() {
+        IdempotencyKey stored = recordAndCaptureRow("key-1");
+        stored.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.of(stored));
+        IdempotencyService restarted = new IdempotencyService(
+                idempotencyKeyRepository, new ObjectMapper().findAndRegisterModules(), 24, 2);
+
+        assertThat(restarted.findReplay("key-1", request)).isEmpty();
+        verify(idempotencyKeyRepository).deleteExpired(eq("key-1"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void findReplay_withSameKeyAndDifferentBody_throwsConflict() {
+        recordAndCommit("key-1");
+        CreateOrderRequest otherRequest = new CreateOrderRequest(6, request.getItems());
+
+        assertThatThrownBy(() -> idempotencyService.findReplay("key-1", otherRequest))
+                .isInstanceOf(IdempotencyKeyConflictException.class)
+                .hasMessageContaining("key-1");
+    }
+
+    @Test
+    void findReplay_withTooLongKey_throwsInvalidOrderException() {
+        String key = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+
+        assertThatThrownBy(() -> idempotencyService.findReplay(key, request))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("Idempotency-Key");
+    }
+
+    @Test
+    void cache_evictsLeastRecentlyUsedKeyBeyondCapacity() {
+        recordAndCommit("key-1");
+        recordAndCommit("key-2");
+        recordAndCommit("key-3");
+        when(idempotencyKeyRepository.findById("key-1")).thenReturn(Optional.empty());
+
+        assertThat(idempotencyService.findReplay("key-3", request)).isPresent();
+        assertThat(idempotencyService.findReplay("key-1", request)).isEmpty();
+    }
+
+    private void recordAndCommit(String key) {
+        TransactionSynchronizationManager.initSynchronization();
+        idempotencyService.record(key, request, response);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private IdempotencyKey recordAndCaptureRow(String key) {
+        recordAndCommit(key);
+        ArgumentCaptor<IdempotencyKey> captor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -1,19 +1,21 @@
 package com.restaurant.orderservice.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.orderservice.dto.ProductResponse;
 import com.restaurant.orderservice.entity.Product;
-import com.restaurant.orderservice.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -22,9 +24,10 @@ import static org.mockito.Mockito.when;
 class MenuServiceTest {
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @InjectMocks
     private MenuService menuService;
 
     private Product activeProduct1;
@@ -32,6 +35,8 @@ class MenuServiceTest {
 
     @BeforeEach
     void setUp() {
+        menuService = new MenuService(productCatalog, objectMapper);
+
         activeProduct1 = new Product(1L, "Empanadas criollas", "Empanadas de carne con salsa casera.", true);
         activeProduct1.setPrice(new BigDecimal("450.00"));
         activeProduct1.setCategory("entradas");
@@ -46,7 +51,7 @@ class MenuServiceTest {
     @Test
     void getActiveProducts_shouldReturnOnlyActiveProducts() {
         List<Product> activeProducts = Arrays.asList(activeProduct1, activeProduct2);
-        when(productRepository.findByIsActiveTrueOrderByIdAsc()).thenReturn(activeProducts);
+        catalogWith(activeProducts);
 
         List<ProductResponse> result = menuService.getActiveProducts();
 
@@ -58,7 +63,7 @@ class MenuServiceTest {
 
     @Test
     void getActiveProducts_shouldReturnEmptyListWhenNoActiveProducts() {
-        when(productRepository.findByIsActiveTrueOrderByIdAsc()).thenReturn(Collections.emptyList());
+        catalogWith(Collections.emptyList());
 
         List<ProductResponse> result = menuService.getActiveProducts();
 
@@ -68,7 +73,7 @@ class MenuServiceTest {
     @Test
     void getActiveProducts_shouldMapProductToProductResponse() {
         List<Product> activeProducts = Collections.singletonList(activeProduct1);
-        when(productRepository.findByIsActiveTrueOrderByIdAsc()).thenReturn(activeProducts);
+        catalogWith(activeProducts);
 
         List<ProductResponse> result = menuService.getActiveProducts();
 
@@ -86,7 +91,7 @@ class MenuServiceTest {
     @Test
     void getActiveProducts_shouldReturnAllProductFields() {
         List<Product> activeProducts = Arrays.asList(activeProduct1, activeProduct2);
-        when(productRepository.findByIsActiveTrueOrderByIdAsc()).thenReturn(activeProducts);
+        catalogWith(activeProducts);
 
         List<ProductResponse> result = menuService.getActiveProducts();
 
@@ -100,4 +105,64 @@ class MenuServiceTest {
             assertThat(productResponse.getIsActive()).isNotNull();
         });
     }
+
+    @Test
+    void getActiveProducts_shouldSkipInactiveProducts() {
+        Product inactive = new Product(3L, "Locro", "Fuera de temporada.", false);
+        catalogWith(Arrays.asList(activeProduct1, inactive, activeProduct2));
+
+        List<ProductResponse> result = menuService.getActiveProducts();
+
+        assertThat(result).extracting(ProductResponse::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void getMenuDocument_serializesActiveProductsAsJsonAndGzip() throws IOException {
+        catalogWith(Arrays.asList(activeProduct1, activeProduct2));
+
+        MenuDocument document = menuService.getMenuDocument();
+
+        assertThat(document.getJson()).isEqualTo(objectMapper.writeValueAsBytes(menuService.getActiveProducts()));
+        assertThat(gunzip(document.getGzip())).isEqualTo(document.getJson());
+        assertThat(document.getETag()).startsWith("\"menu-").isNotEqualTo(document.getGzipETag());
+    }
+
+    @Test
+    void getMenuDocument_isReusedUntilCatalogChanges() {
+        when(productCatalog.snapshot()).thenReturn(
+                new ProductCatalogSnapshot(1L, List.of(activeProduct1)),
+                new ProductCatalogSnapshot(1L, List.of(activeProduct1)),
+                new ProductCatalogSnapshot(2L, List.of(activeProduct1, activeProduct2)));
+
+        MenuDocument first = menuService.getMenuDocument();
+        MenuDocument second = menuService.getMenuDocument();
+        MenuDocument afterChange = menuService.getMenuDocument();
+
+        assertThat(second).isSameAs(first);
+        assertThat(afterChange.getCatalogVersion()).isEqualTo(2L);
+        assertThat(afterChange.getETag()).isNotEqualTo(first.getETag());
+    }
+
+    @Test
+    void getMenuDocument_withSameContent_keepsETag() {
+        when(productCatalog.snapshot()).thenReturn(
+                new ProductCatalogSnapshot(1L, List.of(activeProduct1)),
+                new ProductCatalogSnapshot(2L, List.of(activeProduct1)));
+
+        MenuDocument first = menuService.getMenuDocument();
+        MenuDocument second = menuService.getMenuDocument();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getETag()).isEqualTo(first.getETag());
+    }
+
+    private void catalogWith(List<Product> products) {
+        when(productCatalog.snapshot()).thenReturn(new ProductCatalogSnapshot(1L, products));
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
 }
@@ -0,0 +1,228 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderChangesResponse;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.entity.OrderChangeRecord;
+import com.restaurant.orderservice.infrastructure.persistence.SingleInstanceLock;
+import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.repository.OrderChangeRecordRepository;
+import com.restaurant.orderservice.repository.OrderItemRow;
+import com.restaurant.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderChangeLog.
+ *
+ * Tests deltas served from memory and from the spilled table, collapsing of repeated
+ * changes, and the cases that ask the client to resync.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderChangeLogTest {
+
+    private static final long START = 1_000;
+
+    @Mock
+    private OrderChangeRecordRepository changeRecordRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private SingleInstanceLock singleInstanceLock;
+
+    private OrderChangeLog changeLog;
+    private long changeVersion;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(singleInstanceLock.isExclusive()).thenReturn(true);
+        // Ring of 2 changes, spilled 2 at a time, synchronously
+        changeLog = new OrderChangeLog(changeRecordRepository, orderRepository, orderMapper,
+                new OrderChangeTracker(singleInstanceLock), 2, 2, 10, START, Runnable::run);
+    }
+
+    @Test
+    void getChangesSince_returnsLatestStateOfEachChangedOrder() {
+        OrderResponse first = order(OrderStatus.PENDING);
+        OrderResponse second = order(OrderStatus.PENDING);
+        change(OrderChangedEvent.Type.CREATED, first);
+        change(OrderChangedEvent.Type.CREATED, second);
+        OrderResponse firstReady = copy(first, OrderStatus.READY);
+        change(OrderChangedEvent.Type.STATUS_CHANGED, firstReady);
+
+        OrderChangesResponse changes = changeLog.getChangesSince(START + 1);
+
+        assertThat(changes.isResyncRequired()).isFalse();
+        assertThat(changes.getVersion()).isEqualTo(START + 3);
+        assertThat(changes.getOrders()).containsExactly(second, firstReady);
+        assertThat(changes.getDeletedIds()).isEmpty();
+        verify(changeRecordRepository, never()).findBetween(anyLong(), anyLong());
+    }
+
+    @Test
+    void getChangesSince_reportsDeletedOrders() {
+        OrderResponse order = order(OrderStatus.PENDING);
+        change(OrderChangedEvent.Type.CREATED, order);
+        changeLog.onOrderChange(++changeVersion,
+                new OrderChangedEvent(OrderChangedEvent.Type.DELETED, order.getId(), null));
+
+        OrderChangesResponse changes = changeLog.getChangesSince(START);
+
+        assertThat(changes.getOrders()).isEmpty();
+        assertThat(changes.getDeletedIds()).containsExactly(order.getId());
+    }
+
+    @Test
+    void getChangesSince_atCurrentVersion_returnsNothing() {
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+
+        OrderChangesResponse changes = changeLog.getChangesSince(START + 1);
+
+        assertThat(changes.isResyncRequired()).isFalse();
+        assertThat(changes.getOrders()).isEmpty();
+        assertThat(changes.getVersion()).isEqualTo(START + 1);
+    }
+
+    @Test
+    void spill_movesOldestChangesToTableAndReadsThemBack() {
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            orders.add(order(OrderStatus.PENDING));
+            change(OrderChangedEvent.Type.CREATED, orders.get(i));
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderChangeRecord>> spilled = ArgumentCaptor.forClass(List.class);
+        verify(changeRecordRepository).saveAll(spilled.capture());
+        assertThat(spilled.getValue()).extracting(OrderChangeRecord::getVersion).containsExactly(START + 1, START + 2);
+        assertThat(changeLog.inMemoryCount()).isEqualTo(2);
+
+        when(changeRecordRepository.findBetween(START, START + 3)).thenReturn(spilled.getValue());
+        List<OrderItemRow> rows = List.of();
+        when(orderRepository.findRowsByIdIn(List.of(orders.get(0).getId(), orders.get(1).getId()))).thenReturn(rows);
+        when(orderMapper.mapRowsToOrderResponses(rows)).thenReturn(List.of(orders.get(0), orders.get(1)));
+
+        OrderChangesResponse changes = changeLog.getChangesSince(START);
+
+        assertThat(changes.getOrders()).containsExactlyElementsOf(orders);
+    }
+
+    @Test
+    void getChangesSince_whenSpilledChangeIsMissing_requiresResync() {
+        for (int i = 0; i < 4; i++) {
+            change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        }
+        when(changeRecordRepository.findBetween(START, START + 3)).thenReturn(List.of());
+
+        assertThat(changeLog.getChangesSince(START).isResyncRequired()).isTrue();
+    }
+
+    @Test
+    void getChangesSince_withUnknownOrTooOldVersion_requiresResync() {
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+
+        OrderChangesResponse fromEarlierRun = changeLog.getChangesSince(START - 1);
+        OrderChangesResponse fromFuture = changeLog.getChangesSince(START + 5);
+
+        assertThat(fromEarlierRun.isResyncRequired()).isTrue();
+        assertThat(fromEarlierRun.getVersion()).isEqualTo(START + 1);
+        assertThat(fromFuture.isResyncRequired()).isTrue();
+
+        for (int i = 0; i < 10; i++) {
+            change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        }
+        assertThat(changeLog.getChangesSince(START).isResyncRequired()).isTrue();
+    }
+
+    @Test
+    void spill_whenTableFails_keepsChangesInMemoryUpToLimit() {
+        doThrow(new RuntimeException("database down")).when(changeRecordRepository).saveAll(anyIterable());
+
+        for (int i = 0; i < 8; i++) {
+            change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        }
+
+        // ring-size + 2 spill batches are kept; changes dropped beyond that need a resync
+        assertThat(changeLog.inMemoryCount()).isEqualTo(6);
+        assertThat(changeLog.getChangesSince(START).isResyncRequired()).isTrue();
+        assertThat(changeLog.getChangesSince(START + 2).getOrders()).hasSize(6);
+        verify(orderRepository, never()).findRowsByIdIn(any());
+    }
+
+    @Test
+    void onOrderChange_whenOtherInstancesMayWrite_neverSpillsAndRequiresResync() {
+        when(singleInstanceLock.isExclusive()).thenReturn(false);
+
+        for (int i = 0; i < 8; i++) {
+            change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        }
+
+        assertThat(changeLog.inMemoryCount()).isZero();
+        assertThat(changeLog.getChangesSince(START + 8).isResyncRequired()).isTrue();
+        verify(changeRecordRepository, never()).saveAll(anyIterable());
+        verify(changeRecordRepository, never()).deleteUpTo(anyLong());
+    }
+
+    @Test
+    void onOrderChange_onResync_requiresResyncBeforeItAndServesChangesAfterIt() {
+        change(OrderChangedEvent.Type.CREATED, order(OrderStatus.PENDING));
+        changeLog.onOrderChange(++changeVersion, OrderChangedEvent.resync());
+        OrderResponse created = order(OrderStatus.PENDING);
+        change(OrderChangedEvent.Type.CREATED, created);
+
+        assertThat(changeLog.getChangesSince(START + 1).isResyncRequired()).isTrue();
+        OrderChangesResponse changes = changeLog.getChangesSince(START + 2);
+        assertThat(changes.isResyncRequired()).isFalse();
+        assertThat(changes.getOrders()).containsExactly(created);
+        assertThat(changeLog.inMemoryCount()).isEqualTo(1);
+    }
+
+    private void change(OrderChangedEvent.Type type, OrderResponse order) {
+        changeLog.onOrderChange(++changeVersion, new OrderChangedEvent(type, order.getId(), order));
+    }
+
+    private OrderResponse order(OrderStatus status) {
+        return OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .tableId(1)
+                .status(status)
+                .items(List.of())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private OrderResponse copy(OrderResponse order, OrderStatus status) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .tableId(order.getTableId())
+                .status(status)
+                .items(order.getItems())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
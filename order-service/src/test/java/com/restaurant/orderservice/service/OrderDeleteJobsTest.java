@@ -0,0 +1,99 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.OrderDeleteJobResponse;
+import com.restaurant.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderDeleteJobs.
+ *
+ * Tests the async threshold, the job lifecycle and that only one job runs at a time.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderDeleteJobsTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    @Test
+    void startIfLarge_onSmallBoard_leavesDeletionToCaller() {
+        when(orderRepository.countActive()).thenReturn(10L);
+
+        assertThat(jobs().startIfLarge()).isEmpty();
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void startIfLarge_onLargeBoard_runsJobInBackground() {
+        when(orderRepository.countActive()).thenReturn(101L);
+        when(orderService.deleteAllOrders(any())).thenAnswer(invocation -> {
+            LongConsumer progress = invocation.getArgument(0);
+            progress.accept(50);
+            progress.accept(101);
+            return 101L;
+        });
+        OrderDeleteJobs jobs = jobs();
+
+        OrderDeleteJobResponse started = jobs.startIfLarge().orElseThrow();
+        assertThat(started.getStatus()).isEqualTo(OrderDeleteJobResponse.Status.RUNNING);
+        assertThat(started.getFinishedAt()).isNull();
+
+        queued.forEach(Runnable::run);
+
+        OrderDeleteJobResponse finished = jobs.find(started.getId()).orElseThrow();
+        assertThat(finished.getStatus()).isEqualTo(OrderDeleteJobResponse.Status.COMPLETED);
+        assertThat(finished.getDeletedCount()).isEqualTo(101);
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void startIfLarge_whileJobRuns_returnsRunningJob() {
+        when(orderRepository.countActive()).thenReturn(101L);
+        OrderDeleteJobs jobs = jobs();
+
+        OrderDeleteJobResponse first = jobs.startIfLarge().orElseThrow();
+        Optional<OrderDeleteJobResponse> second = jobs.startIfLarge();
+
+        assertThat(second).map(OrderDeleteJobResponse::getId).contains(first.getId());
+        assertThat(queued).hasSize(1);
+        verify(orderService, never()).deleteAllOrders(any());
+    }
+
+    @Test
+    void failedJob_isReportedAndAllowsNewJob() {
+        when(orderRepository.countActive()).thenReturn(101L);
+        when(orderService.deleteAllOrders(any())).thenThrow(new IllegalStateException("database down"));
+        OrderDeleteJobs jobs = jobs();
+
+        OrderDeleteJobResponse failed = jobs.startIfLarge().orElseThrow();
+        queued.forEach(Runnable::run);
+
+        assertThat(jobs.find(failed.getId())).map(OrderDeleteJobResponse::getStatus)
+                .contains(OrderDeleteJobResponse.Status.FAILED);
+        assertThat(jobs.startIfLarge().orElseThrow().getId()).isNotEqualTo(failed.getId());
+    }
+
+    private OrderDeleteJobs jobs() {
+        return new OrderDeleteJobs(orderService, orderRepository, 100, queued::add);
+    }
+}
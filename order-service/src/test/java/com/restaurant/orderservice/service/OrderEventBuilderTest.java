@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,7 +22,10 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,7 +43,7 @@ class OrderEventBuilderTest {
     
     @BeforeEach
     void setUp() {
-        orderEventBuilder = new OrderEventBuilder(productRepository);
+        orderEventBuilder = new OrderEventBuilder(new ProductCatalog(productRepository));
     }
     
     @Test
@@ -50,7 +54,7 @@ class OrderEventBuilderTest {
         
         Product product10 = new Product(10L, "Burger", "Juicy burger", true);
         product10.setPrice(new BigDecimal("8.99"));
-        when(productRepository.findAllById(List.of(10L))).thenReturn(List.of(product10));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product10));
         
         Order order = new Order();
         order.setId(orderId);
@@ -86,7 +90,7 @@ class OrderEventBuilderTest {
         // Arrange
         UUID orderId = UUID.randomUUID();
         
-        when(productRepository.findAllById(anyList())).thenReturn(Collections.emptyList());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
@@ -129,7 +133,7 @@ class OrderEventBuilderTest {
         // Arrange
         UUID orderId = UUID.randomUUID();
         
-        when(productRepository.findAllById(anyList())).thenReturn(Collections.emptyList());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
@@ -151,7 +155,7 @@ class OrderEventBuilderTest {
         // Arrange
         UUID orderId = UUID.randomUUID();
         
-        when(productRepository.findAllById(anyList())).thenReturn(Collections.emptyList());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
@@ -183,7 +187,7 @@ class OrderEventBuilderTest {
         UUID orderId = UUID.randomUUID();
         LocalDateTime specificTime = LocalDateTime.of(2026, 2, 12, 10, 30, 0);
         
-        when(productRepository.findAllById(anyList())).thenReturn(Collections.emptyList());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
@@ -206,7 +210,7 @@ class OrderEventBuilderTest {
         // Arrange
         UUID orderId = UUID.randomUUID();
         
-        when(productRepository.findAllById(anyList())).thenReturn(Collections.emptyList());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
@@ -233,7 +237,7 @@ class OrderEventBuilderTest {
         // Arrange
         UUID orderId = UUID.randomUUID();
         
-        when(productRepository.findAllById(anyList())).thenReturn(Collections.emptyList());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
@@ -273,8 +277,7 @@ class OrderEventBuilderTest {
         Product product2 = new Product(20L, "Coca Cola", "Refreshing drink", true);
         product2.setPrice(new BigDecimal("3.00"));
         
-        when(productRepository.findAllById(List.of(10L, 20L)))
-                .thenReturn(List.of(product1, product2));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1, product2));
         
         Order order = new Order();
         order.setId(orderId);
@@ -311,6 +314,8 @@ class OrderEventBuilderTest {
         assertThat(eventItem2.getQuantity()).isEqualTo(1);
         assertThat(eventItem2.getPrice()).isEqualByComparingTo(new BigDecimal("3.00"));
         assertThat(eventItem2.getProductName()).isEqualTo("Coca Cola");
+        
+        verify(productRepository, never()).findAllById(anyList());
     }
     
     @Test
@@ -318,9 +323,8 @@ class OrderEventBuilderTest {
         // Arrange
         UUID orderId = UUID.randomUUID();
         
-        // ProductRepository returns empty — product not found
-        when(productRepository.findAllById(List.of(99L)))
-                .thenReturn(Collections.emptyList());
+        // Catalog is empty — product not found
+        when(productRepository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
         
         Order order = new Order();
         order.setId(orderId);
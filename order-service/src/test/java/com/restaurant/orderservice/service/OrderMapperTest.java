@@ -6,13 +6,14 @@ import com.restaurant.orderservice.entity.Order;
 import com.restaurant.orderservice.entity.OrderItem;
 import com.restaurant.orderservice.entity.Product;
 import com.restaurant.orderservice.enums.OrderStatus;
+import com.restaurant.orderservice.repository.OrderItemRow;
 import com.restaurant.orderservice.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -25,7 +26,7 @@ import static org.mockito.Mockito.*;
 /**
  * Unit tests for OrderMapper.
  * 
- * Tests entity-to-DTO mapping logic with N+1 optimization.
+ * Tests entity-to-DTO mapping logic; product names come from the ProductCatalog snapshot.
  */
 @ExtendWith(MockitoExtension.class)
 class OrderMapperTest {
@@ -33,7 +34,6 @@ class OrderMapperTest {
     @Mock
     private ProductRepository productRepository;
     
-    @InjectMocks
     private OrderMapper orderMapper;
     
     private Product product1;
@@ -41,6 +41,8 @@ class OrderMapperTest {
     
     @BeforeEach
     void setUp() {
+        orderMapper = new OrderMapper(new ProductCatalog(productRepository));
+        
         product1 = new Product();
         product1.setId(1L);
         product1.setName("Pizza");
@@ -74,7 +76,7 @@ class OrderMapperTest {
         
         order.setItems(List.of(item));
         
-        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product1));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1));
         
         // Act
         OrderResponse response = orderMapper.mapToOrderResponse(order);
@@ -95,8 +97,9 @@ class OrderMapperTest {
         assertThat(itemResponse.getQuantity()).isEqualTo(2);
         assertThat(itemResponse.getNote()).isEqualTo("No onions");
         
-        // Verify batch loading (single query for all products)
-        verify(productRepository, times(1)).findAllById(List.of(1L));
+        // Verify catalog loading (single query, no per-order product lookup)
+        verify(productRepository, times(1)).findAll(any(Sort.class));
+        verify(productRepository, never()).findAllById(anyList());
     }
     
     @Test
@@ -125,7 +128,7 @@ class OrderMapperTest {
         
         order.setItems(List.of(item1, item2));
         
-        when(productRepository.findAllById(anyList())).thenReturn(List.of(product1, product2));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1, product2));
         
         // Act
         OrderResponse response = orderMapper.mapToOrderResponse(order);
@@ -135,8 +138,9 @@ class OrderMapperTest {
         assertThat(response.getItems().get(0).getProductName()).isEqualTo("Pizza");
         assertThat(response.getItems().get(1).getProductName()).isEqualTo("Burger");
         
-        // Verify N+1 optimization: only ONE batch query for all products
-        verify(productRepository, times(1)).findAllById(anyList());
+        // Verify N+1 optimization: products come from one catalog load
+        verify(productRepository, times(1)).findAll(any(Sort.class));
+        verify(productRepository, never()).findAllById(anyList());
     }
     
     @Test
@@ -163,7 +167,7 @@ class OrderMapperTest {
         
         order.setItems(List.of(item1, item2));
         
-        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product1));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1));
         
         // Act
         OrderResponse response = orderMapper.mapToOrderResponse(order);
@@ -173,8 +177,8 @@ class OrderMapperTest {
         assertThat(response.getItems().get(0).getProductName()).isEqualTo("Pizza");
         assertThat(response.getItems().get(1).getProductName()).isEqualTo("Pizza");
         
-        // Verify deduplication: only queries for unique product ID once
-        verify(productRepository, times(1)).findAllById(List.of(1L));
+        // Verify duplicated products are resolved from the same catalog snapshot
+        verify(productRepository, times(1)).findAll(any(Sort.class));
     }
     
     @Test
@@ -196,7 +200,7 @@ class OrderMapperTest {
         
         order.setItems(List.of(item));
         
-        when(productRepository.findAllById(List.of(999L))).thenReturn(List.of());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of());
         
         // Act
         OrderResponse response = orderMapper.mapToOrderResponse(order);
@@ -219,14 +223,27 @@ class OrderMapperTest {
         order.setUpdatedAt(LocalDateTime.now());
         order.setItems(new ArrayList<>());
         
-        when(productRepository.findAllById(anyList())).thenReturn(List.of());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of());
         
         // Act
         OrderResponse response = orderMapper.mapToOrderResponse(order);
         
         // Assert
         assertThat(response.getItems()).isEmpty();
-        verify(productRepository, times(1)).findAllById(anyList());
+        verify(productRepository, never()).findAllById(anyList());
+    }
+    
+    @Test
+    void mapToOrderResponse_acrossOrders_reusesCatalogSnapshot() {
+        // Arrange
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1, product2));
+        
+        // Act
+        orderMapper.mapToOrderResponse(createTestOrder(OrderStatus.PENDING));
+        orderMapper.mapToOrderResponse(createTestOrder(OrderStatus.READY));
+        
+        // Assert
+        verify(productRepository, times(1)).findAll(any(Sort.class));
     }
     
     @Test
@@ -235,7 +252,7 @@ class OrderMapperTest {
         Order order1 = createTestOrder(OrderStatus.PENDING);
         Order order2 = createTestOrder(OrderStatus.IN_PREPARATION);
         
-        when(productRepository.findAllById(anyList())).thenReturn(List.of());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of());
         
         // Act
         List<OrderResponse> responses = orderMapper.mapToOrderResponseList(List.of(order1, order2));
@@ -276,7 +293,7 @@ class OrderMapperTest {
         
         order.setItems(List.of(item));
         
-        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product1));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1));
         
         // Act
         OrderResponse response = orderMapper.mapToOrderResponse(order);
@@ -285,6 +302,34 @@ class OrderMapperTest {
         assertThat(response.getItems().get(0).getNote()).isNull();
     }
     
+    @Test
+    void mapRowsToOrderResponses_groupsContiguousRowsPerOrder() {
+        // Arrange
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        UUID emptyId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderItemRow> rows = List.of(
+                new OrderItemRow(firstId, 5, OrderStatus.PENDING, now, now, 1L, 1L, 2, "No onions"),
+                new OrderItemRow(firstId, 5, OrderStatus.PENDING, now, now, 2L, 2L, 1, null),
+                new OrderItemRow(secondId, 7, OrderStatus.READY, now, now, 3L, 99L, 1, null),
+                new OrderItemRow(emptyId, 8, OrderStatus.PENDING, now, now, null, null, null, null));
+        
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(product1, product2));
+        
+        // Act
+        List<OrderResponse> responses = orderMapper.mapRowsToOrderResponses(rows);
+        
+        // Assert
+        assertThat(responses).extracting(OrderResponse::getId).containsExactly(firstId, secondId, emptyId);
+        assertThat(responses.get(0).getItems()).extracting(OrderItemResponse::getProductName)
+                .containsExactly("Pizza", "Burger");
+        assertThat(responses.get(0).getItems().get(0).getNote()).isEqualTo("No onions");
+        assertThat(responses.get(1).getTableId()).isEqualTo(7);
+        assertThat(responses.get(1).getItems().get(0).getProductName()).isEqualTo("Producto desconocido");
+        assertThat(responses.get(2).getItems()).isEmpty();
+    }
+    
     private Order createTestOrder(OrderStatus status) {
         Order order = new Order();
         order.setId(UUID.randomUUID());
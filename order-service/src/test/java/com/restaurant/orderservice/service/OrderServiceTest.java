@@ -1,5 +1,16 @@
 package com.restaurant.orderservice.service;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.PageRequest;
+import com.restaurant.orderservice.dto.OrderPage;
+import org.mockito.ArgumentCaptor;
+import com.restaurant.orderservice.service.command.PublishOrderPlacedEventsCommand;
+import com.restaurant.orderservice.exception.ProductNotFoundException;
+import com.restaurant.orderservice.dto.BatchOrderResult;
+import com.restaurant.orderservice.dto.BatchCreateOrderResponse;
 import com.restaurant.orderservice.application.port.out.OrderPlacedEventPublisherPort;
 import com.restaurant.orderservice.application.port.out.OrderReadyEventPublisherPort;
 import com.restaurant.orderservice.dto.CreateOrderRequest;
@@ -11,12 +22,18 @@ import com.restaurant.orderservice.enums.OrderStatus;
 import com.restaurant.orderservice.exception.EventPublicationException;
 import com.restaurant.orderservice.exception.InvalidOrderException;
 import com.restaurant.orderservice.exception.OrderNotFoundException;
+import com.restaurant.orderservice.repository.OrderItemRow;
 import com.restaurant.orderservice.repository.OrderRepository;
 import com.restaurant.orderservice.service.command.OrderCommandExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -28,10 +45,12 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +77,26 @@ class OrderServiceTest {
     @Mock
     private OrderCommandExecutor orderCommandExecutor;
 
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private ActiveOrderBoard activeOrderBoard;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OrderPipelineMetrics pipelineMetrics = new OrderPipelineMetrics(meterRegistry);
+
     @InjectMocks
     private OrderService orderService;
 
@@ -123,6 +162,32 @@ class OrderServiceTest {
         verify(orderMapper, never()).mapToOrderResponse(any(Order.class));
     }
 
+    @Test
+    void createOrder_timesEachStageAndCountsPublishFailures() {
+        CreateOrderRequest request = new CreateOrderRequest(5, List.of(new OrderItemRequest(1L, 1, null)));
+        Order savedOrder = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        savedOrder.setItems(List.of(buildItem(savedOrder, 1L, 1, null)));
+        when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+        when(orderMapper.mapToOrderResponse(savedOrder)).thenReturn(OrderResponse.builder().id(savedOrder.getId()).build());
+
+        orderService.createOrder(request);
+        doThrow(new EventPublicationException("Broker unavailable", new RuntimeException("broker down")))
+                .when(orderCommandExecutor).execute(any());
+        assertThatThrownBy(() -> orderService.createOrder(request)).isInstanceOf(EventPublicationException.class);
+
+        for (String stage : List.of("validate", "save", "build_event", "map")) {
+            assertThat(meterRegistry.get("order.pipeline.stage")
+                    .tags("operation", "create", "stage", stage).timers())
+                    .as(stage).isNotEmpty();
+        }
+        assertThat(meterRegistry.get("order.pipeline.stage")
+                .tags("operation", "create", "stage", "publish", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.pipeline.stage")
+                .tags("operation", "create", "stage", "publish", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.pipeline.publish.failures")
+                .tag("operation", "create").counter().count()).isEqualTo(1);
+    }
+
     @Test
     void createOrder_withInvalidData_throwsValidationException() {
         CreateOrderRequest request = new CreateOrderRequest(0, List.of());
@@ -150,19 +215,21 @@ class OrderServiceTest {
                 .updatedAt(order.getUpdatedAt())
                 .build();
 
-        when(orderRepository.findByIdActive(orderId)).thenReturn(Optional.of(order));
-        when(orderMapper.mapToOrderResponse(order)).thenReturn(expected);
+        List<OrderItemRow> rows = List.of(row(order));
+        when(orderRepository.findActiveRowsById(orderId)).thenReturn(rows);
+        when(orderMapper.mapRowsToOrderResponses(rows)).thenReturn(List.of(expected));
 
         OrderResponse response = orderService.getOrderById(orderId);
 
         assertThat(response.getId()).isEqualTo(orderId);
-        verify(orderMapper).mapToOrderResponse(order);
+        verify(orderRepository, never()).findByIdActive(any());
     }
 
     @Test
     void getOrderById_withUnknownId_throwsOrderNotFound() {
         UUID orderId = UUID.randomUUID();
-        when(orderRepository.findByIdActive(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findActiveRowsById(orderId)).thenReturn(List.of());
+        when(orderMapper.mapRowsToOrderResponses(List.of())).thenReturn(List.of());
 
         assertThatThrownBy(() -> orderService.getOrderById(orderId))
                 .isInstanceOf(OrderNotFoundException.class)
@@ -211,6 +278,106 @@ class OrderServiceTest {
         verify(orderRepository, never()).findAllActive();
     }
 
+    @Test
+    void getOrdersPage_whenMoreOrdersFollow_returnsLimitAndNextCursor() {
+        ReflectionTestUtils.setField(orderService, "maxPageLimit", 200);
+        Order order1 = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        Order order2 = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        UUID thirdId = UUID.randomUUID();
+        List<OrderItemRow> rows = List.of(row(order1), row(order2));
+
+        when(orderRepository.findActiveIds(PageRequest.of(0, 3)))
+                .thenReturn(List.of(order1.getId(), order2.getId(), thirdId));
+        when(orderRepository.findRowsByIdIn(List.of(order1.getId(), order2.getId()))).thenReturn(rows);
+        when(orderMapper.mapRowsToOrderResponses(rows)).thenReturn(List.of(
+                OrderResponse.builder().id(order1.getId()).createdAt(order1.getCreatedAt()).build(),
+                OrderResponse.builder().id(order2.getId()).createdAt(order2.getCreatedAt()).build()));
+
+        OrderPage page = orderService.getOrdersPage(null, null, 2);
+
+        assertThat(page.getOrders()).hasSize(2);
+        assertThat(page.getNextCursor()).isNotBlank();
+
+        // The cursor resumes right after the last order of the page
+        orderService.getOrdersPage(List.of(OrderStatus.PENDING), page.getNextCursor(), 2);
+        verify(orderRepository).findActiveIdsByStatusInAfter(
+                List.of(OrderStatus.PENDING), order2.getCreatedAt(), order2.getId(), PageRequest.of(0, 3));
+    }
+
+    @Test
+    void getOrdersPage_onLastPage_returnsNoCursor() {
+        ReflectionTestUtils.setField(orderService, "defaultPageLimit", 50);
+        Order order1 = buildOrder(UUID.randomUUID(), OrderStatus.READY);
+        List<OrderItemRow> rows = List.of(row(order1));
+        List<OrderStatus> filter = List.of(OrderStatus.READY);
+
+        when(orderRepository.findActiveIdsByStatusIn(filter, PageRequest.of(0, 51))).thenReturn(List.of(order1.getId()));
+        when(orderRepository.findRowsByIdIn(List.of(order1.getId()))).thenReturn(rows);
+        when(orderMapper.mapRowsToOrderResponses(rows))
+                .thenReturn(List.of(OrderResponse.builder().id(order1.getId()).build()));
+
+        OrderPage page = orderService.getOrdersPage(filter, null, null);
+
+        assertThat(page.getOrders()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getOrdersPage_fromDatabase_readsIdsAndRowsInOneReadOnlyTransaction() {
+        ReflectionTestUtils.setField(orderService, "defaultPageLimit", 50);
+        Order order1 = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        List<OrderItemRow> rows = List.of(row(order1));
+        when(orderRepository.findActiveIds(PageRequest.of(0, 51))).thenReturn(List.of(order1.getId()));
+        when(orderRepository.findRowsByIdIn(List.of(order1.getId()))).thenReturn(rows);
+        when(orderMapper.mapRowsToOrderResponses(rows))
+                .thenReturn(List.of(OrderResponse.builder().id(order1.getId()).build()));
+
+        orderService.getOrdersPage(null, null, null);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(1)).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+
+    @Test
+    void getOrdersPage_withLimitAboveMaximum_capsPageSize() {
+        ReflectionTestUtils.setField(orderService, "maxPageLimit", 200);
+        when(orderRepository.findActiveIds(any())).thenReturn(List.of());
+
+        orderService.getOrdersPage(null, null, 10_000);
+
+        verify(orderRepository).findActiveIds(PageRequest.of(0, 201));
+        verify(orderRepository, never()).findRowsByIdIn(any());
+    }
+
+    @Test
+    void getOrdersPage_whenBoardIsReady_readsNoDatabase() {
+        ReflectionTestUtils.setField(orderService, "maxPageLimit", 200);
+        List<OrderStatus> filter = List.of(OrderStatus.PENDING, OrderStatus.IN_PREPARATION);
+        OrderPage boardPage = OrderPage.builder().orders(List.of()).build();
+        when(activeOrderBoard.isReady()).thenReturn(true);
+        when(activeOrderBoard.getOrdersPage(filter, null, 20)).thenReturn(boardPage);
+
+        OrderPage page = orderService.getOrdersPage(filter, null, 20);
+
+        assertThat(page).isSameAs(boardPage);
+        verifyNoInteractions(orderRepository, orderMapper, transactionManager);
+    }
+
+    @Test
+    void getOrdersPage_withMalformedCursor_throwsInvalidOrderException() {
+        assertThatThrownBy(() -> orderService.getOrdersPage(null, "not-a-cursor", 10))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void getOrdersPage_withNonPositiveLimit_throwsInvalidOrderException() {
+        assertThatThrownBy(() -> orderService.getOrdersPage(null, null, 0))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("Limit must be a positive integer");
+    }
+
     @Test
     void updateOrderStatus_withValidOrder_updatesAndMapsResponse() {
         UUID orderId = UUID.randomUUID();
@@ -237,6 +404,11 @@ class OrderServiceTest {
         verify(orderRepository).save(any(Order.class));
         verify(orderCommandExecutor).execute(any());
         verify(orderMapper).mapToOrderResponse(updated);
+
+        ArgumentCaptor<OrderChangedEvent> change = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(change.capture());
+        assertThat(change.getValue().getType()).isEqualTo(OrderChangedEvent.Type.STATUS_CHANGED);
+        assertThat(change.getValue().getOrder()).isSameAs(expected);
     }
 
     @Test
@@ -289,6 +461,11 @@ class OrderServiceTest {
         assertThat(order.isDeleted()).isTrue();
         assertThat(order.getDeletedAt()).isNotNull();
         verify(orderRepository).save(order);
+
+        ArgumentCaptor<OrderChangedEvent> change = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(change.capture());
+        assertThat(change.getValue().getType()).isEqualTo(OrderChangedEvent.Type.DELETED);
+        assertThat(change.getValue().getOrderId()).isEqualTo(orderId);
     }
 
     @Test
@@ -305,20 +482,26 @@ class OrderServiceTest {
 
     @Test
     void deleteAllOrders_returnsDeletedCount() {
-        Order order1 = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
-        Order order2 = buildOrder(UUID.randomUUID(), OrderStatus.IN_PREPARATION);
-        List<Order> activeOrders = List.of(order1, order2);
-        when(orderRepository.findAllActive()).thenReturn(activeOrders);
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        long deletedCount = orderService.deleteAllOrders();
+        ReflectionTestUtils.setField(orderService, "bulkDeleteChunkSize", 2);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        // One of the chunk was deleted concurrently: only the affected rows count
+        when(orderRepository.findActiveIdsInIdOrder(PageRequest.of(0, 2))).thenReturn(List.of(id1, id2));
+        when(orderRepository.findActiveIdsInIdOrderAfter(id2, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(orderRepository.markDeletedByIdIn(eq(List.of(id1, id2)), any(LocalDateTime.class))).thenReturn(1);
+        List<Long> progress = new ArrayList<>();
+
+        long deletedCount = orderService.deleteAllOrders(progress::add);
+
+        assertThat(deletedCount).isEqualTo(1L);
+        assertThat(progress).containsExactly(1L);
+        verify(orderRepository, never()).findAllActive();
+        verify(orderRepository, never()).save(any(Order.class));
+    }
 
-        assertThat(deletedCount).isEqualTo(2L);
-        assertThat(order1.isDeleted()).isTrue();
-        assertThat(order2.isDeleted()).isTrue();
-        verify(orderRepository).findAllActive();
-        verify(orderRepository).save(order1);
-        verify(orderRepository).save(order2);
+    private static OrderItemRow row(Order order) {
+        return new OrderItemRow(order.getId(), order.getTableId(), order.getStatus(),
+                order.getCreatedAt(), order.getUpdatedAt(), 1L, 1L, 1, null);
     }
 
     private static Order buildOrder(UUID id, OrderStatus status) {
@@ -341,4 +524,111 @@ class OrderServiceTest {
         item.setNote(note);
         return item;
     }
+
+    @Test
+    void createOrders_withMixedBatch_createsValidOrdersAndRejectsInvalidOnes() {
+        ReflectionTestUtils.setField(orderService, "maxBatchSize", 10);
+        CreateOrderRequest valid = new CreateOrderRequest(5, List.of(new OrderItemRequest(1L, 2, null)));
+        CreateOrderRequest unknownProduct = new CreateOrderRequest(6, List.of(new OrderItemRequest(999L, 1, null)));
+        CreateOrderRequest alsoValid = new CreateOrderRequest(7, List.of(new OrderItemRequest(2L, 1, null)));
+
+        ProductCatalogSnapshot snapshot = mock(ProductCatalogSnapshot.class);
+        when(productCatalog.snapshot()).thenReturn(snapshot);
+        doNothing().when(orderValidator).validateCreateOrderRequest(valid, snapshot);
+        doNothing().when(orderValidator).validateCreateOrderRequest(alsoValid, snapshot);
+        doThrow(new ProductNotFoundException(999L))
+                .when(orderValidator).validateCreateOrderRequest(unknownProduct, snapshot);
+
+        Order saved1 = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        Order saved2 = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        when(orderRepository.saveAll(anyList())).thenReturn(List.of(saved1, saved2));
+        OrderResponse response1 = OrderResponse.builder().id(saved1.getId()).build();
+        OrderResponse response2 = OrderResponse.builder().id(saved2.getId()).build();
+        when(orderMapper.mapToOrderResponseList(List.of(saved1, saved2))).thenReturn(List.of(response1, response2));
+
+        BatchCreateOrderResponse result = orderService.createOrders(List.of(valid, unknownProduct, alsoValid));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchOrderResult::getStatus)
+                .containsExactly(BatchOrderResult.CREATED, BatchOrderResult.REJECTED, BatchOrderResult.CREATED);
+        assertThat(result.getResults().get(0).getOrder()).isSameAs(response1);
+        assertThat(result.getResults().get(1).getErrorStatus()).isEqualTo(404);
+        assertThat(result.getResults().get(2).getOrder()).isSameAs(response2);
+
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Order::getTableId).containsExactly(5, 7);
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderCommandExecutor, times(1)).execute(any(PublishOrderPlacedEventsCommand.class));
+    }
+
+    @Test
+    void createOrders_timesEachStageOfTheBatch() {
+        ReflectionTestUtils.setField(orderService, "maxBatchSize", 10);
+        CreateOrderRequest request = new CreateOrderRequest(5, List.of(new OrderItemRequest(1L, 1, null)));
+        ProductCatalogSnapshot snapshot = mock(ProductCatalogSnapshot.class);
+        when(productCatalog.snapshot()).thenReturn(snapshot);
+        Order saved = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        when(orderRepository.saveAll(anyList())).thenReturn(List.of(saved));
+        when(orderMapper.mapToOrderResponseList(List.of(saved)))
+                .thenReturn(List.of(OrderResponse.builder().id(saved.getId()).build()));
+
+        orderService.createOrders(List.of(request));
+
+        for (String stage : List.of("validate", "save", "build_event", "publish", "map")) {
+            assertThat(meterRegistry.get("order.pipeline.stage")
+                    .tags("operation", "create_batch", "stage", stage, "outcome", "success").timer().count())
+                    .as(stage).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void createOrders_whenAllRejected_skipsPersistenceAndPublication() {
+        ReflectionTestUtils.setField(orderService, "maxBatchSize", 10);
+        CreateOrderRequest invalid = new CreateOrderRequest(0, List.of(new OrderItemRequest(1L, 1, null)));
+        ProductCatalogSnapshot snapshot = mock(ProductCatalogSnapshot.class);
+        when(productCatalog.snapshot()).thenReturn(snapshot);
+        doThrow(new InvalidOrderException("Table ID must be a positive integer"))
+                .when(orderValidator).validateCreateOrderRequest(invalid, snapshot);
+
+        BatchCreateOrderResponse result = orderService.createOrders(List.of(invalid));
+
+        assertThat(result.getCreated()).isZero();
+        assertThat(result.getResults().get(0).getErrorStatus()).isEqualTo(400);
+        verify(orderRepository, never()).saveAll(anyList());
+        verify(orderCommandExecutor, never()).execute(any());
+    }
+
+    @Test
+    void createOrders_whenBatchTooLarge_throwsInvalidOrderException() {
+        ReflectionTestUtils.setField(orderService, "maxBatchSize", 1);
+        CreateOrderRequest request = new CreateOrderRequest(5, List.of(new OrderItemRequest(1L, 1, null)));
+
+        assertThatThrownBy(() -> orderService.createOrders(List.of(request, request)))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("more than 1 orders");
+        verify(orderRepository, never()).saveAll(anyList());
+    }
+
+
+    @Test
+    void createOrder_withIdempotencyKey_recordsResponseUnderKey() {
+        CreateOrderRequest request = new CreateOrderRequest(
+                5,
+                List.of(new OrderItemRequest(1L, 1, null))
+        );
+        Order savedOrder = buildOrder(UUID.randomUUID(), OrderStatus.PENDING);
+        OrderResponse expectedResponse = OrderResponse.builder().id(savedOrder.getId()).build();
+
+        doNothing().when(orderValidator).validateCreateOrderRequest(request);
+        when(orderRepository.save(any(Order.class))).thenReturn(savedOrder);
+        when(orderMapper.mapToOrderResponse(savedOrder)).thenReturn(expectedResponse);
+
+        OrderResponse response = orderService.createOrder(request, "key-1");
+
+        assertThat(response).isSameAs(expectedResponse);
+        verify(idempotencyService).record("key-1", request, expectedResponse);
+    }
 }
@@ -11,9 +11,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -58,6 +62,15 @@ class OrderSoftDeleteTest {
     @Mock
     private OrderCommandExecutor orderCommandExecutor;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private ActiveOrderBoard activeOrderBoard;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -120,25 +133,22 @@ class OrderSoftDeleteTest {
     }
 
     @Test
-    @DisplayName("getOrderById debe usar findByIdActive para excluir eliminados")
+    @DisplayName("getOrderById debe usar findActiveRowsById para excluir eliminados")
     void shouldUseActiveFilterWhenGettingOrderById() {
         // Given
         UUID orderId = UUID.randomUUID();
-        Order order = new Order();
-        order.setId(orderId);
-        order.setDeleted(false);
         
         OrderResponse mockResponse = new OrderResponse();
         mockResponse.setId(orderId);
         
-        when(orderRepository.findByIdActive(orderId)).thenReturn(Optional.of(order));
-        when(orderMapper.mapToOrderResponse(any(Order.class))).thenReturn(mockResponse);
+        when(orderRepository.findActiveRowsById(orderId)).thenReturn(List.of());
+        when(orderMapper.mapRowsToOrderResponses(any())).thenReturn(List.of(mockResponse));
         
         // When
         orderService.getOrderById(orderId);
         
         // Then
-        verify(orderRepository, times(1)).findByIdActive(orderId);
+        verify(orderRepository, times(1)).findActiveRowsById(orderId);
         verify(orderRepository, never()).findById(orderId); // No debe usar findById()
     }
 
@@ -162,33 +172,54 @@ class OrderSoftDeleteTest {
     @DisplayName("deleteAllOrders debe marcar todas las órdenes como eliminadas")
     void shouldMarkAllOrdersAsDeletedNotPhysicallyDelete() {
         // Given
-        Order order1 = new Order();
-        order1.setId(UUID.randomUUID());
-        order1.setDeleted(false);
+        ReflectionTestUtils.setField(orderService, "bulkDeleteChunkSize", 2);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
         
-        Order order2 = new Order();
-        order2.setId(UUID.randomUUID());
-        order2.setDeleted(false);
-        
-        when(orderRepository.findAllActive()).thenReturn(java.util.List.of(order1, order2));
-        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(orderRepository.findActiveIdsInIdOrder(any())).thenReturn(List.of(id1, id2));
+        when(orderRepository.findActiveIdsInIdOrderAfter(eq(id2), any())).thenReturn(List.of(id3));
+        when(orderRepository.markDeletedByIdIn(eq(List.of(id1, id2)), any(LocalDateTime.class))).thenReturn(2);
+        when(orderRepository.markDeletedByIdIn(eq(List.of(id3)), any(LocalDateTime.class))).thenReturn(1);
         
         // When
         long deletedCount = orderService.deleteAllOrders();
         
         // Then
-        assertThat(deletedCount).isEqualTo(2);
-        verify(orderRepository, times(2)).save(any(Order.class));
+        assertThat(deletedCount).isEqualTo(3);
+        // ⚠️ Un solo cambio RESYNC para todo el borrado, no uno por orden
+        ArgumentCaptor<OrderChangedEvent> change = ArgumentCaptor.forClass(OrderChangedEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(change.capture());
+        assertThat(change.getValue().getType()).isEqualTo(OrderChangedEvent.Type.RESYNC);
+        verify(orderRepository, never()).save(any(Order.class)); // ⚠️ Set-based: ninguna entidad cargada
         verify(orderRepository, never()).deleteAll(); // ⚠️ NO debe llamar deleteAll()
         verify(orderRepository, never()).delete(any(Order.class)); // ⚠️ NO debe llamar delete()
     }
 
+    @Test
+    @DisplayName("deleteAllOrders que falla a mitad debe publicar RESYNC por los chunks ya borrados")
+    void shouldPublishResyncWhenBulkDeleteFailsMidway() {
+        // Given
+        ReflectionTestUtils.setField(orderService, "bulkDeleteChunkSize", 2);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+
+        when(orderRepository.findActiveIdsInIdOrder(any())).thenReturn(List.of(id1, id2));
+        when(orderRepository.markDeletedByIdIn(eq(List.of(id1, id2)), any(LocalDateTime.class))).thenReturn(2);
+        when(orderRepository.findActiveIdsInIdOrderAfter(eq(id2), any())).thenThrow(new IllegalStateException("down"));
+
+        // When/Then
+        assertThatThrownBy(() -> orderService.deleteAllOrders()).isInstanceOf(IllegalStateException.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(any(OrderChangedEvent.class));
+    }
+
     @Test
     @DisplayName("Orden eliminada no debe aparecer en consultas activas")
     void deletedOrderShouldNotAppearInActiveQueries() {
         // Given
         UUID orderId = UUID.randomUUID();
-        when(orderRepository.findByIdActive(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findActiveRowsById(orderId)).thenReturn(List.of());
+        when(orderMapper.mapRowsToOrderResponses(List.of())).thenReturn(List.of());
         
         // When/Then
         assertThatThrownBy(() -> orderService.getOrderById(orderId))
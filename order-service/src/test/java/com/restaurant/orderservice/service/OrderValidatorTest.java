@@ -6,16 +6,16 @@ import com.restaurant.orderservice.entity.Product;
 import com.restaurant.orderservice.exception.InvalidOrderException;
 import com.restaurant.orderservice.exception.ProductNotFoundException;
 import com.restaurant.orderservice.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.*;
  * Unit tests for OrderValidator.
  * 
  * Tests business rule validation for order creation.
+ * Products are resolved from the ProductCatalog snapshot, never with one query per item.
  */
 @ExtendWith(MockitoExtension.class)
 class OrderValidatorTest {
@@ -31,7 +32,8 @@ class OrderValidatorTest {
     @Mock
     private ProductRepository productRepository;
     
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    
     private OrderValidator orderValidator;
     
     private Product activeProduct;
@@ -39,6 +41,9 @@ class OrderValidatorTest {
     
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderValidator = new OrderValidator(new ProductCatalog(productRepository), meterRegistry);
+        
         activeProduct = new Product();
         activeProduct.setId(1L);
         activeProduct.setName("Pizza");
@@ -56,13 +61,14 @@ class OrderValidatorTest {
         OrderItemRequest itemRequest = new OrderItemRequest(1L, 2, "No onions");
         CreateOrderRequest request = new CreateOrderRequest(5, List.of(itemRequest));
         
-        when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(activeProduct));
         
         // Act & Assert
         assertThatCode(() -> orderValidator.validateCreateOrderRequest(request))
                 .doesNotThrowAnyException();
         
-        verify(productRepository).findById(1L);
+        verify(productRepository).findAll(any(Sort.class));
+        verify(productRepository, never()).findById(any());
     }
     
     @Test
@@ -139,14 +145,15 @@ class OrderValidatorTest {
         OrderItemRequest itemRequest = new OrderItemRequest(999L, 1, null);
         CreateOrderRequest request = new CreateOrderRequest(5, List.of(itemRequest));
         
-        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of());
         
         // Act & Assert
         assertThatThrownBy(() -> orderValidator.validateCreateOrderRequest(request))
                 .isInstanceOf(ProductNotFoundException.class)
                 .hasMessageContaining("Product not found with id: 999");
         
-        verify(productRepository).findById(999L);
+        verify(productRepository).findAll(any(Sort.class));
+        verify(productRepository, never()).findById(any());
     }
     
     @Test
@@ -155,14 +162,15 @@ class OrderValidatorTest {
         OrderItemRequest itemRequest = new OrderItemRequest(2L, 1, null);
         CreateOrderRequest request = new CreateOrderRequest(5, List.of(itemRequest));
         
-        when(productRepository.findById(2L)).thenReturn(Optional.of(inactiveProduct));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(inactiveProduct));
         
         // Act & Assert
         assertThatThrownBy(() -> orderValidator.validateCreateOrderRequest(request))
                 .isInstanceOf(ProductNotFoundException.class)
                 .hasMessageContaining("Product not found with id: 2");
         
-        verify(productRepository).findById(2L);
+        verify(productRepository).findAll(any(Sort.class));
+        verify(productRepository, never()).findById(any());
     }
     
     @Test
@@ -177,15 +185,14 @@ class OrderValidatorTest {
         OrderItemRequest item2 = new OrderItemRequest(3L, 1, "Extra cheese");
         CreateOrderRequest request = new CreateOrderRequest(5, List.of(item1, item2));
         
-        when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
-        when(productRepository.findById(3L)).thenReturn(Optional.of(product2));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(activeProduct, product2));
         
         // Act & Assert
         assertThatCode(() -> orderValidator.validateCreateOrderRequest(request))
                 .doesNotThrowAnyException();
         
-        verify(productRepository).findById(1L);
-        verify(productRepository).findById(3L);
+        verify(productRepository).findAll(any(Sort.class));
+        verify(productRepository, never()).findById(any());
     }
     
     @Test
@@ -195,15 +202,46 @@ class OrderValidatorTest {
         OrderItemRequest item2 = new OrderItemRequest(2L, 1, null);
         CreateOrderRequest request = new CreateOrderRequest(5, List.of(item1, item2));
         
-        when(productRepository.findById(1L)).thenReturn(Optional.of(activeProduct));
-        when(productRepository.findById(2L)).thenReturn(Optional.of(inactiveProduct));
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(activeProduct, inactiveProduct));
         
         // Act & Assert
         assertThatThrownBy(() -> orderValidator.validateCreateOrderRequest(request))
                 .isInstanceOf(ProductNotFoundException.class)
                 .hasMessageContaining("Product not found with id: 2");
         
-        verify(productRepository).findById(1L);
-        verify(productRepository).findById(2L);
+        verify(productRepository).findAll(any(Sort.class));
+        verify(productRepository, never()).findById(any());
+    }
+    
+    @Test
+    void validateCreateOrderRequest_withZeroQuantity_throwsInvalidOrderException() {
+        // Arrange
+        OrderItemRequest itemRequest = new OrderItemRequest(1L, 0, null);
+        CreateOrderRequest request = new CreateOrderRequest(5, List.of(itemRequest));
+        
+        // Act & Assert
+        assertThatThrownBy(() -> orderValidator.validateCreateOrderRequest(request))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("Quantity must be at least 1");
+    }
+    
+    @Test
+    void validateCreateOrderRequest_countsProductLookupsByResult() {
+        CreateOrderRequest valid = new CreateOrderRequest(5, List.of(
+                new OrderItemRequest(1L, 2, null), new OrderItemRequest(1L, 1, null)));
+        CreateOrderRequest inactive = new CreateOrderRequest(5, List.of(new OrderItemRequest(2L, 1, null)));
+        CreateOrderRequest missing = new CreateOrderRequest(5, List.of(new OrderItemRequest(99L, 1, null)));
+        
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(activeProduct, inactiveProduct));
+        
+        orderValidator.validateCreateOrderRequest(valid);
+        assertThatThrownBy(() -> orderValidator.validateCreateOrderRequest(inactive))
+                .isInstanceOf(ProductNotFoundException.class);
+        assertThatThrownBy(() -> orderValidator.validateCreateOrderRequest(missing))
+                .isInstanceOf(ProductNotFoundException.class);
+        
+        assertThat(meterRegistry.get("order.products.lookups").tag("result", "found").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("order.products.lookups").tag("result", "inactive").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.products.lookups").tag("result", "missing").counter().count()).isEqualTo(1);
     }
 }
@@ -0,0 +1,151 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.dto.BatchCreateOrderResponse;
+import com.restaurant.orderservice.dto.BatchOrderResult;
+import com.restaurant.orderservice.dto.CreateOrderRequest;
+import com.restaurant.orderservice.dto.OrderItemRequest;
+import com.restaurant.orderservice.dto.OrderResponse;
+import com.restaurant.orderservice.exception.CommandRejectedException;
+import com.restaurant.orderservice.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderWriteCoalescer.
+ *
+ * The dispatcher thread is not started; batches are collected and written explicitly.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderWriteCoalescerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderWriteCoalescer coalescer;
+
+    private CreateOrderRequest first;
+    private CreateOrderRequest second;
+    private CreateOrderRequest third;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new OrderWriteCoalescer(orderService, meterRegistry, 2, 0, 10);
+        first = new CreateOrderRequest(1, List.of(new OrderItemRequest(1L, 1, null)));
+        second = new CreateOrderRequest(2, List.of(new OrderItemRequest(1L, 2, null)));
+        third = new CreateOrderRequest(3, List.of(new OrderItemRequest(1L, 3, null)));
+    }
+
+    @Test
+    void nextBatch_takesQueuedOrdersUpToMaxBatchSize() throws Exception {
+        coalescer.enqueue(first);
+        coalescer.enqueue(second);
+        coalescer.enqueue(third);
+
+        assertThat(coalescer.nextBatch()).hasSize(2);
+        assertThat(coalescer.nextBatch()).hasSize(1);
+    }
+
+    @Test
+    void write_completesEachCallerWithItsOwnOrder() throws Exception {
+        OrderResponse firstResponse = response();
+        OrderResponse secondResponse = response();
+        when(orderService.createOrders(List.of(first, second))).thenReturn(batch(
+                created(0, firstResponse), created(1, secondResponse)));
+        CompletableFuture<OrderResponse> firstResult = coalescer.enqueue(first);
+        CompletableFuture<OrderResponse> secondResult = coalescer.enqueue(second);
+
+        coalescer.write(coalescer.nextBatch());
+
+        assertThat(firstResult).isCompletedWithValue(firstResponse);
+        assertThat(secondResult).isCompletedWithValue(secondResponse);
+        assertThat(meterRegistry.get("order.write.coalescer.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void write_withRejectedEntry_failsOnlyThatCallerWithOriginalException() throws Exception {
+        OrderResponse firstResponse = response();
+        when(orderService.createOrders(List.of(first, second))).thenReturn(batch(
+                created(0, firstResponse),
+                BatchOrderResult.builder().index(1).status(BatchOrderResult.REJECTED)
+                        .errorStatus(404).error("Product not found with id: 1").build()));
+        ProductNotFoundException notFound = new ProductNotFoundException(1L);
+        when(orderService.createOrder(second)).thenThrow(notFound);
+        CompletableFuture<OrderResponse> firstResult = coalescer.enqueue(first);
+        CompletableFuture<OrderResponse> secondResult = coalescer.enqueue(second);
+
+        coalescer.write(coalescer.nextBatch());
+
+        assertThat(firstResult).isCompletedWithValue(firstResponse);
+        assertThat(secondResult).isCompletedExceptionally();
+        assertThatThrownBy(secondResult::join).hasCause(notFound);
+    }
+
+    @Test
+    void write_whenBatchTransactionFails_writesOrdersOneByOne() throws Exception {
+        OrderResponse firstResponse = response();
+        OrderResponse secondResponse = response();
+        when(orderService.createOrders(anyList())).thenThrow(new DataAccessResourceFailureException("deadlock"));
+        when(orderService.createOrder(first)).thenReturn(firstResponse);
+        when(orderService.createOrder(second)).thenReturn(secondResponse);
+        CompletableFuture<OrderResponse> firstResult = coalescer.enqueue(first);
+        CompletableFuture<OrderResponse> secondResult = coalescer.enqueue(second);
+
+        coalescer.write(coalescer.nextBatch());
+
+        assertThat(firstResult).isCompletedWithValue(firstResponse);
+        assertThat(secondResult).isCompletedWithValue(secondResponse);
+    }
+
+    @Test
+    void enqueue_whenQueueIsFull_throwsCommandRejectedException() {
+        OrderWriteCoalescer small = new OrderWriteCoalescer(orderService, meterRegistry, 2, 0, 1);
+        small.enqueue(first);
+
+        assertThatThrownBy(() -> small.enqueue(second))
+                .isInstanceOf(CommandRejectedException.class);
+        verify(orderService, never()).createOrders(anyList());
+    }
+
+    @Test
+    void shutdown_failsOrdersStillQueued() throws Exception {
+        CompletableFuture<OrderResponse> result = coalescer.enqueue(first);
+
+        coalescer.shutdown();
+
+        assertThatThrownBy(result::join).hasCauseInstanceOf(CommandRejectedException.class);
+        assertThatThrownBy(() -> coalescer.enqueue(second)).isInstanceOf(CommandRejectedException.class);
+    }
+
+    private OrderResponse response() {
+        return OrderResponse.builder().id(UUID.randomUUID()).build();
+    }
+
+    private BatchOrderResult created(int index, OrderResponse order) {
+        return BatchOrderResult.builder().index(index).status(BatchOrderResult.CREATED).order(order).build();
+    }
+
+    private BatchCreateOrderResponse batch(BatchOrderResult... results) {
+        return BatchCreateOrderResponse.builder()
+                .total(results.length)
+                .results(List.of(results))
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.restaurant.orderservice.service;
+
+import com.restaurant.orderservice.entity.Product;
+import com.restaurant.orderservice.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ProductCatalog.
+ *
+ * Tests snapshot loading, versioning and atomic replacement.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCatalog productCatalog;
+
+    private Product pizza;
+    private Product oldBurger;
+
+    @BeforeEach
+    void setUp() {
+        productCatalog = new ProductCatalog(productRepository);
+        pizza = new Product(1L, "Pizza", "Classic pizza", true);
+        oldBurger = new Product(2L, "Old Burger", "Retired item", false);
+    }
+
+    @Test
+    void snapshot_onFirstAccess_loadsCatalogOnce() {
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(pizza, oldBurger));
+
+        ProductCatalogSnapshot first = productCatalog.snapshot();
+        ProductCatalogSnapshot second = productCatalog.snapshot();
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.getVersion()).isEqualTo(1L);
+        assertThat(first.size()).isEqualTo(2);
+        verify(productRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void findActiveById_excludesInactiveProducts() {
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(pizza, oldBurger));
+
+        ProductCatalogSnapshot snapshot = productCatalog.snapshot();
+
+        assertThat(snapshot.findActiveById(1L)).contains(pizza);
+        assertThat(snapshot.findActiveById(2L)).isEmpty();
+        assertThat(snapshot.findById(2L)).contains(oldBurger);
+        assertThat(snapshot.findById(99L)).isEmpty();
+    }
+
+    @Test
+    void refresh_swapsInNewVersionWithoutMutatingOldSnapshot() {
+        Product renamedPizza = new Product(1L, "Pizza Napolitana", "Classic pizza", true);
+        when(productRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(pizza))
+                .thenReturn(List.of(renamedPizza, oldBurger));
+
+        ProductCatalogSnapshot before = productCatalog.snapshot();
+        ProductCatalogSnapshot after = productCatalog.refresh();
+
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(productCatalog.snapshot()).isSameAs(after);
+        assertThat(before.size()).isEqualTo(1);
+        assertThat(before.findById(1L).map(Product::getName)).contains("Pizza");
+        assertThat(after.findById(1L).map(Product::getName)).contains("Pizza Napolitana");
+    }
+
+    @Test
+    void asMap_isReadOnly() {
+        when(productRepository.findAll(any(Sort.class))).thenReturn(List.of(pizza));
+
+        ProductCatalogSnapshot snapshot = productCatalog.snapshot();
+
+        assertThatThrownBy(() -> snapshot.asMap().put(3L, oldBurger))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
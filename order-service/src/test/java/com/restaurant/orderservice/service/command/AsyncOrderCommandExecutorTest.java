@@ -0,0 +1,176 @@
+package com.restaurant.orderservice.service.command;
+
+import com.restaurant.orderservice.exception.CommandRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AsyncOrderCommandExecutor.
+ *
+ * Tests async dispatch, saturation policies, transaction-aware dispatch and metrics.
+ */
+class AsyncOrderCommandExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private ExecutorService threads;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        threads = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        threads.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void execute_runsCommandOffCallerThreadAndRecordsMetrics() throws Exception {
+        AsyncOrderCommandExecutor executor = executor(10, SaturationPolicy.FAIL_FAST);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            ranOn.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(ranOn.get()).isNotSameAs(Thread.currentThread());
+        executor.shutdown();
+        assertThat(meterRegistry.get("order.commands.execution").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("order.commands.wait").timer().count()).isEqualTo(1);
+        assertThat(executor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void execute_whenSaturatedWithFailFast_rejectsCommand() {
+        AsyncOrderCommandExecutor executor = executor(1, SaturationPolicy.FAIL_FAST);
+        executor.execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(CommandRejectedException.class);
+        assertThat(meterRegistry.get("order.commands.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenSaturatedWithCallerRuns_runsOnCallerThread() {
+        AsyncOrderCommandExecutor executor = executor(1, SaturationPolicy.CALLER_RUNS);
+        executor.execute(this::awaitRelease);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void execute_whenSaturatedWithBlock_rejectsAfterTimeout() {
+        AsyncOrderCommandExecutor executor = executor(1, SaturationPolicy.BLOCK);
+        executor.execute(this::awaitRelease);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(CommandRejectedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(meterRegistry.get("order.commands.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenSlotFreesWhileBlocked_acceptsCommandWithoutCountingRejection() throws Exception {
+        AsyncOrderCommandExecutor executor = new AsyncOrderCommandExecutor(
+                meterRegistry, 1, SaturationPolicy.BLOCK, 1000, threads);
+        executor.execute(this::awaitRelease);
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        executor.execute(done::countDown);
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("order.commands.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    void execute_insideTransaction_dispatchesOnlyAfterCommit() throws Exception {
+        AsyncOrderCommandExecutor executor = executor(1, SaturationPolicy.FAIL_FAST);
+        CountDownLatch done = new CountDownLatch(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        executor.execute(done::countDown);
+
+        assertThat(done.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void execute_insideRolledBackTransaction_dropsCommandAndFreesSlot() throws Exception {
+        AsyncOrderCommandExecutor executor = executor(1, SaturationPolicy.FAIL_FAST);
+        CountDownLatch done = new CountDownLatch(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        executor.execute(done::countDown);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(done.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        // The slot is free again, so a second command is accepted.
+        CountDownLatch second = new CountDownLatch(1);
+        executor.execute(second::countDown);
+        assertThat(second.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void constructor_whenOutboxEnabled_refusesToStart() {
+        assertThatThrownBy(() -> new AsyncOrderCommandExecutor(
+                meterRegistry, 10, SaturationPolicy.BLOCK, 100, false, 1, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outbox.enabled=false");
+    }
+
+    private AsyncOrderCommandExecutor executor(int capacity, SaturationPolicy policy) {
+        return new AsyncOrderCommandExecutor(meterRegistry, capacity, policy, 50, threads);
+    }
+
+    private void completeTransaction(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
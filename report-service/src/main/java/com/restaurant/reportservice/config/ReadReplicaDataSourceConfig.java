@@ -0,0 +1,85 @@
+package com.restaurant.reportservice.config;
+
+import com.restaurant.reportservice.infrastructure.persistence.ReadReplicaRoutingDataSource;
+import com.restaurant.reportservice.infrastructure.persistence.ReplicaLagMonitor;
+import com.restaurant.reportservice.infrastructure.persistence.ReplicaReadAspect;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Read/write split between report_db and a read replica (report.datasource.replica.enabled=true).
+ *
+ * Report queries ({@link com.restaurant.reportservice.infrastructure.persistence.ReplicaRead})
+ * run on the replica while it lags less than max-lag-ms, so they no longer take connections
+ * from the event listeners that write the report projections. Everything else, Flyway
+ * included, uses the primary. The replica pool is not a DataSource bean, so it never
+ * takes part in the primary's auto-configuration.
+ *
+ * ReplicaRead, ReplicaReadAspect and ReadReplicaRoutingDataSource are copies of the
+ * order-service classes, like the other classes both services share: the modules have
+ * no common Java library, and the routing is covered by order-service's tests. Changes
+ * to one copy go to the other.
+ */
+@Configuration
+@ConditionalOnProperty(name = "report.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("report-primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Value("${report.datasource.replica.url}") String url,
+            @Value("${report.datasource.replica.username}") String username,
+            @Value("${report.datasource.replica.password}") String password,
+            @Value("${report.datasource.replica.max-pool-size:5}") int maxPoolSize,
+            @Value("${report.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${report.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            @Value("${report.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("report-replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setMaximumPoolSize(maxPoolSize);
+        replica.setConnectionTimeout(connectionTimeoutMs);
+        replica.setReadOnly(true);
+        // Start even if the replica is down; reports use the primary until it answers
+        replica.setInitializationFailTimeout(-1);
+        return new ReplicaLagMonitor(replica, maxLagMs, checkIntervalMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor.getDataSource(),
+                        replicaLagMonitor));
+        // Known defaults, so the proxy never opens a connection just to read them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaReadAspect replicaReadAspect() {
+        return new ReplicaReadAspect();
+    }
+}
@@ -9,9 +9,9 @@ import com.restaurant.reportservice.domain.service.DateRangeFilter;
 import com.restaurant.reportservice.dto.ReportResponseDTO;
 import com.restaurant.reportservice.entity.OrderReportEntity;
 import com.restaurant.reportservice.enums.OrderStatus;
+import com.restaurant.reportservice.infrastructure.persistence.ReplicaRead;
 import com.restaurant.reportservice.repository.OrderReportRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,7 +37,11 @@ public class ReportService {
         this.dateRangeFilter = dateRangeFilter;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Served by the read replica when one is configured; a report may then miss the orders
+     * received in the last report.datasource.replica.max-lag-ms milliseconds.
+     */
+    @ReplicaRead
     public ReportResponseDTO generateReport(LocalDate startDate, LocalDate endDate) {
         DateRange dateRange = dateRangeFilter.validateAndCreate(startDate, endDate);
 
@@ -194,7 +194,9 @@ class ReportServiceTest {
     @DisplayName("Should have readOnly transaction on generateReport")
     void shouldHaveReadOnlyTransactionOnGenerateReport() throws NoSuchMethodException {
         java.lang.reflect.Method method = ReportService.class.getMethod("generateReport", LocalDate.class, LocalDate.class);
-        org.springframework.transaction.annotation.Transactional transactional = method.getAnnotation(org.springframework.transaction.annotation.Transactional.class);
+        // Declared through @ReplicaRead, which is meta-annotated with @Transactional(readOnly = true)
+        org.springframework.transaction.annotation.Transactional transactional = org.springframework.core.annotation.AnnotatedElementUtils
+                .findMergedAnnotation(method, org.springframework.transaction.annotation.Transactional.class);
         assertNotNull(transactional, "generateReport should be annotated with @Transactional");
         assertTrue(transactional.readOnly(), "generateReport transaction should be readOnly");
     }
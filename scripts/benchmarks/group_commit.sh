@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Compares commits/s and orders/s of single-order transactions against group commits of
+# BATCH orders, using pgbench inside the order-service PostgreSQL container started by
+# infrastructure/docker/docker-compose.yml. synchronous_commit is left at its default, so
+# every commit waits for its WAL flush, as in production.
+#
+#   ./scripts/benchmarks/group_commit.sh [clients] [seconds] [batch]
+
+CLIENTS="${1:-32}"
+SECONDS_PER_RUN="${2:-30}"
+BATCH="${3:-50}"
+CONTAINER="${POSTGRES_CONTAINER:-restaurant-postgres}"
+DB="${POSTGRES_DB:-restaurant_db}"
+DB_USER="${POSTGRES_USER:-restaurant_user}"
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+
+echo "Group commit benchmark: clients=$CLIENTS seconds=$SECONDS_PER_RUN batch=$BATCH container=$CONTAINER"
+docker exec -i "$CONTAINER" psql -q -U "$DB_USER" -d "$DB" < "$SCRIPT_DIR/group_commit.sql"
+
+docker exec -i "$CONTAINER" sh -c 'cat > /tmp/bench_single.sql' <<'SQL'
+\set table_id random(1, 12)
+BEGIN;
+WITH o AS (
+    INSERT INTO bench_group_commit.orders (table_id, status) VALUES (:table_id, 'PENDING') RETURNING id
+)
+INSERT INTO bench_group_commit.order_items (order_id, product_id, quantity)
+SELECT o.id, p, 1 FROM o, generate_series(1, 3) AS p;
+COMMIT;
+SQL
+
+docker exec -i "$CONTAINER" sh -c 'cat > /tmp/bench_grouped.sql' <<'SQL'
+BEGIN;
+WITH o AS (
+    INSERT INTO bench_group_commit.orders (table_id, status)
+    SELECT 1 + floor(random() * 12)::int, 'PENDING' FROM generate_series(1, :batch)
+    RETURNING id
+)
+INSERT INTO bench_group_commit.order_items (order_id, product_id, quantity)
+SELECT o.id, p, 1 FROM o, generate_series(1, 3) AS p;
+COMMIT;
+SQL
+
+run() {
+  local name="$1" clients="$2" orders_per_commit="$3"
+  local tps
+  tps=$(docker exec "$CONTAINER" pgbench -n -U "$DB_USER" -d "$DB" \
+          -c "$clients" -j "$clients" -T "$SECONDS_PER_RUN" -D batch="$BATCH" \
+          -f "/tmp/bench_${name}.sql" \
+        | awk '/^tps = / { print $3; exit }')
+  awk -v name="$name" -v clients="$clients" -v tps="$tps" -v n="$orders_per_commit" \
+    'BEGIN { printf "%-8s clients=%-4s commits/s=%10.1f orders/s=%10.1f\n", name, clients, tps, tps * n }'
+}
+
+# One transaction per request, as many committers as request threads.
+run single "$CLIENTS" 1
+# One dispatcher thread writing BATCH orders per transaction.
+run grouped 1 "$BATCH"
+
+docker exec "$CONTAINER" psql -q -U "$DB_USER" -d "$DB" -c "DROP SCHEMA bench_group_commit CASCADE"
@@ -0,0 +1,33 @@
+-- Benchmark setup: single-order commits vs group commits on PostgreSQL 15.
+--
+-- Creates a throwaway schema with tables shaped like "orders" and "order_items". The
+-- transactions themselves are pgbench scripts driven by group_commit.sh:
+--   single  - one order (plus 3 items) per transaction, one client per request thread,
+--             the default createOrder path;
+--   grouped - :batch orders per transaction from a single client, the shape written by
+--             OrderWriteCoalescer (order.write-coalescer.enabled=true).
+--
+-- Usage (see group_commit.sh):
+--   psql -f scripts/benchmarks/group_commit.sql
+
+\set ON_ERROR_STOP on
+
+DROP SCHEMA IF EXISTS bench_group_commit CASCADE;
+CREATE SCHEMA bench_group_commit;
+
+CREATE TABLE bench_group_commit.orders (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    table_id int NOT NULL,
+    status varchar(20) NOT NULL,
+    created_at timestamp NOT NULL DEFAULT now(),
+    updated_at timestamp NOT NULL DEFAULT now()
+);
+
+CREATE TABLE bench_group_commit.order_items (
+    id bigserial PRIMARY KEY,
+    order_id uuid NOT NULL REFERENCES bench_group_commit.orders(id),
+    product_id bigint NOT NULL,
+    quantity int NOT NULL,
+    note text
+);
+CREATE INDEX ON bench_group_commit.order_items(order_id);
@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Runs the UUIDv4 vs UUIDv7 insert benchmark against the order-service PostgreSQL
+# container started by infrastructure/docker/docker-compose.yml.
+#
+#   ./scripts/benchmarks/uuid_v4_vs_v7.sh [rows] [chunk]
+
+ROWS="${1:-5000000}"
+CHUNK="${2:-10000}"
+CONTAINER="${POSTGRES_CONTAINER:-restaurant-postgres}"
+DB="${POSTGRES_DB:-restaurant_db}"
+DB_USER="${POSTGRES_USER:-restaurant_user}"
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+
+echo "UUID benchmark: rows=$ROWS chunk=$CHUNK container=$CONTAINER"
+docker exec -i "$CONTAINER" psql -U "$DB_USER" -d "$DB" \
+  -v rows="$ROWS" -v chunk="$CHUNK" < "$SCRIPT_DIR/uuid_v4_vs_v7.sql"
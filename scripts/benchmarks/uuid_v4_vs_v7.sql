@@ -0,0 +1,88 @@
+-- Benchmark: random UUIDv4 vs time-ordered UUIDv7 primary keys on PostgreSQL 15.
+--
+-- Inserts :rows rows into two tables shaped like "orders" (uuid PK + a few columns),
+-- one chunk per transaction to mimic OLTP traffic, then reports throughput, index size
+-- and leaf density. Runs in a throwaway schema and drops it at the end.
+--
+-- Usage (see uuid_v4_vs_v7.sh):
+--   psql -v rows=5000000 -v chunk=10000 -f scripts/benchmarks/uuid_v4_vs_v7.sql
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 5000000
+\endif
+\if :{?chunk}
+\else
+  \set chunk 10000
+\endif
+
+DROP SCHEMA IF EXISTS bench_uuid CASCADE;
+CREATE SCHEMA bench_uuid;
+SET search_path = bench_uuid;
+CREATE EXTENSION IF NOT EXISTS pgstattuple SCHEMA bench_uuid;
+
+-- Same layout as UuidV7Generator: 48-bit ms timestamp, version 7, 12-bit counter, random tail.
+-- The counter is not reset per millisecond, which is close enough for index locality.
+CREATE SEQUENCE uuid_v7_seq MINVALUE 0 MAXVALUE 4095 START 0 CYCLE;
+CREATE FUNCTION uuid_v7() RETURNS uuid LANGUAGE plpgsql VOLATILE AS $$
+DECLARE
+    bytes bytea := uuid_send(gen_random_uuid());  -- random bits with the RFC variant already set
+    ms bigint := floor(extract(epoch FROM clock_timestamp()) * 1000);
+    seq int := nextval('uuid_v7_seq');
+BEGIN
+    bytes := overlay(bytes PLACING substring(int8send(ms) FROM 3) FROM 1 FOR 6);
+    bytes := set_byte(bytes, 6, 112 | (seq >> 8));
+    bytes := set_byte(bytes, 7, seq & 255);
+    RETURN encode(bytes, 'hex')::uuid;
+END $$;
+
+CREATE TABLE orders_v4 (id uuid PRIMARY KEY, table_id int NOT NULL, status varchar(20) NOT NULL,
+                        created_at timestamp NOT NULL DEFAULT now());
+CREATE TABLE orders_v7 (LIKE orders_v4 INCLUDING ALL);
+
+CREATE TABLE results (variant text, rows bigint, seconds numeric, rows_per_sec numeric);
+
+CREATE PROCEDURE load(variant text, total bigint, chunk int) LANGUAGE plpgsql AS $$
+DECLARE
+    started timestamptz := clock_timestamp();
+    done bigint := 0;
+BEGIN
+    WHILE done < total LOOP
+        IF variant = 'v4' THEN
+            INSERT INTO orders_v4 (id, table_id, status)
+            SELECT gen_random_uuid(), 1 + (g % 12), 'PENDING' FROM generate_series(1, chunk) g;
+        ELSE
+            INSERT INTO orders_v7 (id, table_id, status)
+            SELECT uuid_v7(), 1 + (g % 12), 'PENDING' FROM generate_series(1, chunk) g;
+        END IF;
+        done := done + chunk;
+        COMMIT;
+    END LOOP;
+    INSERT INTO results VALUES (variant, done, extract(epoch FROM clock_timestamp() - started),
+                                round(done / extract(epoch FROM clock_timestamp() - started)));
+END $$;
+
+CALL load('v4', :rows, :chunk);
+CALL load('v7', :rows, :chunk);
+
+CHECKPOINT;
+VACUUM ANALYZE orders_v4;
+VACUUM ANALYZE orders_v7;
+
+\echo '== Insert throughput =='
+SELECT variant, rows, round(seconds, 1) AS seconds, rows_per_sec FROM results ORDER BY variant;
+
+\echo '== Primary key index =='
+SELECT 'v4' AS variant,
+       pg_size_pretty(pg_relation_size('orders_v4_pkey')) AS index_size,
+       round((pgstatindex('orders_v4_pkey')).avg_leaf_density::numeric, 1) AS leaf_density_pct,
+       round((pgstatindex('orders_v4_pkey')).leaf_fragmentation::numeric, 1) AS leaf_fragmentation_pct
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('orders_v7_pkey')),
+       round((pgstatindex('orders_v7_pkey')).avg_leaf_density::numeric, 1),
+       round((pgstatindex('orders_v7_pkey')).leaf_fragmentation::numeric, 1);
+
+RESET search_path;
+DROP SCHEMA bench_uuid CASCADE;
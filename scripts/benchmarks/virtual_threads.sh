@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Compares throughput and p99 latency of POST /orders with Tomcat's platform thread pool
+# against virtual threads (VIRTUAL_THREADS_ENABLED). order-service is recreated in each mode
+# from infrastructure/docker/docker-compose.yml, with the rest of the stack already running,
+# and loaded with hey at CONCURRENCY concurrent clients. Virtual-thread pinnings longer than
+# the configured threshold are reported from /actuator/metrics.
+#
+#   ./scripts/benchmarks/virtual_threads.sh [concurrency] [requests]
+
+CONCURRENCY="${1:-400}"
+REQUESTS="${2:-40000}"
+BASE_URL="${ORDER_SERVICE_URL:-http://localhost:8080}"
+KITCHEN_TOKEN="${KITCHEN_AUTH_TOKEN:-cocina123}"
+HEY_IMAGE="${HEY_IMAGE:-williamyeh/hey}"
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+COMPOSE_FILE="$SCRIPT_DIR/../../infrastructure/docker/docker-compose.yml"
+BODY='{"tableId":1,"items":[{"productId":1,"quantity":1}]}'
+
+echo "Virtual threads benchmark: concurrency=$CONCURRENCY requests=$REQUESTS url=$BASE_URL"
+
+start_order_service() {
+  VIRTUAL_THREADS_ENABLED="$1" docker compose -f "$COMPOSE_FILE" up -d --no-deps --force-recreate order-service >/dev/null
+  for _ in $(seq 1 60); do
+    if curl -fs "$BASE_URL/actuator/health" >/dev/null; then
+      return
+    fi
+    sleep 2
+  done
+  echo "order-service did not become healthy" >&2
+  exit 1
+}
+
+run() {
+  local name="$1" virtual="$2"
+  local report pinned
+  start_order_service "$virtual"
+  # Warm-up: JIT, connection pool and Hibernate caches
+  docker run --rm --network host "$HEY_IMAGE" -n 2000 -c 50 -m POST \
+    -T application/json -d "$BODY" "$BASE_URL/orders" >/dev/null
+  report=$(docker run --rm --network host "$HEY_IMAGE" -n "$REQUESTS" -c "$CONCURRENCY" -m POST \
+             -T application/json -d "$BODY" "$BASE_URL/orders")
+  pinned=$(curl -fs "$BASE_URL/actuator/metrics/order.virtual-threads.pinned" 2>/dev/null \
+             | grep -o '"statistic":"COUNT","value":[0-9.]*' | grep -o '[0-9.]*$' || echo 0)
+  echo "$report" | awk -v name="$name" -v c="$CONCURRENCY" -v pinned="$pinned" '
+    /Requests\/sec:/ { rps = $2 }
+    /99% in/ { p99 = $3 * 1000 }
+    /\[2[0-9][0-9]\]/ { ok += $2 }
+    END { printf "%-9s concurrency=%-5s requests/s=%10.1f p99_ms=%9.1f ok=%-7d pinned=%s\n", name, c, rps, p99, ok, pinned }'
+}
+
+run platform false
+run virtual true
+
+# Leave the default mode running and remove the benchmark orders
+start_order_service false
+curl -fs -X DELETE -H "X-Kitchen-Token: $KITCHEN_TOKEN" "$BASE_URL/orders" >/dev/null
@@ -12,10 +12,18 @@ export class HttpError extends Error {
   }
 }
 
-export async function http<T>(
+type HttpInit = RequestInit & { json?: unknown; kitchenToken?: string; baseUrl?: string }
+
+export async function http<T>(path: string, init?: HttpInit): Promise<T> {
+  const { body } = await httpWithHeaders<T>(path, init)
+  return body
+}
+
+// Same as http, but also returns the response headers (e.g. pagination cursors).
+export async function httpWithHeaders<T>(
   path: string,
-  init?: RequestInit & { json?: unknown; kitchenToken?: string; baseUrl?: string },
-): Promise<T> {
+  init?: HttpInit,
+): Promise<{ body: T; headers: Headers }> {
   const baseUrl = init?.baseUrl ?? ENV.API_BASE_URL
   const url = `${baseUrl}${path}`
   const headers = new Headers(init?.headers ?? {})
@@ -61,5 +69,5 @@ export async function http<T>(
     throw new HttpError(msg, res.status, body)
   }
 
-  return body as T
+  return { body: body as T, headers: res.headers }
 }
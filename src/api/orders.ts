@@ -1,5 +1,5 @@
 ﻿import { ENV } from '@/api/env'
-import { http } from '@/api/http'
+import { http, httpWithHeaders } from '@/api/http'
 import type { CreateOrderRequest, CreateOrderResponse, Order, OrderStatus } from '@/api/contracts'
 import {
   mockClearOrders,
@@ -38,17 +38,51 @@ export async function getOrder(orderId: string) {
   }
 }
 
-export async function listOrders(params: { status?: OrderStatus[] }, kitchenToken?: string) {
-  if (ENV.USE_MOCK) return mockListOrders(params)
+// Long-poll: GET /orders/{id}/await answers as soon as the order reaches `status`
+// (at once if it already has) or, after `timeoutSeconds`, with the unchanged order.
+export async function awaitOrderStatus(
+  orderId: string,
+  status: OrderStatus,
+  timeoutSeconds = 30,
+  signal?: AbortSignal,
+) {
+  if (ENV.USE_MOCK) return mockGetOrder(orderId)
 
-  const qs = new URLSearchParams()
-  if (params.status && params.status.length > 0) {
-    qs.set('status', params.status.join(','))
+  try {
+    const qs = new URLSearchParams({ status, timeout: `${timeoutSeconds}s` })
+    return await http<Order>(`/orders/${encodeURIComponent(orderId)}/await?${qs.toString()}`, { signal })
+  } catch (error) {
+    if (ENV.ALLOW_MOCK_FALLBACK) {
+      console.warn('Falling back to mock awaitOrderStatus:', error)
+      return mockGetOrder(orderId)
+    }
+    throw error
   }
-  const suffix = qs.toString() ? `?${qs.toString()}` : ''
+}
+
+// GET /orders is keyset-paginated: the cursor of the next page comes in this header.
+const NEXT_CURSOR_HEADER = 'X-Next-Cursor'
+
+export async function listOrders(params: { status?: OrderStatus[] }, kitchenToken?: string) {
+  if (ENV.USE_MOCK) return mockListOrders(params)
 
   try {
-    return await http<Order[]>(`/orders${suffix}`, { kitchenToken })
+    const orders: Order[] = []
+    let cursor: string | null = null
+    do {
+      const qs = new URLSearchParams()
+      if (params.status && params.status.length > 0) {
+        qs.set('status', params.status.join(','))
+      }
+      if (cursor) {
+        qs.set('cursor', cursor)
+      }
+      const suffix = qs.toString() ? `?${qs.toString()}` : ''
+      const page = await httpWithHeaders<Order[]>(`/orders${suffix}`, { kitchenToken })
+      orders.push(...(page.body ?? []))
+      cursor = page.headers.get(NEXT_CURSOR_HEADER)
+    } while (cursor)
+    return orders
   } catch (error) {
     if (ENV.ALLOW_MOCK_FALLBACK) {
       console.warn('Falling back to mock listOrders:', error)
@@ -1,15 +1,15 @@
 ﻿import { useMemo, useState } from 'react'
 import { Link, useNavigate, useParams } from 'react-router-dom'
-import { useQuery } from '@tanstack/react-query'
+import { useQuery, useQueryClient } from '@tanstack/react-query'
 import { ArrowLeft, CheckCircle, Clock, Package } from 'lucide-react'
 import { motion } from 'motion/react'
 import { HttpError } from '@/api/http'
 import { getMenu } from '@/api/menu'
-import { getOrder } from '@/api/orders'
+import { awaitOrderStatus, getOrder } from '@/api/orders'
 import { buildProductNameMap, resolveOrderItemName } from '@/domain/productLabel'
-import { STATUS_LABEL } from '@/domain/orderStatus'
+import { NEXT_STATUS, STATUS_LABEL } from '@/domain/orderStatus'
 import { clearKitchenToken } from '@/store/kitchenAuth'
-import type { OrderStatus } from '@/api/contracts'
+import type { Order, OrderStatus } from '@/api/contracts'
 import { ThemeToggle } from '@/components/ThemeToggle'
 import { Loading } from '@/components/Loading'
 import { ErrorState } from '@/components/ErrorState'
@@ -27,6 +27,7 @@ const STATUS_STEPS: Array<{ key: OrderStatus; label: string; icon: typeof Clock
 export function OrderStatusPage() {
   const { orderId: orderIdParam } = useParams()
   const navigate = useNavigate()
+  const queryClient = useQueryClient()
   const [orderIdInput, setOrderIdInput] = useState(orderIdParam ?? '')
   const [shouldPoll, setShouldPoll] = useState(true)
 
@@ -34,9 +35,12 @@ export function OrderStatusPage() {
 
   const orderQ = useQuery({
     queryKey: ['order', orderId],
-    queryFn: async () => {
+    queryFn: async ({ signal }) => {
       try {
-        return await getOrder(orderId)
+        // After the first read, wait on the server for the next status instead of polling
+        const known = queryClient.getQueryData<Order>(['order', orderId])
+        const next = known ? NEXT_STATUS[known.status] : null
+        return next ? await awaitOrderStatus(orderId, next, 30, signal) : await getOrder(orderId)
       } catch (err) {
         // Handle 401 authentication errors - clear invalid token and stop polling
         if (err instanceof HttpError && err.status === 401) {
@@ -47,7 +51,8 @@ export function OrderStatusPage() {
       }
     },
     enabled: Boolean(orderId),
-    refetchInterval: shouldPoll ? 5000 : false,
+    // Each refetch is a long-poll, so the interval only spaces out consecutive waits
+    refetchInterval: (query) => (shouldPoll && query.state.data?.status !== 'READY' ? 1000 : false),
     refetchOnWindowFocus: false,
     refetchOnReconnect: false,
     retry: false,